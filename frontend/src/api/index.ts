@@ -15,6 +15,7 @@ export {
 // Plan API
 export {
   getMonthlyPlans,
+  getPlansInRange,
   createPlan,
   updatePlan,
   deletePlan,
@@ -11,6 +11,7 @@ import {
   PlanUpdateRequest,
   PlanResponse,
   MonthlyPlanParams,
+  DateRangePlanParams,
   PlanFilterOptions,
   DayOfWeek,
 } from '../types/plan'
@@ -45,6 +46,33 @@ export const getMonthlyPlans = async (params: MonthlyPlanParams): Promise<PlanRe
   }
 }
 
+/**
+ * 기간별 일정 조회
+ * GET /plans?from=YYYY-MM-DD&to=YYYY-MM-DD
+ * 
+ * @param params 조회 시작일과 종료일 (양 끝 포함)
+ * @returns 해당 기간의 모든 일정 목록 (반복 일정은 기간 내 인스턴스로 전개)
+ */
+export const getPlansInRange = async (params: DateRangePlanParams): Promise<PlanResponse[]> => {
+  try {
+    const { from, to } = params
+
+    // 입력값 검증
+    if (!from || !to) {
+      throw new Error('조회 시작일과 종료일은 필수입니다')
+    }
+    if (to < from) {
+      throw new Error('조회 종료일은 시작일 이후여야 합니다')
+    }
+
+    const response = await apiClient.get<PlanResponse[]>('/plans', { params: { from, to } })
+    return response.data
+  } catch (error) {
+    console.error('기간별 일정 조회 실패:', error)
+    throw error
+  }
+}
+
 /**
  * 일정 생성
  * POST /plans
@@ -288,22 +316,29 @@ export const getTodayPlans = async (): Promise<PlanResponse[]> => {
 /**
  * 복수 월 일정 조회
  * 여러 달의 일정을 한 번에 조회할 때 사용
+ * 첫 달 1일 ~ 마지막 달 말일을 기간 조회 1회로 가져옴
  * 
  * @param months 조회할 년월 목록
  * @returns 모든 월의 일정을 합친 목록
  */
 export const getMultipleMonthsPlans = async (months: MonthlyPlanParams[]): Promise<PlanResponse[]> => {
   try {
-    const promises = months.map(params => getMonthlyPlans(params))
-    const results = await Promise.all(promises)
-    
-    // 모든 결과를 하나의 배열로 합치고 중복 제거
-    const allPlans = results.flat()
-    const uniquePlans = allPlans.filter((plan, index, self) => 
-      self.findIndex(p => p.id === plan.id) === index
-    )
-    
-    return uniquePlans
+    if (months.length === 0) {
+      return []
+    }
+
+    const pad = (value: number) => String(value).padStart(2, '0')
+    const indexes = months.map(({ year, month }) => year * 12 + (month - 1))
+    const first = Math.min(...indexes)
+    const last = Math.max(...indexes)
+    const lastYear = Math.floor(last / 12)
+    const lastMonth = (last % 12) + 1
+    const lastDay = new Date(lastYear, lastMonth, 0).getDate()
+
+    return await getPlansInRange({
+      from: `${Math.floor(first / 12)}-${pad((first % 12) + 1)}-01`,
+      to: `${lastYear}-${pad(lastMonth)}-${pad(lastDay)}`
+    })
   } catch (error) {
     console.error('복수 월 일정 조회 실패:', error)
     throw error
@@ -9,6 +9,7 @@
 // CRUD 기본 함수들
 export {
   getMonthlyPlans,
+  getPlansInRange,
   createPlan,
   updatePlan,
   deletePlan
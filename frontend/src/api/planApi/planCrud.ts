@@ -10,7 +10,8 @@ import {
   PlanCreateRequest,
   PlanUpdateRequest,
   PlanResponse,
-  MonthlyPlanParams
+  MonthlyPlanParams,
+  DateRangePlanParams
 } from '../../types/plan'
 import apiClient from '../httpClient'
 
@@ -41,6 +42,33 @@ export const getMonthlyPlans = async (params: MonthlyPlanParams): Promise<PlanRe
   }
 }
 
+/**
+ * 기간별 일정 조회
+ * GET /plans?from=YYYY-MM-DD&to=YYYY-MM-DD
+ * 
+ * @param params 조회 시작일과 종료일 (양 끝 포함)
+ * @returns 해당 기간의 모든 일정 목록 (반복 일정은 기간 내 인스턴스로 전개)
+ */
+export const getPlansInRange = async (params: DateRangePlanParams): Promise<PlanResponse[]> => {
+  try {
+    const { from, to } = params
+
+    // 입력값 검증
+    if (!from || !to) {
+      throw new Error('조회 시작일과 종료일은 필수입니다')
+    }
+    if (to < from) {
+      throw new Error('조회 종료일은 시작일 이후여야 합니다')
+    }
+
+    const response = await apiClient.get<PlanResponse[]>('/plans', { params: { from, to } })
+    return response.data
+  } catch (error) {
+    console.error('기간별 일정 조회 실패:', error)
+    throw error
+  }
+}
+
 /**
  * 일정 생성
  * POST /plans
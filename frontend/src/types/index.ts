@@ -45,6 +45,7 @@ export type {
   RecurringResInfo,
   PlanResponse,
   MonthlyPlanParams,
+  DateRangePlanParams,
   PlanFilterOptions,
   PlanFormData,
   MonthlyPlanCache
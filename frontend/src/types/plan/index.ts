@@ -30,6 +30,7 @@ export type {
 // UI 전용 타입들
 export type {
   MonthlyPlanParams,
+  DateRangePlanParams,
   PlanFilterOptions,
   PlanFormData,
   MonthlyPlanCache
@@ -18,6 +18,16 @@ export interface MonthlyPlanParams {
   month: number
 }
 
+/**
+ * 기간별 일정 조회 요청 파라미터
+ */
+export interface DateRangePlanParams {
+  /** 조회 시작일 (YYYY-MM-DD) */
+  from: string
+  /** 조회 종료일 (YYYY-MM-DD, 포함) */
+  to: string
+}
+
 /**
  * 일정 필터링 옵션
  */
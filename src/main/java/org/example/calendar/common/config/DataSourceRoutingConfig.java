@@ -0,0 +1,85 @@
+package org.example.calendar.common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import org.example.calendar.common.datasource.ReadYourWritesDataSource;
+import org.example.calendar.common.datasource.ReadYourWritesInterceptor;
+import org.example.calendar.common.datasource.ReadYourWritesTracker;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 복제본 라우팅 설정
+ *
+ * <h3>목적</h3>
+ * 월별 조회처럼 읽기가 대부분인 부하를 복제본으로 분산합니다.
+ * 서비스 계층의 {@code @Transactional(readOnly = true)}를 그대로 라우팅 기준으로 사용합니다.
+ *
+ * <h3>설계</h3>
+ * <ul>
+ *   <li>기본 DB: spring.datasource.* (기존 설정 그대로)</li>
+ *   <li>복제본: spring.datasource.replica.* (Hikari 속성: jdbc-url, username, password, maximum-pool-size 등)</li>
+ *   <li>LazyConnectionDataSourceProxy가 첫 쿼리 시점의 readOnly 여부로 복제본/기본 DB 선택</li>
+ *   <li>쓰기 직후 일정 시간은 해당 사용자의 읽기도 기본 DB로 (read-your-writes)</li>
+ *   <li>쓴 뒤 복제 지연 상한(max-lag) 안에 복제본에서 채운 월별 캐시는 그 상한만큼만 보관</li>
+ *   <li>Flyway, 스케줄 작업 등 트랜잭션 밖의 연결은 기본 DB 사용</li>
+ * </ul>
+ *
+ * <p>spring.datasource.replica.enabled=true일 때만 등록되며, 꺼져 있으면 Spring Boot 기본 DataSource를 사용합니다.</p>
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.datasource.replica.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class DataSourceRoutingConfig implements WebMvcConfigurer {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    /**
+     * 기본 DB (쓰기 + 기본 DB 고정 읽기)
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * 읽기 복제본
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        return new HikariDataSource();
+    }
+
+    /**
+     * 애플리케이션 DataSource (JPA, JdbcTemplate, Flyway 공용)
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+        proxy.setReadOnlyDataSource(
+                new ReadYourWritesDataSource(replicaDataSource, primaryDataSource, readYourWritesTracker));
+        return proxy;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ReadYourWritesInterceptor());
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.calendar.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 반복 일정 병렬 전개 설정
+ *
+ * <h3>목적</h3>
+ * 반복 계획이 많은 사용자(공유 팀 계정 등)의 월별 조회 시
+ * 시리즈별 인스턴스 전개를 나누어 처리할 전용 스레드 풀을 제공합니다.
+ *
+ * <h3>설계</h3>
+ * <ul>
+ *   <li>공용 ForkJoinPool.commonPool()과 분리하여 다른 병렬 작업과 간섭하지 않음</li>
+ *   <li>병렬도 제한 (기본값: CPU 코어 수)</li>
+ *   <li>애플리케이션 종료 시 풀 종료</li>
+ * </ul>
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+@Configuration
+public class RecurringExpansionConfig {
+
+    /**
+     * 반복 일정 전개 전용 ForkJoinPool
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool recurringExpansionPool(
+            @Value("${plan.recurrence.parallel.parallelism:0}") int parallelism) {
+        int size = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return new ForkJoinPool(size);
+    }
+}
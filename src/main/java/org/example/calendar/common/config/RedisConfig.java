@@ -7,6 +7,8 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 /**
@@ -16,14 +18,14 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
  * <ul>
  *   <li>Redis 연결 설정</li>
  *   <li>RedisTemplate 빈 구성</li>
- *   <li>직렬화 설정 (String 기반)</li>
+ *   <li>직렬화 설정 (String 기반, 캐시 값은 byte[] 기반)</li>
  * </ul>
  *
  * <h3>사용 용도</h3>
  * <ul>
  *   <li>이메일 인증번호 임시 저장 (TTL 5분)</li>
  *   <li>세션 관리 (추후 확장 가능)</li>
- *   <li>캐싱 (추후 확장 가능)</li>
+ *   <li>월별 계획 캐시와 로컬 캐시 무효화 메시지 (Pub/Sub)</li>
  * </ul>
  *
  * @author Calendar Team
@@ -89,4 +91,38 @@ public class RedisConfig {
 
         return template;
     }
+
+    /**
+     * 바이너리 값 RedisTemplate 구성
+     *
+     * <p>Key는 String, Value는 직렬화 없이 byte[] 그대로 저장 (값 형식은 사용하는 쪽의 코덱이 결정)</p>
+     *
+     * @return RedisTemplate<String, byte[]> 바이너리 값 Redis 템플릿 (예: 월별 계획 캐시)
+     */
+    @Bean
+    public RedisTemplate<String, byte[]> binaryRedisTemplate() {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(redisConnectionFactory());
+
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+
+        template.afterPropertiesSet();
+
+        return template;
+    }
+
+    /**
+     * Pub/Sub 메시지 리스너 컨테이너
+     *
+     * <p>구독 채널은 각 리스너가 등록합니다. (예: PlanCacheService의 로컬 캐시 무효화 채널)</p>
+     *
+     * @return RedisMessageListenerContainer 구독 연결 1개를 공유하는 리스너 컨테이너
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        return container;
+    }
 }
\ No newline at end of file
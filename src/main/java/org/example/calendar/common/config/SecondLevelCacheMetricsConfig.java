@@ -0,0 +1,59 @@
+package org.example.calendar.common.config;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+
+/**
+ * Hibernate 2차 캐시 메트릭 설정
+ *
+ * <h3>목적</h3>
+ * 2차 캐시 리전(users, users_natural_id)의 적중/실패 수를 Micrometer로 노출합니다.
+ *
+ * <h3>메트릭</h3>
+ * <ul>
+ *   <li>cache.gets{cache=리전, result=hit|miss, cacheType=hibernate-l2}: 적중률 = hit / (hit + miss)</li>
+ *   <li>cache.puts, cache.removals, cache.evictions</li>
+ * </ul>
+ *
+ * <p>리전 통계는 hibernate-cache.conf의 monitoring.statistics 설정으로 수집됩니다.
+ * 2차 캐시가 꺼져 있거나 JCache가 아니면 아무 메트릭도 등록하지 않습니다.</p>
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+@Configuration
+public class SecondLevelCacheMetricsConfig {
+
+    /**
+     * Hibernate가 생성한 JCache 리전을 메트릭 레지스트리에 연결
+     */
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            RegionFactory regionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                    .getCache()
+                    .getRegionFactory();
+            if (!(regionFactory instanceof JCacheRegionFactory jCacheRegionFactory)) {
+                return;
+            }
+
+            CacheManager cacheManager = jCacheRegionFactory.getCacheManager();
+            for (String cacheName : cacheManager.getCacheNames()) {
+                Cache<Object, Object> cache = cacheManager.getCache(cacheName);
+                if (cache != null) {
+                    JCacheMetrics.monitor(registry, cache, Tags.of("cacheType", "hibernate-l2"));
+                }
+            }
+        };
+    }
+}
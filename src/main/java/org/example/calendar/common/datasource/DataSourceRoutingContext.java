@@ -0,0 +1,82 @@
+package org.example.calendar.common.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 요청 단위 DataSource 라우팅 상태 (스레드 로컬)
+ *
+ * <p>최근 쓰기가 있었던 사용자의 요청은 읽기 전용 트랜잭션도 복제본 대신 기본 DB로 보내도록 고정합니다.
+ * {@link ReadYourWritesInterceptor}가 요청 시작 시 사용자를 등록하고, 최근 쓰기 여부는
+ * {@link ReadYourWritesDataSource}가 복제본 연결이 처음 필요해질 때 한 번만 확인합니다.
+ * 캐시로만 응답하는 요청은 Redis 조회 없이 끝납니다.</p>
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+public final class DataSourceRoutingContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+    private static final ThreadLocal<Long> PENDING_USER_ID = new ThreadLocal<>();
+
+    private DataSourceRoutingContext() {
+    }
+
+    /**
+     * 현재 스레드의 읽기를 기본 DB로 고정
+     */
+    public static void pinPrimary() {
+        PRIMARY_PINNED.set(Boolean.TRUE);
+    }
+
+    /**
+     * 기본 DB 고정 여부
+     */
+    public static boolean isPrimaryPinned() {
+        return Boolean.TRUE.equals(PRIMARY_PINNED.get());
+    }
+
+    /**
+     * 최근 쓰기 확인 대상 사용자 등록 (복제본 연결이 필요해지면 확인)
+     */
+    public static void deferRecentWriteCheck(Long userId) {
+        PENDING_USER_ID.set(userId);
+    }
+
+    /**
+     * 아직 확인하지 않은 사용자 ID를 꺼냄 (요청당 한 번만 반환, 없으면 null)
+     */
+    static Long takePendingUserId() {
+        Long userId = PENDING_USER_ID.get();
+        if (userId != null) {
+            PENDING_USER_ID.remove();
+        }
+        return userId;
+    }
+
+    /**
+     * 작업 동안만 읽기를 기본 DB로 고정하고 이전 상태로 복원
+     *
+     * <p>트랜잭션의 첫 쿼리 전에 고정해야 하므로 트랜잭션을 시작하는 코드를 감싸서 호출합니다.</p>
+     */
+    public static <T> T callOnPrimary(Supplier<T> task) {
+        Boolean previous = PRIMARY_PINNED.get();
+        PRIMARY_PINNED.set(Boolean.TRUE);
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_PINNED.remove();
+            } else {
+                PRIMARY_PINNED.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 라우팅 상태 초기화 (요청 종료 시 반드시 호출)
+     */
+    public static void clear() {
+        PRIMARY_PINNED.remove();
+        PENDING_USER_ID.remove();
+    }
+}
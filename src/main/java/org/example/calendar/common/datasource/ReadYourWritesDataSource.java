@@ -0,0 +1,59 @@
+package org.example.calendar.common.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 읽기 전용 연결용 DataSource (복제본, 기본 DB 고정 시 기본 DB)
+ *
+ * <p>LazyConnectionDataSourceProxy의 읽기 전용 대상으로 등록되어, readOnly 트랜잭션의
+ * 첫 쿼리 시점에 연결을 가져옵니다. 이때 요청 사용자의 최근 쓰기 여부를 (요청당 한 번) 확인하고,
+ * {@link DataSourceRoutingContext}가 기본 DB 고정 상태면 복제 지연과 무관하게
+ * 방금 쓴 데이터를 읽도록 기본 DB 연결을 반환합니다.</p>
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+public class ReadYourWritesDataSource extends DelegatingDataSource {
+
+    private final DataSource primaryDataSource;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadYourWritesDataSource(DataSource replicaDataSource, DataSource primaryDataSource,
+                                    ReadYourWritesTracker readYourWritesTracker) {
+        super(replicaDataSource);
+        this.primaryDataSource = primaryDataSource;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (shouldReadPrimary()) {
+            return primaryDataSource.getConnection();
+        }
+        return super.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (shouldReadPrimary()) {
+            return primaryDataSource.getConnection(username, password);
+        }
+        return super.getConnection(username, password);
+    }
+
+    private boolean shouldReadPrimary() {
+        // 이미 고정된 경우(예: 최근 쓰기 직후의 월별 캐시 채우기)는 Redis를 다시 조회하지 않음
+        if (DataSourceRoutingContext.isPrimaryPinned()) {
+            return true;
+        }
+        Long userId = DataSourceRoutingContext.takePendingUserId();
+        if (userId != null && readYourWritesTracker.isRecentlyWritten(userId)) {
+            DataSourceRoutingContext.pinPrimary();
+        }
+        return DataSourceRoutingContext.isPrimaryPinned();
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.calendar.common.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.calendar.common.security.CustomUserDetails;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 요청 시작 시 인증된 사용자를 read-your-writes 확인 대상으로 등록
+ *
+ * <p>JWT 인증 필터 이후에 실행되므로 SecurityContext의 사용자로 판단합니다.
+ * 최근 쓰기 여부(Redis)는 여기서 확인하지 않고, 복제본 연결이 실제로 필요할 때
+ * {@link ReadYourWritesDataSource}가 확인합니다. 요청이 끝나면 스레드 로컬 상태를 항상 초기화합니다.</p>
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            DataSourceRoutingContext.deferRecentWriteCheck(userDetails.getUser().getId());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        DataSourceRoutingContext.clear();
+    }
+}
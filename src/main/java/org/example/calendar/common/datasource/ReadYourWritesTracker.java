@@ -0,0 +1,117 @@
+package org.example.calendar.common.datasource;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 최근 쓰기 기록 (read-your-writes 보장용)
+ *
+ * <h3>동작 방식</h3>
+ * <ul>
+ *   <li>회원가입, 계획 생성/수정/삭제 시 "rw_pin:{userId}" 키에 쓴 시각을 저장
+ *       (window와 max-lag 중 긴 시간 동안 유지)</li>
+ *   <li>쓴 뒤 window(기본 5초) 동안 해당 사용자의 요청은 읽기도 기본 DB에서 처리</li>
+ *   <li>조회는 요청이 복제본 연결을 처음 가져올 때 한 번만 수행 (캐시로 응답하는 요청은 조회하지 않음)</li>
+ *   <li>Redis에 저장하므로 여러 인스턴스로 확장해도 다른 인스턴스의 읽기에 적용됨</li>
+ *   <li>Redis 조회 실패 시에는 일관성을 우선하여 기본 DB로 읽음</li>
+ * </ul>
+ *
+ * <p>복제 지연이 window보다 길어질 수 있으므로, 월별 캐시는 쓴 뒤 max-lag(기본 30초)가 지나기 전에
+ * 복제본에서 채운 값을 짧은 TTL로만 저장합니다 ({@link #recentWrite(Long)}, PlanCacheService).
+ * 그 밖의 읽기는 window가 지난 뒤 지연된 데이터를 볼 수 있습니다.</p>
+ *
+ * <p>복제본을 사용하지 않으면(spring.datasource.replica.enabled=false) 아무 작업도 하지 않습니다.</p>
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReadYourWritesTracker {
+
+    private static final String PIN_KEY = "rw_pin:%d"; // userId
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${spring.datasource.replica.enabled:false}")
+    private boolean replicaEnabled;
+
+    @Value("${spring.datasource.replica.read-your-writes-window:5s}")
+    private Duration window;
+
+    @Value("${spring.datasource.replica.max-lag:30s}")
+    private Duration maxLag;
+
+    /**
+     * 최근 쓰기 상태 (쓴 시각으로부터 지난 시간 기준)
+     */
+    public enum RecentWrite {
+        /** 최근 max-lag 안에 쓰기 없음 (또는 복제본 미사용): 복제본 값이 최신 */
+        NONE,
+        /** window 안: 기본 DB에서 읽어야 함 */
+        WITHIN_WINDOW,
+        /** window는 지났지만 max-lag 안: 복제본이 아직 이전 값일 수 있음 */
+        WITHIN_MAX_LAG
+    }
+
+    /**
+     * 사용자의 쓰기 기록 (이후 window 동안 읽기를 기본 DB로 고정)
+     */
+    public void markWritten(Long userId) {
+        if (!replicaEnabled || userId == null) {
+            return;
+        }
+
+        try {
+            Duration retention = maxLag.compareTo(window) > 0 ? maxLag : window;
+            redisTemplate.opsForValue().set(String.format(PIN_KEY, userId),
+                    String.valueOf(System.currentTimeMillis()), retention);
+        } catch (Exception e) {
+            log.warn("Failed to record recent write: userId={}", userId, e);
+        }
+    }
+
+    /**
+     * 최근 쓰기 여부 (true면 기본 DB에서 읽어야 함)
+     */
+    public boolean isRecentlyWritten(Long userId) {
+        return recentWrite(userId) == RecentWrite.WITHIN_WINDOW;
+    }
+
+    /**
+     * 최근 쓰기 상태 조회 (Redis GET 1회, 실패 시 WITHIN_WINDOW)
+     */
+    public RecentWrite recentWrite(Long userId) {
+        if (!replicaEnabled || userId == null) {
+            return RecentWrite.NONE;
+        }
+
+        try {
+            String writtenAt = redisTemplate.opsForValue().get(String.format(PIN_KEY, userId));
+            if (writtenAt == null) {
+                return RecentWrite.NONE;
+            }
+            long elapsedMillis = System.currentTimeMillis() - Long.parseLong(writtenAt);
+            if (elapsedMillis < window.toMillis()) {
+                return RecentWrite.WITHIN_WINDOW;
+            }
+            return elapsedMillis < maxLag.toMillis() ? RecentWrite.WITHIN_MAX_LAG : RecentWrite.NONE;
+        } catch (Exception e) {
+            log.warn("Failed to check recent write, reading from primary: userId={}", userId, e);
+            return RecentWrite.WITHIN_WINDOW;
+        }
+    }
+
+    /**
+     * 복제 지연 상한 (max-lag 안에 복제본에서 읽은 값의 캐시 TTL)
+     */
+    public Duration getMaxLag() {
+        return maxLag;
+    }
+}
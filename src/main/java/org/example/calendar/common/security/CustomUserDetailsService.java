@@ -28,6 +28,7 @@ public class CustomUserDetailsService implements UserDetailsService {
     /**
      * 사용자 ID로 사용자 정보 조회
      * Spring Security에서 인증 시 자동으로 호출됩니다.
+     * 요청마다 호출되므로 자연 키 조회로 2차 캐시를 사용합니다.
      *
      * @param userId 사용자 ID (JWT의 subject에서 추출된 값)
      * @return UserDetails 구현체
@@ -36,7 +37,7 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Override
     public UserDetails loadUserByUsername(String userId) throws UsernameNotFoundException {
 
-        User user = userRepository.findByUserId(userId)
+        User user = userRepository.findByNaturalId(userId)
                 .orElseThrow(() -> {
                     log.warn("사용자를 찾을 수 없습니다: userId={}", userId);
                     return new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userId);
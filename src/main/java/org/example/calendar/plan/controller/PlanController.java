@@ -10,16 +10,24 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.example.calendar.common.security.CustomUserDetails;
+import org.example.calendar.plan.dto.request.PlanBatchReq;
 import org.example.calendar.plan.dto.request.PlanCreateReq;
 import org.example.calendar.plan.dto.request.PlanDeleteReq;
 import org.example.calendar.plan.dto.request.PlanUpdateReq;
+import org.example.calendar.plan.dto.response.PlanBatchResponse;
+import org.example.calendar.plan.dto.response.PlanImportJobResponse;
 import org.example.calendar.plan.dto.response.PlanResponse;
+import org.example.calendar.plan.service.PlanImportService;
 import org.example.calendar.plan.service.PlanService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -31,6 +39,7 @@ import java.util.List;
  *   <li>계획 수정: 계획 우클릭 → 수정 → 입력폼 → 완료</li>
  *   <li>계획 삭제: 계획 우클릭 → 삭제 (반복 계획의 경우 옵션 선택)</li>
  *   <li>계획 읽기: 월별 조회로 캘린더에 표시</li>
+ *   <li>계획 읽기: 기간 조회로 주간/분기/연간 뷰에 표시</li>
  * </ul>
  * 
  * <h3>인증 방식</h3>
@@ -51,6 +60,7 @@ import java.util.List;
 public class PlanController {
 
     private final PlanService planService;
+    private final PlanImportService planImportService;
 
     /**
      * 월별 계획 조회 (캘린더 메인 기능)
@@ -96,6 +106,138 @@ public class PlanController {
         return ResponseEntity.ok(plans);
     }
 
+    /**
+     * 기간별 계획 조회 (주간/분기/연간/일정 목록 뷰)
+     * 
+     * <p><strong>사용자 시나리오:</strong></p>
+     * <ol>
+     *   <li>사용자가 주간 또는 일정 목록 뷰로 전환</li>
+     *   <li>화면에 보이는 기간(from~to)의 모든 계획을 한 번에 조회</li>
+     *   <li>여러 달에 걸친 기간도 요청 1회로 처리</li>
+     * </ol>
+     */
+    @GetMapping
+    @Operation(
+            summary = "기간별 계획 조회",
+            description = "from~to 기간(양 끝 포함)의 모든 계획을 조회합니다. 반복 계획은 기간 내 인스턴스로 전개됩니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 기간 (종료일이 시작일 이전, 최대 조회 기간 초과)"),
+            @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    public ResponseEntity<List<PlanResponse>> getPlansInRange(
+            @Parameter(description = "조회 시작일 (YYYY-MM-DD)", example = "2025-07-01")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            
+            @Parameter(description = "조회 종료일 (YYYY-MM-DD)", example = "2025-09-30")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        
+        Long userId = userDetails.getUser().getId();
+
+        List<PlanResponse> plans = planService.getPlansInRange(userId, from, to);
+        return ResponseEntity.ok(plans);
+    }
+
+    /**
+     * 다가오는 일정 조회 (일정 목록/위젯)
+     * 
+     * <p><strong>사용자 시나리오:</strong></p>
+     * <ol>
+     *   <li>사용자가 홈 화면의 "다가오는 일정" 목록을 확인</li>
+     *   <li>일반 계획과 모든 반복 계획의 다음 인스턴스 N개가 시간순으로 표시</li>
+     * </ol>
+     */
+    @GetMapping("/upcoming")
+    @Operation(
+            summary = "다가오는 일정 조회",
+            description = "오늘 진행 중이거나 이후 시작하는 일반 계획과 반복 계획 인스턴스를 시작 순서로 최대 limit건 조회합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 조회 건수"),
+            @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    public ResponseEntity<List<PlanResponse>> getUpcomingPlans(
+            @Parameter(description = "조회 건수", example = "10")
+            @RequestParam(defaultValue = "10") int limit,
+            
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        
+        Long userId = userDetails.getUser().getId();
+
+        List<PlanResponse> plans = planService.getUpcomingPlans(userId, limit);
+        return ResponseEntity.ok(plans);
+    }
+
+    /**
+     * 다음 계획 인스턴스 조회 (알림, "다음 일정" 위젯, 알람 예약)
+     * 
+     * <p><strong>사용자 시나리오:</strong></p>
+     * <ol>
+     *   <li>"다음 일정" 위젯이 반복 계획의 다음 발생일을 요청</li>
+     *   <li>드문 반복(매년, 24개월마다)도 월 단위 전개 없이 바로 계산</li>
+     * </ol>
+     */
+    @GetMapping("/{planId}/next")
+    @Operation(
+            summary = "다음 계획 인스턴스 조회",
+            description = "기준 날짜(after, 기본값: 오늘) 이후 첫 인스턴스를 조회합니다. 이후 인스턴스가 없으면 204를 반환합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "204", description = "이후 인스턴스 없음"),
+            @ApiResponse(responseCode = "400", description = "계획이 없거나 조회 권한 없음"),
+            @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    public ResponseEntity<PlanResponse> getNextOccurrence(
+            @Parameter(description = "계획 ID", example = "1")
+            @PathVariable Long planId,
+            
+            @Parameter(description = "기준 날짜 (YYYY-MM-DD, 제외)", example = "2025-08-29")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate after,
+            
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        
+        Long userId = userDetails.getUser().getId();
+
+        return planService.getNextOccurrence(planId, userId, after != null ? after : LocalDate.now())
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    /**
+     * 이전 계획 인스턴스 조회
+     */
+    @GetMapping("/{planId}/previous")
+    @Operation(
+            summary = "이전 계획 인스턴스 조회",
+            description = "기준 날짜(before, 기본값: 오늘) 이전 마지막 인스턴스를 조회합니다. 이전 인스턴스가 없으면 204를 반환합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "204", description = "이전 인스턴스 없음"),
+            @ApiResponse(responseCode = "400", description = "계획이 없거나 조회 권한 없음"),
+            @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    public ResponseEntity<PlanResponse> getPreviousOccurrence(
+            @Parameter(description = "계획 ID", example = "1")
+            @PathVariable Long planId,
+            
+            @Parameter(description = "기준 날짜 (YYYY-MM-DD, 제외)", example = "2025-08-29")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate before,
+            
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        
+        Long userId = userDetails.getUser().getId();
+
+        return planService.getPreviousOccurrence(planId, userId, before != null ? before : LocalDate.now())
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
     /**
      * 계획 추가
      * 
@@ -127,6 +269,94 @@ public class PlanController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdPlan);
     }
 
+    /**
+     * 계획 일괄 생성/수정/삭제
+     * 
+     * <p><strong>사용자 시나리오:</strong></p>
+     * <ol>
+     *   <li>외부 연동(동기화 도구 등)이 수백 건의 계획 변경을 한 번에 전송</li>
+     *   <li>모든 작업을 한 트랜잭션에서 처리 (생성은 배치 INSERT)</li>
+     *   <li>작업별 성공/실패 결과를 요청 순서대로 반환</li>
+     * </ol>
+     */
+    @PostMapping("/batch")
+    @Operation(
+            summary = "계획 일괄 처리",
+            description = "여러 계획의 생성/수정/삭제를 한 번에 처리합니다. 작업별 결과를 요청 순서대로 반환하며, " +
+                    "계획 없음/권한 없음 등으로 실패한 작업은 건너뛰고 나머지를 처리합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "일괄 처리 완료 (작업별 결과 포함)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 입력값 (작업 유형별 필수 값 누락, 최대 건수 초과, 같은 계획 중복 지정)"),
+            @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    public ResponseEntity<PlanBatchResponse> executeBatch(
+            @Valid @RequestBody PlanBatchReq request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        
+        Long userId = userDetails.getUser().getId();
+
+        PlanBatchResponse response = planService.executeBatch(request, userId);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 다른 캘린더에서 일정 가져오기 (iCalendar .ics)
+     * 
+     * <p><strong>사용자 시나리오:</strong></p>
+     * <ol>
+     *   <li>사용자가 다른 캘린더에서 내보낸 .ics 파일(수천~수만 건)을 업로드</li>
+     *   <li>작업 ID를 바로 받고, 가져오기는 백그라운드에서 청크 단위로 진행</li>
+     *   <li>작업 ID로 진행 상태(처리/저장/건너뜀 건수)를 조회</li>
+     * </ol>
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(
+            summary = "일정 가져오기 (ICS)",
+            description = "iCalendar(.ics) 파일의 VEVENT를 계획으로 가져옵니다. RRULE은 표현 가능한 경우 반복 계획으로 변환하며, " +
+                    "처리는 비동기로 진행되므로 반환된 jobId로 진행 상태를 조회합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "가져오기 작업 등록"),
+            @ApiResponse(responseCode = "400", description = "빈 파일, 대기 중인 작업 초과"),
+            @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    public ResponseEntity<PlanImportJobResponse> importPlans(
+            @Parameter(description = "iCalendar 파일 (.ics)")
+            @RequestParam("file") MultipartFile file,
+            
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        
+        Long userId = userDetails.getUser().getId();
+
+        PlanImportJobResponse job = planImportService.startImport(file, userId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    /**
+     * 일정 가져오기 진행 상태 조회
+     */
+    @GetMapping("/import/{jobId}")
+    @Operation(
+            summary = "일정 가져오기 진행 상태 조회",
+            description = "가져오기 작업의 상태와 처리/저장/건너뜀 건수, 건너뛴 일정의 사유를 조회합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "작업이 없거나 만료됨"),
+            @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    public ResponseEntity<PlanImportJobResponse> getImportJob(
+            @Parameter(description = "가져오기 작업 ID")
+            @PathVariable String jobId,
+            
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        
+        Long userId = userDetails.getUser().getId();
+
+        return ResponseEntity.ok(planImportService.getJob(jobId, userId));
+    }
+
     /**
      * 계획 수정
      * 
@@ -0,0 +1,81 @@
+package org.example.calendar.plan.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.example.calendar.plan.enums.BatchOperationType;
+
+import java.util.List;
+
+/**
+ * 계획 일괄 처리 요청 DTO
+ *
+ * <p>여러 계획의 생성/수정/삭제를 한 번의 요청(한 트랜잭션)으로 처리하기 위한 요청 데이터입니다.</p>
+ *
+ * <h3>사용 예시</h3>
+ * <pre>
+ * POST /plans/batch
+ * {
+ *   "operations": [
+ *     { "type": "CREATE", "create": { ... PlanCreateReq ... } },
+ *     { "type": "UPDATE", "planId": 12, "update": { ... PlanUpdateReq ... } },
+ *     { "type": "DELETE", "planId": 34 }
+ *   ]
+ * }
+ * </pre>
+ *
+ * <h3>validation 규칙</h3>
+ * <ul>
+ *   <li>operations: 1건 이상 (최대 건수는 plan.batch.max-operations)</li>
+ *   <li>CREATE: create 필수 / UPDATE: planId, update 필수 / DELETE: planId 필수</li>
+ *   <li>한 요청에서 같은 planId를 두 번 이상 수정/삭제할 수 없음 (서비스에서 검증, 400)</li>
+ * </ul>
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlanBatchReq {
+
+    @NotEmpty(message = "일괄 처리할 작업은 1건 이상이어야 합니다")
+    private List<@Valid @NotNull Operation> operations;
+
+    /**
+     * 단일 작업
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Operation {
+
+        @NotNull(message = "작업 유형은 필수입니다")
+        private BatchOperationType type;
+
+        // 수정/삭제 대상 계획 ID
+        private Long planId;
+
+        @Valid
+        private PlanCreateReq create;
+
+        @Valid
+        private PlanUpdateReq update;
+
+        @AssertTrue(message = "작업 유형에 필요한 값이 없습니다 (CREATE: create, UPDATE: planId와 update, DELETE: planId)")
+        private boolean isValidPayload() {
+            if (type == null) return true;
+            return switch (type) {
+                case CREATE -> create != null;
+                case UPDATE -> planId != null && update != null;
+                case DELETE -> planId != null;
+            };
+        }
+    }
+}
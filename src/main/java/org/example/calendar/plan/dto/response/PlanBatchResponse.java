@@ -0,0 +1,55 @@
+package org.example.calendar.plan.dto.response;
+
+import lombok.*;
+import org.example.calendar.plan.enums.BatchOperationType;
+
+import java.util.List;
+
+/**
+ * 계획 일괄 처리 응답 DTO
+ *
+ * <p>요청 작업 순서대로 작업별 결과를 담습니다.</p>
+ *
+ * <h3>작업별 결과</h3>
+ * <ul>
+ *   <li><strong>성공</strong>: success=true, planId, plan(생성/수정 시)</li>
+ *   <li><strong>실패</strong>: success=false, message (계획 없음, 권한 없음 등 해당 작업만 건너뜀)</li>
+ * </ul>
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlanBatchResponse {
+
+    private int successCount;
+    private int failureCount;
+    private List<ItemResult> results;
+
+    /**
+     * 작업별 결과
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ItemResult {
+
+        // 요청 operations 목록의 인덱스
+        private int index;
+        private BatchOperationType type;
+        private boolean success;
+        private Long planId;
+
+        // 생성/수정된 계획 (삭제, 실패 시 null)
+        private PlanResponse plan;
+
+        // 실패 사유
+        private String message;
+    }
+}
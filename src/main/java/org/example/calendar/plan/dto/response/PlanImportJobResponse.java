@@ -0,0 +1,50 @@
+package org.example.calendar.plan.dto.response;
+
+import lombok.*;
+import org.example.calendar.plan.enums.ImportJobStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일정 가져오기(ICS) 작업 진행 상태 응답 DTO
+ *
+ * <p>POST /plans/import 응답과 GET /plans/import/{jobId} 조회 결과로 사용하며,
+ * 청크 저장이 끝날 때마다 갱신됩니다.</p>
+ *
+ * <h3>집계 값</h3>
+ * <ul>
+ *   <li><strong>processedEvents</strong>: 지금까지 읽은 VEVENT 수</li>
+ *   <li><strong>importedPlans</strong>: 저장이 끝난 계획 수</li>
+ *   <li><strong>skippedEvents</strong>: 표현할 수 없거나 잘못된 일정 수 (errors에 사유 일부 기록)</li>
+ * </ul>
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlanImportJobResponse {
+
+    private String jobId;
+    private ImportJobStatus status;
+    private String fileName;
+
+    private int processedEvents;
+    private int importedPlans;
+    private int skippedEvents;
+
+    // 건너뛴 일정 사유 (앞쪽 일부만 기록)
+    @Builder.Default
+    private List<String> errors = new ArrayList<>();
+
+    // 작업 실패 사유
+    private String message;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+}
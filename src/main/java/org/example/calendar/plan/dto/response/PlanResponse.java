@@ -38,6 +38,12 @@ import java.util.List;
  *   <li><strong>타임스탬프</strong>: "yyyy-MM-dd HH:mm:ss" 형식</li>
  * </ul>
  * 
+ * <h3>반복 인스턴스</h3>
+ * <ul>
+ *   <li>반복 계획은 계획당 한 번 만든 템플릿을 {@code toBuilder()}로 얕은 복사하여 날짜만 바꿉니다</li>
+ *   <li>recurringResInfo, alarms는 같은 계획의 인스턴스끼리 공유하므로 수정하지 않습니다</li>
+ * </ul>
+ * 
  * <h3>조건부 필드</h3>
  * <ul>
  *   <li><strong>recurringResInfo</strong>: isRecurring=true인 경우만 포함</li>
@@ -51,7 +57,7 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class PlanResponse {
 
     private Long id;
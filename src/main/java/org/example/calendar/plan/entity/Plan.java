@@ -34,7 +34,8 @@ import java.util.Set;
 public class Plan {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "plans_id_seq")
+    @SequenceGenerator(name = "plans_id_seq", sequenceName = "plans_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "일정 제목은 필수입니다")
@@ -93,6 +94,10 @@ public class Plan {
     @Column(name = "version")
     private Long version;
 
+    // 반복 인스턴스가 plan_occurrences에 채워진 마지막 날짜 (네이티브 쿼리로만 갱신, 버전 증가 없음)
+    @Column(name = "occurrences_until", insertable = false, updatable = false)
+    private LocalDate occurrencesUntil;
+
     // 간단한 편의 메서드만 유지
     public boolean isSinglePlan() {
         return !Boolean.TRUE.equals(this.isRecurring);
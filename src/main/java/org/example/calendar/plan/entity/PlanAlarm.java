@@ -28,7 +28,8 @@ import java.time.LocalTime;
 public class PlanAlarm {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "plan_alarms_id_seq")
+    @SequenceGenerator(name = "plan_alarms_id_seq", sequenceName = "plan_alarms_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
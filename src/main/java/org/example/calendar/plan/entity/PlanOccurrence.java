@@ -0,0 +1,43 @@
+package org.example.calendar.plan.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 반복 일정 인스턴스 엔티티 (구체화 테이블)
+ *
+ * <p>반복 계획의 발생일을 롤링 기간만큼 미리 계산해 둔 행입니다.
+ * 계획 생성/수정 시 다시 채우고, 백그라운드 작업이 기간을 연장합니다.
+ * 저장은 대량 INSERT로 처리하므로 연관관계 없이 ID 컬럼만 가집니다.</p>
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+@Entity
+@Table(name = "plan_occurrences", indexes = {
+        @Index(name = "idx_plan_occurrences_user_date", columnList = "user_id, occurrence_date")
+})
+@Getter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class PlanOccurrence {
+
+    @EmbeddedId
+    private PlanOccurrenceId id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    public Long getPlanId() {
+        return id.getPlanId();
+    }
+
+    public LocalDate getOccurrenceDate() {
+        return id.getOccurrenceDate();
+    }
+}
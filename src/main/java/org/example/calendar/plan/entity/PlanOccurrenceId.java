@@ -0,0 +1,27 @@
+package org.example.calendar.plan.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 반복 일정 인스턴스 복합 키 (계획 ID + 발생일)
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor @AllArgsConstructor
+@EqualsAndHashCode
+public class PlanOccurrenceId implements Serializable {
+
+    @Column(name = "plan_id", nullable = false)
+    private Long planId;
+
+    @Column(name = "occurrence_date", nullable = false)
+    private LocalDate occurrenceDate;
+}
@@ -24,7 +24,8 @@ import java.util.Set;
 public class RecurringInfo {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recurring_info_id_seq")
+    @SequenceGenerator(name = "recurring_info_id_seq", sequenceName = "recurring_info_id_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
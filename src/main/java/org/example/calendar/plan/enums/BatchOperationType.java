@@ -0,0 +1,30 @@
+package org.example.calendar.plan.enums;
+
+import lombok.Getter;
+
+/**
+ * 일괄 처리 작업 유형 열거형
+ *
+ * <h3>작업 유형</h3>
+ * <ul>
+ *   <li><strong>CREATE</strong>: 계획 생성 (create 필수)</li>
+ *   <li><strong>UPDATE</strong>: 계획 수정 (planId, update 필수)</li>
+ *   <li><strong>DELETE</strong>: 계획 삭제 (planId 필수)</li>
+ * </ul>
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+@Getter
+public enum BatchOperationType {
+
+    CREATE("생성"),
+    UPDATE("수정"),
+    DELETE("삭제");
+
+    private final String description;
+
+    BatchOperationType(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.calendar.plan.enums;
+
+import lombok.Getter;
+
+/**
+ * 일정 가져오기 작업 상태 열거형
+ *
+ * <h3>상태 전이</h3>
+ * <ul>
+ *   <li><strong>PENDING</strong>: 파일 업로드 완료, 작업 대기열에서 대기</li>
+ *   <li><strong>RUNNING</strong>: 파일을 읽으며 청크 단위로 저장 중</li>
+ *   <li><strong>COMPLETED</strong>: 모든 일정 처리 완료 (건너뛴 일정 포함)</li>
+ *   <li><strong>FAILED</strong>: 파일 형식 오류, 저장 실패 등으로 중단 (이전 청크는 저장된 상태)</li>
+ * </ul>
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+@Getter
+public enum ImportJobStatus {
+
+    PENDING("대기중"),
+    RUNNING("처리중"),
+    COMPLETED("완료"),
+    FAILED("실패");
+
+    private final String description;
+
+    ImportJobStatus(String description) {
+        this.description = description;
+    }
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
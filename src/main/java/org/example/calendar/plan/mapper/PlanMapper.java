@@ -9,9 +9,11 @@ import org.example.calendar.plan.dto.response.PlanResponse;
 import org.example.calendar.plan.entity.Plan;
 import org.example.calendar.plan.entity.PlanAlarm;
 import org.example.calendar.plan.entity.RecurringInfo;
+import org.example.calendar.plan.repository.projection.PlanRow;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -38,6 +40,15 @@ public class PlanMapper {
      * Plan 엔티티를 PlanResponse로 변환
      */
     public PlanResponse toPlanResponse(Plan plan) {
+        RecurringInfo recurringInfo = plan.getRecurringInfo();
+        return toPlanResponse(plan, recurringInfo != null ? recurringInfo.getExceptionDates() : null);
+    }
+
+    /**
+     * Plan 엔티티를 PlanResponse로 변환 (예외 날짜를 별도로 전달)
+     * 반복 인스턴스 템플릿 생성 시 일괄 조회한 예외 날짜를 사용해 지연 로딩을 피함
+     */
+    public PlanResponse toPlanResponse(Plan plan, Collection<LocalDate> exceptionDates) {
         return PlanResponse.builder()
                 .id(plan.getId())
                 .planName(plan.getPlanName())
@@ -47,7 +58,7 @@ public class PlanMapper {
                 .startTime(plan.getStartTime())
                 .endTime(plan.getEndTime())
                 .isRecurring(plan.getIsRecurring())
-                .recurringResInfo(toRecurringResInfo(plan.getRecurringInfo()))
+                .recurringResInfo(toRecurringResInfo(plan.getRecurringInfo(), exceptionDates))
                 .alarms(toAlarmResInfos(plan.getAlarms()))
                 .createdAt(plan.getCreatedAt())
                 .updatedAt(plan.getUpdatedAt())
@@ -56,6 +67,28 @@ public class PlanMapper {
                 .build();
     }
 
+    /**
+     * 읽기 모델(PlanRow)을 PlanResponse로 변환 (월별/기간 조회용, 엔티티 접근 없음)
+     */
+    public PlanResponse toPlanResponse(PlanRow row) {
+        return PlanResponse.builder()
+                .id(row.id())
+                .planName(row.planName())
+                .planContent(row.planContent())
+                .startDate(row.startDate())
+                .endDate(row.endDate())
+                .startTime(row.startTime())
+                .endTime(row.endTime())
+                .isRecurring(row.isRecurring())
+                .recurringResInfo(toRecurringResInfo(row.recurring()))
+                .alarms(toAlarmResInfos(row.alarms()))
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .userId(row.userId())
+                .userName(row.userName())
+                .build();
+    }
+
     /**
      * RecurringReqInfo를 RecurringInfo 엔티티로 변환
      * Plan의 startDate와 endDate를 반복 기간으로 사용
@@ -92,7 +125,7 @@ public class PlanMapper {
     /**
      * RecurringInfo를 RecurringResInfo로 변환
      */
-    private RecurringResInfo toRecurringResInfo(RecurringInfo recurringInfo) {
+    private RecurringResInfo toRecurringResInfo(RecurringInfo recurringInfo, Collection<LocalDate> exceptionDates) {
         if (recurringInfo == null) return null;
 
         return RecurringResInfo.builder()
@@ -105,10 +138,44 @@ public class PlanMapper {
                 .repeatDayOfYear(recurringInfo.getRepeatDayOfYear())
                 .startDate(recurringInfo.getStartDate() != null ? recurringInfo.getStartDate().toString() : null)
                 .endDate(recurringInfo.getEndDate() != null ? recurringInfo.getEndDate().toString() : null)
-                .exceptionDates(recurringInfo.getExceptionDates().stream().map(LocalDate::toString).toList())
+                .exceptionDates(exceptionDates.stream().map(LocalDate::toString).toList())
                 .build();
     }
 
+    /**
+     * 반복 정보 읽기 모델을 RecurringResInfo로 변환
+     */
+    private RecurringResInfo toRecurringResInfo(PlanRow.RecurringRow recurring) {
+        if (recurring == null) return null;
+        return RecurringResInfo.builder()
+                .repeatUnit(recurring.repeatUnit().name())
+                .repeatInterval(recurring.repeatInterval())
+                .repeatWeekdays(recurring.repeatWeekdays().stream().map(Enum::name).toList())
+                .repeatDayOfMonth(recurring.repeatDayOfMonth())
+                .repeatWeeksOfMonth(recurring.repeatWeeksOfMonth())
+                .repeatMonth(recurring.repeatMonth())
+                .repeatDayOfYear(recurring.repeatDayOfYear())
+                .startDate(recurring.startDate() != null ? recurring.startDate().toString() : null)
+                .endDate(recurring.endDate() != null ? recurring.endDate().toString() : null)
+                .exceptionDates(recurring.exceptionDates().stream().map(LocalDate::toString).toList())
+                .build();
+    }
+
+    /**
+     * 알람 읽기 모델 목록을 AlarmResInfo 리스트로 변환
+     */
+    private List<AlarmResInfo> toAlarmResInfos(List<PlanRow.AlarmRow> alarms) {
+        if (alarms == null || alarms.isEmpty()) return List.of();
+        return alarms.stream()
+                .map(alarm -> AlarmResInfo.builder()
+                        .id(alarm.id())
+                        .alarmDate(alarm.alarmDate())
+                        .alarmTime(alarm.alarmTime())
+                        .alarmStatus(alarm.alarmStatus().name())
+                        .build())
+                .toList();
+    }
+
     /**
      * PlanAlarm Set을 AlarmResInfo 리스트로 변환
      */
@@ -0,0 +1,24 @@
+package org.example.calendar.plan.repository;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * PlanOccurrence 대량 INSERT용 커스텀 Repository 조각
+ * 구현: {@link PlanOccurrenceBatchRepositoryImpl} (JdbcTemplate 배치)
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+public interface PlanOccurrenceBatchRepository {
+
+    /**
+     * 반복 일정 인스턴스 대량 저장 (이미 있는 발생일은 무시)
+     *
+     * @param userId 사용자 ID
+     * @param planId 계획 ID
+     * @param occurrences 발생일(epoch day) 반복자
+     * @param durationDays 인스턴스 기간 (종료일 = 발생일 + durationDays)
+     * @return 처리한 발생일 수
+     */
+    int insertOccurrences(Long userId, Long planId, PrimitiveIterator.OfLong occurrences, long durationDays);
+}
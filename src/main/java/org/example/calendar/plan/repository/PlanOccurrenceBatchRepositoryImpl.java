@@ -0,0 +1,63 @@
+package org.example.calendar.plan.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+
+/**
+ * PlanOccurrence 대량 INSERT 구현 (JdbcTemplate 배치)
+ *
+ * <ul>
+ *   <li>BATCH_SIZE 단위로 나눠 배치 INSERT</li>
+ *   <li>ON CONFLICT DO NOTHING: 연장 작업이 중복 실행되어도 안전 (멱등)</li>
+ *   <li>JPA 트랜잭션과 같은 커넥션을 사용</li>
+ * </ul>
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+@RequiredArgsConstructor
+public class PlanOccurrenceBatchRepositoryImpl implements PlanOccurrenceBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = """
+        INSERT INTO plan_occurrences (plan_id, occurrence_date, user_id, end_date)
+        VALUES (?, ?, ?, ?)
+        ON CONFLICT (plan_id, occurrence_date) DO NOTHING
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertOccurrences(Long userId, Long planId, PrimitiveIterator.OfLong occurrences, long durationDays) {
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        int count = 0;
+
+        while (occurrences.hasNext()) {
+            long epochDay = occurrences.nextLong();
+            batch.add(new Object[]{
+                    planId,
+                    Date.valueOf(LocalDate.ofEpochDay(epochDay)),
+                    userId,
+                    Date.valueOf(LocalDate.ofEpochDay(epochDay + durationDays))
+            });
+            count++;
+
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                batch.clear();
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+        }
+        return count;
+    }
+}
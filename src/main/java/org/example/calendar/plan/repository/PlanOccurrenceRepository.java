@@ -0,0 +1,60 @@
+package org.example.calendar.plan.repository;
+
+import jakarta.persistence.QueryHint;
+import org.example.calendar.plan.entity.PlanOccurrence;
+import org.example.calendar.plan.entity.PlanOccurrenceId;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * PlanOccurrence(반복 일정 인스턴스) 데이터 접근 계층
+ * 
+ * 핵심 기능:
+ * - 기간 내 사용자 인스턴스 조회 (user_id, occurrence_date 인덱스 범위 스캔)
+ * - 계획별/전체 인스턴스 삭제
+ * - 대량 INSERT ({@link PlanOccurrenceBatchRepository})
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+@Repository
+public interface PlanOccurrenceRepository extends JpaRepository<PlanOccurrence, PlanOccurrenceId>,
+        PlanOccurrenceBatchRepository {
+
+    /**
+     * 기간 내 사용자의 반복 일정 인스턴스 조회
+     */
+    @Query(value = """
+        SELECT o.* FROM plan_occurrences o
+        WHERE o.user_id = :userId
+        AND o.occurrence_date BETWEEN :rangeStart AND :rangeEnd
+        ORDER BY o.occurrence_date, o.plan_id
+        """, nativeQuery = true)
+    List<PlanOccurrence> findByUserIdInRange(@Param("userId") Long userId,
+                                             @Param("rangeStart") LocalDate rangeStart,
+                                             @Param("rangeEnd") LocalDate rangeEnd);
+
+    /**
+     * 계획의 모든 인스턴스 삭제 (계획 수정/삭제 시)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "plan_occurrences"))
+    @Query(value = "DELETE FROM plan_occurrences WHERE plan_id = :planId", nativeQuery = true)
+    void deleteByPlanId(@Param("planId") Long planId);
+
+    /**
+     * 모든 인스턴스 삭제 (구체화 기능을 다시 켤 때)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "plan_occurrences"))
+    @Query(value = "DELETE FROM plan_occurrences", nativeQuery = true)
+    int deleteAllOccurrences();
+}
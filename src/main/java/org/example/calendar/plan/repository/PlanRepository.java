@@ -1,12 +1,19 @@
 package org.example.calendar.plan.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.example.calendar.plan.entity.Plan;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,7 +21,7 @@ import java.util.Optional;
  * Plan 엔티티에 대한 데이터 접근 계층
  * 
  * 핵심 기능:
- * - 월별 계획 조회 (캘린더 메인 기능)
+ * - 월별/기간 계획 조회 (캘린더 메인 기능)
  * - 계획 CRUD (추가/수정/삭제)
  * - 권한 검증
  *
@@ -22,7 +29,51 @@ import java.util.Optional;
  * @since 2025-07-22
  */
 @Repository
-public interface PlanRepository extends JpaRepository<Plan, Long> {
+public interface PlanRepository extends JpaRepository<Plan, Long>, PlanRowRepository {
+
+    /**
+     * 기간 조회 후보 계획 ({@link PlanRowRepositoryImpl} JDBC 프로젝션 조회에서 사용, plans 컬럼만 반환)
+     * 
+     * 일반/반복 계획을 UNION ALL 두 갈래로 나누어 각 갈래가 부분 인덱스를 사용하도록 함
+     * (OR 조건 + LEFT JOIN 한 번으로 묶으면 사용자의 계획 전체를 훑게 됨)
+     * - 일반 계획: idx_plans_user_single_span (GiST, span && 조회 기간, is_recurring = false)
+     * - 반복 계획: idx_plans_user_recurring_start (is_recurring = true)
+     * 두 갈래는 is_recurring으로 서로 배타적이므로 중복 제거(DISTINCT/UNION)가 필요 없음
+     * 
+     * 파라미터: :userId, :rangeStart, :rangeEnd, :rangeStartMonth, :rangeEndMonth
+     * (월 인덱스 = 년 * 12 + 월 - 1)
+     */
+    String RANGE_CANDIDATES = """
+        SELECT p.* FROM plans p
+        WHERE p.user_id = :userId
+        AND p.is_recurring = false
+        -- 일반 계획: 해당 기간과 겹치는 모든 계획
+        AND p.span && daterange(CAST(:rangeStart AS DATE), CAST(:rangeEnd AS DATE), '[]')
+        UNION ALL
+        SELECT p.* FROM plans p
+        JOIN recurring_info ri ON p.recurring_info_id = ri.id
+        CROSS JOIN LATERAL (
+            SELECT CAST(EXTRACT(YEAR FROM p.start_date) AS INTEGER) AS start_year,
+                   CAST(EXTRACT(YEAR FROM p.start_date) * 12 + EXTRACT(MONTH FROM p.start_date) - 1 AS INTEGER) AS start_month,
+                   GREATEST(COALESCE(ri.repeat_interval, 1), 1) AS step
+        ) s
+        WHERE p.user_id = :userId
+        AND p.is_recurring = true
+        AND p.start_date <= :rangeEnd
+        -- 반복 계획: 반복 패턴에 따라 해당 기간에 인스턴스가 생성될 수 있는 계획
+        -- 반복 유효 기간이 조회 기간과 겹침 (주간반복은 종료일 + 6일까지, V10 recurring_info.span)
+        AND ri.span && daterange(CAST(:rangeStart AS DATE), CAST(:rangeEnd AS DATE), '[]')
+        AND (ri.repeat_unit = 'WEEKLY' OR
+             -- 월간반복: 기간 마지막 월 이하의 마지막 반복 월이 기간 첫 월 이상
+             (ri.repeat_unit = 'MONTHLY' AND
+              s.start_month + (:rangeEndMonth - s.start_month) / s.step * s.step >= :rangeStartMonth) OR
+             -- 연간반복: 기간 마지막 월 이하의 마지막 반복 연도의 반복 월이 기간 첫 월 이상
+             (ri.repeat_unit = 'YEARLY' AND
+              (:rangeEndMonth - ri.repeat_month + 1) / 12 >= s.start_year AND
+              ((:rangeEndMonth - ri.repeat_month + 1) / 12
+                - ((:rangeEndMonth - ri.repeat_month + 1) / 12 - s.start_year) % s.step) * 12
+                + ri.repeat_month - 1 >= :rangeStartMonth))
+        """;
 
     // ========== 기본 CRUD ==========
     
@@ -32,38 +83,142 @@ public interface PlanRepository extends JpaRepository<Plan, Long> {
      */
     Optional<Plan> findByIdAndUserId(Long id, Long userId);
 
-    // ========== 월별 조회 (캘린더 메인 기능) ==========
-    
     /**
-     * 특정 월의 사용자 계획 조회
-     * 
-     * 조회 대상:
-     * 1. 해당 월에 시작하는 계획
-     * 2. 해당 월에 종료하는 계획  
-     * 3. 해당 월을 걸쳐가는 장기 계획
-     * 4. 해당 월에 발생하는 반복 계획 (반복 종료일까지)
+     * 수정용 계획 조회 (권한 검증 + 버전 강제 증가)
+     * 반복 정보만 변경되어도 Plan.version이 증가하도록 보장
+     * (버전 기반 반복 규칙 캐시 무효화에 사용)
+     */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT p FROM Plan p WHERE p.id = :id AND p.user.id = :userId")
+    Optional<Plan> findByIdAndUserIdForUpdate(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * 일괄 수정 대상 계획 조회 (권한 검증 + 버전 강제 증가, 대상 수와 무관하게 쿼리 1회)
+     */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT p FROM Plan p WHERE p.id IN :ids AND p.user.id = :userId")
+    List<Plan> findAllByIdInAndUserIdForUpdate(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    /**
+     * 일괄 삭제 대상 계획 조회 (권한 검증, 대상 수와 무관하게 쿼리 1회)
+     */
+    @Query("SELECT p FROM Plan p WHERE p.id IN :ids AND p.user.id = :userId")
+    List<Plan> findAllByIdInAndUserId(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    // ========== 다가오는 일정 (upcoming agenda) ==========
+
+    /**
+     * 기준 날짜 이후 끝나는 사용자의 일반 계획 조회 (진행 중인 여러 날 계획 포함, 시작 순서, 최대 limit건)
+     */
+    @Query(value = """
+        SELECT p.* FROM plans p
+        WHERE p.user_id = :userId
+        AND p.is_recurring = false
+        -- 종료일이 기준 날짜 이후 (idx_plans_user_single_span)
+        AND p.span && daterange(CAST(:fromDate AS DATE), NULL, '[)')
+        ORDER BY p.start_date, p.start_time, p.id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Plan> findUpcomingSinglePlans(@Param("userId") Long userId,
+                                       @Param("fromDate") LocalDate fromDate,
+                                       @Param("limit") int limit);
+
+    /**
+     * 기준 날짜 이후에도 진행 중이거나 새로 시작하는 인스턴스가 있을 수 있는 사용자의 반복 계획 조회
+     */
+    @Query(value = """
+        SELECT p.* FROM plans p
+        JOIN recurring_info ri ON p.recurring_info_id = ri.id
+        WHERE p.user_id = :userId
+        AND p.is_recurring = true
+        -- 마지막 인스턴스의 종료일이 기준 날짜 이후 (주간반복은 종료일 + 6일에 올 수 있어 6일 여유, 초과분은 전개 시 제외)
+        AND (ri.end_date IS NULL
+             OR ri.end_date + 6 + GREATEST(p.end_date - p.start_date, 0) >= :fromDate)
+        ORDER BY p.id
+        """, nativeQuery = true)
+    List<Plan> findActiveRecurringPlans(@Param("userId") Long userId,
+                                        @Param("fromDate") LocalDate fromDate);
+
+    // ========== 반복 인스턴스 구체화 (plan_occurrences) ==========
+
+    /**
+     * 특정 기간과 겹치는 사용자의 일반(비반복) 계획 조회
+     * 반복 계획은 plan_occurrences에서 따로 조회
+     */
+    @Query(value = """
+        SELECT p.* FROM plans p
+        WHERE p.user_id = :userId
+        AND p.is_recurring = false
+        AND p.span && daterange(CAST(:rangeStart AS DATE), CAST(:rangeEnd AS DATE), '[]')
+        ORDER BY p.start_date, p.start_time
+        """, nativeQuery = true)
+    List<Plan> findSinglePlansInRange(@Param("userId") Long userId,
+                                      @Param("rangeStart") LocalDate rangeStart,
+                                      @Param("rangeEnd") LocalDate rangeEnd);
+
+    /**
+     * 해당 기간까지 인스턴스가 구체화되지 않은 사용자의 반복 계획 조회
+     * (구체화 전 기존 계획, 롤링 기간 이후 조회 등 → Java 전개로 보완)
      */
     @Query(value = """
-        SELECT DISTINCT p.* FROM plans p 
-        LEFT JOIN recurring_info ri ON p.recurring_info_id = ri.id
-        WHERE p.user_id = :userId 
-        AND (
-            -- 일반 계획: 해당 월과 겹치는 모든 계획
-            (p.start_date <= :monthEnd AND p.end_date >= :monthStart)
-            OR 
-            -- 반복 계획: 반복 패턴에 따라 해당 월에 인스턴스가 생성될 수 있는 계획
-            (p.is_recurring = true AND p.start_date <= :monthEnd AND 
-             (ri.end_date IS NULL OR 
-              -- 주간반복: 반복종료일 + 6일(한주)까지 고려 (마지막 인스턴스가 다음주에 올 수 있음)
-              (ri.repeat_unit = 'WEEKLY' AND DATE(ri.end_date + INTERVAL '6 days') >= :monthStart) OR
-              -- 기타 반복: 기존 로직 유지
-              (ri.repeat_unit != 'WEEKLY' AND ri.end_date >= :monthStart)))
-        )
+        SELECT p.* FROM plans p
+        JOIN recurring_info ri ON p.recurring_info_id = ri.id
+        WHERE p.user_id = :userId
+        AND p.is_recurring = true
+        AND p.start_date <= :rangeEnd
+        AND ri.span && daterange(CAST(:rangeStart AS DATE), CAST(:rangeEnd AS DATE), '[]')
+        AND (p.occurrences_until IS NULL
+             OR p.occurrences_until < LEAST(:rangeEnd, COALESCE(ri.end_date, :rangeEnd)))
         ORDER BY p.start_date, p.start_time
         """, nativeQuery = true)
-    List<Plan> findMonthlyPlans(@Param("userId") Long userId,
-                                @Param("monthStart") LocalDate monthStart,
-                                @Param("monthEnd") LocalDate monthEnd);
+    List<Plan> findUnmaterializedRecurringPlans(@Param("userId") Long userId,
+                                                @Param("rangeStart") LocalDate rangeStart,
+                                                @Param("rangeEnd") LocalDate rangeEnd);
+
+    /**
+     * 인스턴스 연장이 필요한 반복 계획 조회 (백그라운드 연장 작업용)
+     * 구체화 완료 날짜가 목표 기간 이전이고, 반복이 아직 끝나지 않은 계획
+     */
+    @Query(value = """
+        SELECT p.* FROM plans p
+        JOIN recurring_info ri ON p.recurring_info_id = ri.id
+        WHERE p.is_recurring = true
+        AND (p.occurrences_until IS NULL
+             OR (p.occurrences_until < :horizonEnd
+                 AND (ri.end_date IS NULL OR p.occurrences_until < ri.end_date)))
+        ORDER BY p.id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Plan> findPlansNeedingOccurrenceExtension(@Param("horizonEnd") LocalDate horizonEnd,
+                                                   @Param("limit") int limit);
+
+    /**
+     * 구체화 완료 날짜 갱신 (버전 증가 없음)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "plans"))
+    @Query(value = "UPDATE plans SET occurrences_until = :until WHERE id = :planId", nativeQuery = true)
+    void updateOccurrencesUntil(@Param("planId") Long planId, @Param("until") LocalDate until);
+
+    /**
+     * 구체화 완료 날짜 갱신 (읽은 버전과 같을 때만)
+     * 연장 작업 도중 계획이 수정되었으면 0을 반환하여 오래된 규칙으로 채우지 않도록 함
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "plans"))
+    @Query(value = "UPDATE plans SET occurrences_until = :until WHERE id = :planId AND version = :version",
+            nativeQuery = true)
+    int updateOccurrencesUntilIfVersion(@Param("planId") Long planId,
+                                        @Param("until") LocalDate until,
+                                        @Param("version") Long version);
+
+    /**
+     * 모든 계획의 구체화 완료 날짜 초기화 (구체화 기능을 다시 켤 때, 버전 증가 없음)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "plans"))
+    @Query(value = "UPDATE plans SET occurrences_until = NULL WHERE occurrences_until IS NOT NULL", nativeQuery = true)
+    int clearAllOccurrencesUntil();
 
     /*
      * 기본 CRUD 메서드는 JpaRepository가 자동 제공:
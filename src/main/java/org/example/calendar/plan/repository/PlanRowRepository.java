@@ -0,0 +1,26 @@
+package org.example.calendar.plan.repository;
+
+import org.example.calendar.plan.repository.projection.PlanRow;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 월별/기간 조회 읽기 모델(PlanRow)용 커스텀 Repository 조각
+ * 구현: {@link PlanRowRepositoryImpl} (JDBC 프로젝션 + array_agg)
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+public interface PlanRowRepository {
+
+    /**
+     * 특정 기간의 사용자 계획을 읽기 모델로 조회 (쿼리 1회, 엔티티 생성 없음)
+     *
+     * @param userId 사용자 ID
+     * @param rangeStart 조회 범위 시작일
+     * @param rangeEnd 조회 범위 종료일
+     * @return 조회 순서(start_date, start_time)대로 정렬된 계획 목록
+     */
+    List<PlanRow> findPlanRowsInRange(Long userId, LocalDate rangeStart, LocalDate rangeEnd);
+}
@@ -0,0 +1,181 @@
+package org.example.calendar.plan.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.calendar.plan.entity.PlanAlarm;
+import org.example.calendar.plan.enums.RepeatUnit;
+import org.example.calendar.plan.repository.projection.PlanRow;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 월별/기간 조회 읽기 모델 구현 (JDBC 프로젝션)
+ *
+ * <ul>
+ *   <li>후보 필터는 {@link PlanRepository#RANGE_CANDIDATES}를 그대로 사용</li>
+ *   <li>반복 요일/주차/예외 날짜와 알람은 LATERAL 서브쿼리의 array_agg로 한 행에 모음</li>
+ *   <li>쿼리 1회로 PlanMapper와 반복 Generator가 필요한 모든 값을 읽음 (엔티티, 프록시 없음)</li>
+ * </ul>
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+@RequiredArgsConstructor
+public class PlanRowRepositoryImpl implements PlanRowRepository {
+
+    private static final String SELECT_SQL = """
+        SELECT c.id, c.user_id, u.name AS user_name, c.plan_name, c.plan_content,
+               c.start_date, c.end_date, c.start_time, c.end_time, c.is_recurring,
+               c.created_at, c.updated_at, c.version,
+               ri.id AS ri_id, ri.repeat_unit, ri.repeat_interval, ri.repeat_day_of_month,
+               ri.repeat_month, ri.repeat_day_of_year,
+               ri.start_date AS ri_start_date, ri.end_date AS ri_end_date,
+               wd.weekdays, wm.weeks_of_month, ex.exception_dates,
+               al.alarm_ids, al.alarm_dates, al.alarm_times, al.alarm_statuses
+        FROM (""" + PlanRepository.RANGE_CANDIDATES + """
+        ) c
+        JOIN users u ON u.id = c.user_id
+        LEFT JOIN recurring_info ri ON ri.id = c.recurring_info_id
+        LEFT JOIN LATERAL (
+            SELECT array_agg(w.repeat_weekday) AS weekdays
+            FROM recurring_repeat_weekdays w WHERE w.recurring_info_id = ri.id
+        ) wd ON true
+        LEFT JOIN LATERAL (
+            SELECT array_agg(w.week_of_month ORDER BY w.week_of_month) AS weeks_of_month
+            FROM recurring_repeat_weeks_of_month w WHERE w.recurring_info_id = ri.id
+        ) wm ON true
+        LEFT JOIN LATERAL (
+            SELECT array_agg(e.exception_date ORDER BY e.exception_date) AS exception_dates
+            FROM recurring_exceptions e WHERE e.recurring_info_id = ri.id
+        ) ex ON true
+        LEFT JOIN LATERAL (
+            SELECT array_agg(a.id ORDER BY a.id) AS alarm_ids,
+                   array_agg(a.alarm_date ORDER BY a.id) AS alarm_dates,
+                   array_agg(a.alarm_time ORDER BY a.id) AS alarm_times,
+                   array_agg(a.alarm_status ORDER BY a.id) AS alarm_statuses
+            FROM plan_alarms a WHERE a.plan_id = c.id
+        ) al ON true
+        ORDER BY c.start_date, c.start_time
+        """;
+
+    private static final RowMapper<PlanRow> ROW_MAPPER = PlanRowRepositoryImpl::mapRow;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<PlanRow> findPlanRowsInRange(Long userId, LocalDate rangeStart, LocalDate rangeEnd) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("rangeStart", rangeStart)
+                .addValue("rangeEnd", rangeEnd)
+                .addValue("rangeStartMonth", rangeStart.getYear() * 12L + rangeStart.getMonthValue() - 1)
+                .addValue("rangeEndMonth", rangeEnd.getYear() * 12L + rangeEnd.getMonthValue() - 1);
+
+        return jdbcTemplate.query(SELECT_SQL, params, ROW_MAPPER);
+    }
+
+    private static PlanRow mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new PlanRow(
+                rs.getLong("id"),
+                rs.getLong("user_id"),
+                rs.getString("user_name"),
+                rs.getString("plan_name"),
+                rs.getString("plan_content"),
+                toLocalDate(rs.getDate("start_date")),
+                toLocalDate(rs.getDate("end_date")),
+                rs.getTime("start_time") != null ? rs.getTime("start_time").toLocalTime() : null,
+                rs.getTime("end_time") != null ? rs.getTime("end_time").toLocalTime() : null,
+                rs.getBoolean("is_recurring"),
+                toLocalDateTime(rs.getTimestamp("created_at")),
+                toLocalDateTime(rs.getTimestamp("updated_at")),
+                rs.getObject("version", Long.class),
+                mapRecurring(rs),
+                mapAlarms(rs)
+        );
+    }
+
+    private static PlanRow.RecurringRow mapRecurring(ResultSet rs) throws SQLException {
+        Long recurringInfoId = rs.getObject("ri_id", Long.class);
+        if (recurringInfoId == null) {
+            return null;
+        }
+
+        // 요일은 ISO 순서(월~일)로 정렬
+        List<DayOfWeek> weekdays = toList(rs.getArray("weekdays"), (String value) -> DayOfWeek.valueOf(value));
+        weekdays.sort(null);
+
+        return new PlanRow.RecurringRow(
+                recurringInfoId,
+                rs.getString("repeat_unit") != null ? RepeatUnit.valueOf(rs.getString("repeat_unit")) : null,
+                rs.getObject("repeat_interval", Integer.class),
+                rs.getObject("repeat_day_of_month", Integer.class),
+                rs.getObject("repeat_month", Integer.class),
+                rs.getObject("repeat_day_of_year", Integer.class),
+                toLocalDate(rs.getDate("ri_start_date")),
+                toLocalDate(rs.getDate("ri_end_date")),
+                weekdays,
+                toList(rs.getArray("weeks_of_month"), (Integer value) -> value),
+                toList(rs.getArray("exception_dates"), (Date value) -> value.toLocalDate())
+        );
+    }
+
+    private static List<PlanRow.AlarmRow> mapAlarms(ResultSet rs) throws SQLException {
+        List<Long> ids = toList(rs.getArray("alarm_ids"), (Long value) -> value);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<LocalDate> dates = toList(rs.getArray("alarm_dates"), (Date value) -> value.toLocalDate());
+        List<LocalTime> times = toList(rs.getArray("alarm_times"), (Time value) -> value.toLocalTime());
+        List<PlanAlarm.AlarmStatus> statuses = toList(rs.getArray("alarm_statuses"), (String value) -> PlanAlarm.AlarmStatus.valueOf(value));
+
+        List<PlanRow.AlarmRow> alarms = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            alarms.add(new PlanRow.AlarmRow(ids.get(i), dates.get(i), times.get(i), statuses.get(i)));
+        }
+        return alarms;
+    }
+
+    /**
+     * SQL 배열을 변환된 List로 읽기 (NULL 배열은 빈 목록)
+     */
+    @SuppressWarnings("unchecked")
+    private static <T, R> List<R> toList(Array array, Function<T, R> converter) throws SQLException {
+        List<R> result = new ArrayList<>();
+        if (array == null) {
+            return result;
+        }
+        try {
+            for (Object element : (Object[]) array.getArray()) {
+                if (element != null) {
+                    result.add(converter.apply((T) element));
+                }
+            }
+        } finally {
+            array.free();
+        }
+        return result;
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date != null ? date.toLocalDate() : null;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -1,12 +1,18 @@
 package org.example.calendar.plan.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.calendar.plan.entity.RecurringInfo;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * RecurringInfo 엔티티에 대한 데이터 접근 계층
  * 
@@ -15,20 +21,32 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface RecurringInfoRepository extends JpaRepository<RecurringInfo, Long> {
+
+    /**
+     * 여러 RecurringInfo의 예외 날짜 일괄 조회 (월별/기간 조회 1회당 1쿼리)
+     * 결과: [recurringInfoId(Long), exceptionDate(LocalDate)], ID와 날짜 오름차순
+     */
+    @Query("SELECT r.id, e FROM RecurringInfo r JOIN r.exceptionDates e " +
+           "WHERE r.id IN :recurringInfoIds ORDER BY r.id, e")
+    List<Object[]> findExceptionDatesByRecurringInfoIds(@Param("recurringInfoIds") Collection<Long> recurringInfoIds);
     
     /**
      * RecurringInfo와 관련된 모든 ElementCollection 데이터 삭제
      * orphanRemoval이 제대로 작동하지 않을 때 사용
+     * (영향 테이블을 지정하여 2차 캐시 리전을 무효화하지 않음)
      */
     @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "recurring_repeat_weekdays"))
     @Query(value = "DELETE FROM recurring_repeat_weekdays WHERE recurring_info_id = :recurringInfoId", nativeQuery = true)
     void deleteWeekdaysByRecurringInfoId(@Param("recurringInfoId") Long recurringInfoId);
     
     @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "recurring_repeat_weeks_of_month"))
     @Query(value = "DELETE FROM recurring_repeat_weeks_of_month WHERE recurring_info_id = :recurringInfoId", nativeQuery = true)
     void deleteWeeksOfMonthByRecurringInfoId(@Param("recurringInfoId") Long recurringInfoId);
     
     @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "recurring_exceptions"))
     @Query(value = "DELETE FROM recurring_exceptions WHERE recurring_info_id = :recurringInfoId", nativeQuery = true)
     void deleteExceptionsByRecurringInfoId(@Param("recurringInfoId") Long recurringInfoId);
 }
@@ -0,0 +1,76 @@
+package org.example.calendar.plan.repository.projection;
+
+import org.example.calendar.plan.entity.PlanAlarm;
+import org.example.calendar.plan.enums.RepeatUnit;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * 월별/기간 조회 전용 읽기 모델 (계획 1행)
+ *
+ * <p>JDBC 프로젝션으로 한 번에 읽은 불변 레코드입니다. 반복 요일/주차/예외 날짜와 알람은
+ * SQL의 array_agg로 모아 함께 읽으므로, 영속성 컨텍스트, 변경 감지 스냅샷, 프록시가 없습니다.</p>
+ *
+ * @param recurring 반복 정보 (반복 설정이 없으면 null)
+ * @param alarms 알람 목록 (ID 순)
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+public record PlanRow(
+        Long id,
+        Long userId,
+        String userName,
+        String planName,
+        String planContent,
+        LocalDate startDate,
+        LocalDate endDate,
+        LocalTime startTime,
+        LocalTime endTime,
+        Boolean isRecurring,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long version,
+        RecurringRow recurring,
+        List<AlarmRow> alarms
+) {
+
+    public boolean isRecurringPlan() {
+        return Boolean.TRUE.equals(isRecurring);
+    }
+
+    /**
+     * 반복 정보 읽기 모델
+     *
+     * @param exceptionDates 예외 날짜 (오름차순)
+     */
+    public record RecurringRow(
+            Long id,
+            RepeatUnit repeatUnit,
+            Integer repeatInterval,
+            Integer repeatDayOfMonth,
+            Integer repeatMonth,
+            Integer repeatDayOfYear,
+            LocalDate startDate,
+            LocalDate endDate,
+            List<DayOfWeek> repeatWeekdays,
+            List<Integer> repeatWeeksOfMonth,
+            List<LocalDate> exceptionDates
+    ) {
+    }
+
+    /**
+     * 알람 읽기 모델
+     */
+    public record AlarmRow(
+            Long id,
+            LocalDate alarmDate,
+            LocalTime alarmTime,
+            PlanAlarm.AlarmStatus alarmStatus
+    ) {
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.calendar.plan.service;
+
+import org.example.calendar.plan.dto.response.PlanResponse;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 월별 계획 캐시 항목 (Redis/로컬 캐시 공통)
+ *
+ * <p>계획 목록과 함께 계산에 걸린 시간과 만료 시각을 보관하여
+ * 만료 전에 미리 다시 계산할지(XFetch) 판단합니다.</p>
+ *
+ * @param plans 월별 계획 목록
+ * @param computeMillis DB 조회 및 반복 일정 전개에 걸린 시간 (밀리초, 알 수 없으면 0)
+ * @param expiresAt Redis 만료 시각 (epoch 밀리초)
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+public record CachedMonthlyPlans(List<PlanResponse> plans, long computeMillis, long expiresAt) {
+
+    /**
+     * 조기 갱신 여부 (XFetch)
+     *
+     * <p>now - computeMillis × beta × ln(rand) ≥ expiresAt 이면 갱신합니다.
+     * 만료가 가까울수록, 계산 비용이 클수록 확률이 높아지므로
+     * 자주 읽히는 키는 만료 전에 한 요청이 갱신을 시작하게 됩니다.</p>
+     *
+     * @param beta 조기 갱신 강도 (1.0 기본, 클수록 일찍 갱신)
+     * @param now 현재 시각 (epoch 밀리초)
+     */
+    public boolean shouldRefreshEarly(double beta, long now) {
+        if (computeMillis <= 0) {
+            return false;
+        }
+        double random = ThreadLocalRandom.current().nextDouble();
+        return now - computeMillis * beta * Math.log(random) >= expiresAt;
+    }
+}
@@ -1,31 +1,91 @@
 package org.example.calendar.plan.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.example.calendar.common.datasource.DataSourceRoutingContext;
+import org.example.calendar.common.datasource.ReadYourWritesTracker;
 import org.example.calendar.plan.dto.response.PlanResponse;
+import org.example.calendar.plan.service.cache.BinaryMonthlyPlansCodec;
+import org.example.calendar.plan.service.cache.JsonMonthlyPlansCodec;
+import org.example.calendar.plan.service.cache.MonthlyPlansCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 /**
  * Plan 캐시 관리 서비스
- * 
+ *
  * <h3>캐시 전략</h3>
  * <ul>
  *   <li><strong>월별 캐시</strong>: Cache-Aside 패턴으로 월별 계획 캐싱</li>
- *   <li><strong>TTL 관리</strong>: 24시간 후 자동 만료</li>
- *   <li><strong>무효화</strong>: 계획 CUD 시 관련 캐시 삭제</li>
+ *   <li><strong>2단계 캐시</strong>: 로컬(Caffeine, 역직렬화된 목록) → Redis(plan.cache.codec.format 형식) → DB</li>
+ *   <li><strong>TTL 관리</strong>: Redis 24시간, 로컬은 plan.cache.local.ttl (무효화 메시지 유실 대비)</li>
+ *   <li><strong>복제 지연 대비</strong>: 사용자가 read-your-writes window 안에 썼으면 기본 DB에서 채우고,
+ *       window는 지났지만 복제 지연 상한(spring.datasource.replica.max-lag) 안이면 복제본에서 채우되
+ *       그 상한만큼만 캐시 (지연된 값이 24시간 남지 않도록, 그 밖에는 복제본 + 24시간)</li>
+ *   <li><strong>세대 확인</strong>: 로컬 미스 시 Redis 스크립트 1회로 세대 번호와 그 세대의 값을 함께 읽음
+ *       (Redis 단계는 무효화 메시지 유실과 무관하게 항상 최신 세대를 읽고, 로컬 캐시를 끈 경우에도 조회당 왕복 1회)</li>
+ *   <li><strong>로컬 항목 확인</strong>: 로컬 항목은 이 인스턴스가 아는 세대 번호가 plan.cache.local.generation-ttl 이내에
+ *       확인된 경우에만 사용 (무효화 메시지가 유실되어도 그 시간 뒤에는 Redis에서 세대를 다시 확인,
+ *       세대가 그대로면 값은 다시 받지 않음)</li>
+ *   <li><strong>조기 갱신</strong>: 만료가 가까운 항목을 읽으면 계산 비용에 비례한 확률(XFetch)로
+ *       기존 값을 반환하면서 백그라운드에서 다시 계산 (자주 읽히는 월은 만료로 인한 DB 조회를 겪지 않음)</li>
+ *   <li><strong>무효화</strong>: 계획 CUD 시 사용자의 세대 번호를 INCR 1회로 올림 (키를 지우지 않고, 이전 세대 키는 TTL로 만료)
+ *       + 무효화 채널로 모든 인스턴스에 새 세대 전파 (로컬 항목은 전파받은 세대보다 오래되었으면 버림)</li>
+ *   <li><strong>single-flight</strong>: 캐시 미스 시 키별로 한 요청만 DB 조회, 같은 인스턴스의 나머지 요청은 결과 대기
+ *       (선택: Redis 락으로 인스턴스 간에도 한 번만 조회)</li>
  * </ul>
- * 
+ *
  * <h3>캐시 키 구조</h3>
  * <ul>
- *   <li><strong>월별 계획</strong>: "monthly_plans:{userId}:{year}:{month}"</li>
+ *   <li><strong>월별 계획</strong>: "monthly_plans:{userId}:g{generation}:{year}:{month}"
+ *       (로컬 캐시는 세대 없이 "monthly_plans:{userId}:{year}:{month}", 값에 세대를 함께 보관)</li>
+ *   <li><strong>세대 번호</strong>: "monthly_plans_gen:{userId}" (TTL 없음, 없으면 현재 시각(ms)으로 시작하여 이전 세대와 겹치지 않음)</li>
+ *   <li><strong>무효화 채널</strong>: "plan_cache:invalidate" (메시지: "{userId}:{generation}")</li>
+ *   <li><strong>조회 락</strong>: "lock:monthly_plans:{userId}:g{generation}:{year}:{month}" (인스턴스 간 single-flight 사용 시)</li>
+ * </ul>
+ *
+ * <h3>메트릭</h3>
+ * <ul>
+ *   <li>plan.cache.get{level=local|redis, result=hit|miss}: 단계별 적중/실패 수와 조회 시간 (Redis는 역직렬화 포함)</li>
+ *   <li>cache.size, cache.evictions 등 {cache=monthly_plans_local}: 로컬 캐시 크기/제거 현황</li>
+ *   <li>plan.cache.load{role=leader|follower|remote|fallback}: 캐시 미스 시 직접 조회/대기 결과 사용/다른 인스턴스 결과 사용/대기 실패 후 직접 조회</li>
+ *   <li>plan.cache.load{role=refresh}: 만료 전 백그라운드 갱신</li>
+ *   <li>plan.cache.payload{format=binary|json}: Redis에 저장한 월별 값 크기 (바이트)</li>
  * </ul>
  *
  * @author Calendar Team
@@ -33,90 +93,672 @@ import java.util.List;
  */
 @Service
 @Slf4j
-public class PlanCacheService {
+public class PlanCacheService implements MessageListener {
 
     private final RedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    // 저장 형식 (읽기는 첫 바이트로 형식을 판별하므로 모든 형식 지원)
+    private final List<MonthlyPlansCodec> codecs;
+    private final MonthlyPlansCodec writeCodec;
+    private final DistributionSummary payloadSize;
 
     // 캐시 TTL (24시간)
     private static final Duration CACHE_TTL = Duration.ofHours(24);
-    
+
     // 캐시 키 패턴
-    private static final String MONTHLY_PLANS_KEY = "monthly_plans:%d:%d:%d"; // userId:year:month
+    private static final String MONTHLY_PLANS_KEY = "monthly_plans:%d:g%d:%d:%d"; // userId:generation:year:month
+    private static final String LOCAL_MONTHLY_PLANS_KEY = "monthly_plans:%d:%d:%d"; // userId:year:month
+    private static final String GENERATION_KEY = "monthly_plans_gen:%d"; // userId
+
+    // 세대 번호 조회/증가 (키가 없으면(LRU 제거 포함) 현재 시각으로 시작하여 이전 세대 번호를 다시 쓰지 않음)
+    // 조회는 세대 번호와 그 세대의 월별 값을 함께 반환 ({세대, 값 또는 nil}, 로컬 항목과 세대가 같으면 {세대})
+    // 월별 키를 스크립트 안에서 만들므로 단일 Redis(standalone) 전용 (클러스터에서는 키 슬롯이 다를 수 있음)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ_MONTH_SCRIPT = new DefaultRedisScript<>(
+            "local generation = redis.call('get', KEYS[1]) "
+                    + "if not generation then generation = ARGV[1] redis.call('set', KEYS[1], generation) end "
+                    + "if generation == ARGV[4] then return {generation} end "
+                    + "return {generation, redis.call('get', ARGV[2] .. generation .. ARGV[3])}",
+            List.class);
+    private static final RedisScript<Long> INCREMENT_GENERATION_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then return redis.call('incr', KEYS[1]) end "
+                    + "redis.call('set', KEYS[1], ARGV[1]) return tonumber(ARGV[1])",
+            Long.class);
+    private static final long MAX_LOCAL_GENERATIONS = 100_000;
+
+    // 로컬 캐시 무효화 채널
+    private static final String INVALIDATION_CHANNEL = "plan_cache:invalidate";
+    private static final String LOCAL_CACHE_NAME = "monthly_plans_local";
+
+    // 인스턴스 간 single-flight 락 (토큰이 같을 때만 해제)
+    private static final String LOAD_LOCK_PREFIX = "lock:";
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    // 로컬 캐시 (비활성화 시 null)
+    private final Cache<String, CacheSlot> localCache;
+    private final Cache<Long, Long> localGenerations;
+
+    private final Timer localHitTimer;
+    private final Timer localMissTimer;
+    private final Timer redisHitTimer;
+    private final Timer redisMissTimer;
+
+    // 진행 중인 월별 조회 (키별 1개)
+    private final ConcurrentMap<String, CompletableFuture<List<PlanResponse>>> inFlightLoads = new ConcurrentHashMap<>();
+
+    private final Counter leaderLoads;
+    private final Counter followerLoads;
+    private final Counter remoteLoads;
+    private final Counter fallbackLoads;
+    private final Counter refreshLoads;
+
+    @Value("${plan.cache.single-flight.wait-timeout:3s}")
+    private Duration loadWaitTimeout;
+
+    @Value("${plan.cache.single-flight.distributed:false}")
+    private boolean distributedLoadLock;
+
+    @Value("${plan.cache.single-flight.lock-ttl:5s}")
+    private Duration loadLockTtl;
+
+    @Value("${plan.cache.single-flight.poll-interval:50ms}")
+    private Duration loadPollInterval;
+
+    @Value("${plan.cache.refresh-ahead.enabled:true}")
+    private boolean refreshAheadEnabled;
+
+    @Value("${plan.cache.refresh-ahead.beta:1.0}")
+    private double refreshAheadBeta;
+
+    @Value("${plan.cache.refresh-ahead.pool-size:2}")
+    private int refreshPoolSize;
+
+    @Value("${plan.cache.refresh-ahead.queue-capacity:100}")
+    private int refreshQueueCapacity;
+
+    // 조기 갱신 실행기 (비활성화 시 null)
+    private ThreadPoolTaskExecutor refreshExecutor;
 
     /**
-     * ObjectMapper 생성자 주입 시 설정
+     * 저장 형식(코덱), 로컬 캐시, 메트릭 설정
+     *
+     * @throws IllegalArgumentException plan.cache.codec.format이 지원하지 않는 형식인 경우
      */
-    public PlanCacheService(RedisTemplate<String, String> redisTemplate) {
+    public PlanCacheService(RedisTemplate<String, String> redisTemplate,
+                            RedisTemplate<String, byte[]> binaryRedisTemplate,
+                            RedisMessageListenerContainer listenerContainer,
+                            ReadYourWritesTracker readYourWritesTracker,
+                            MeterRegistry meterRegistry,
+                            @Value("${plan.cache.codec.format:binary}") String codecFormat,
+                            @Value("${plan.cache.codec.compress-threshold:1024}") int compressThreshold,
+                            @Value("${plan.cache.local.enabled:true}") boolean localEnabled,
+                            @Value("${plan.cache.local.max-weight:200000}") long localMaxWeight,
+                            @Value("${plan.cache.local.ttl:10m}") Duration localTtl,
+                            @Value("${plan.cache.local.generation-ttl:5s}") Duration generationTtl) {
         this.redisTemplate = redisTemplate;
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.readYourWritesTracker = readYourWritesTracker;
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        this.codecs = List.of(
+                new BinaryMonthlyPlansCodec(compressThreshold),
+                new JsonMonthlyPlansCodec(objectMapper));
+        this.writeCodec = codecs.stream()
+                .filter(codec -> codec.name().equals(codecFormat))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 캐시 형식입니다: " + codecFormat));
+        this.payloadSize = DistributionSummary.builder("plan.cache.payload")
+                .description("Redis에 저장한 월별 계획 캐시 값 크기")
+                .baseUnit("bytes")
+                .tag("format", writeCodec.name())
+                .register(meterRegistry);
+
+        // 월마다 계획 수가 크게 다르므로 항목 수가 아니라 인스턴스 수(+1)로 크기 제한
+        this.localCache = localEnabled
+                ? Caffeine.newBuilder()
+                        .maximumWeight(localMaxWeight)
+                        .weigher((String key, CacheSlot slot) -> slot.entry().plans().size() + 1)
+                        .expireAfterWrite(localTtl)
+                        .recordStats()
+                        .build()
+                : null;
+        // 사용자별 최근 확인한 세대 번호 (로컬 항목 유효성 판단용, 무효화 메시지와 Redis 조회로 갱신)
+        // 만료되면 로컬 항목을 쓰기 전에 Redis에서 다시 확인 (Redis 키를 만들 때는 쓰지 않음)
+        this.localGenerations = localEnabled
+                ? Caffeine.newBuilder()
+                        .maximumSize(MAX_LOCAL_GENERATIONS)
+                        .expireAfterWrite(generationTtl)
+                        .<Long, Long>build()
+                : null;
+        if (localCache != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, localCache, LOCAL_CACHE_NAME);
+        }
+
+        this.localHitTimer = lookupTimer(meterRegistry, "local", "hit");
+        this.localMissTimer = lookupTimer(meterRegistry, "local", "miss");
+        this.redisHitTimer = lookupTimer(meterRegistry, "redis", "hit");
+        this.redisMissTimer = lookupTimer(meterRegistry, "redis", "miss");
+
+        this.leaderLoads = loadCounter(meterRegistry, "leader");
+        this.followerLoads = loadCounter(meterRegistry, "follower");
+        this.remoteLoads = loadCounter(meterRegistry, "remote");
+        this.fallbackLoads = loadCounter(meterRegistry, "fallback");
+        this.refreshLoads = loadCounter(meterRegistry, "refresh");
+    }
+
+    /**
+     * 다른 인스턴스의 무효화 메시지 구독 (로컬 캐시 사용 시) 및 조기 갱신 실행기 생성
+     */
+    @PostConstruct
+    public void init() {
+        if (localCache != null) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+        }
+
+        if (refreshAheadEnabled) {
+            refreshExecutor = new ThreadPoolTaskExecutor();
+            refreshExecutor.setCorePoolSize(refreshPoolSize);
+            refreshExecutor.setMaxPoolSize(refreshPoolSize);
+            refreshExecutor.setQueueCapacity(refreshQueueCapacity);
+            refreshExecutor.setThreadNamePrefix("plan-cache-refresh-");
+            refreshExecutor.initialize();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdown();
+        }
     }
 
     /**
-     * 월별 계획 캐시 조회
-     * 
+     * 월별 계획 조회 (캐시 → 없으면 키별 single-flight로 loader 1회 실행)
+     *
+     * <ul>
+     *   <li>같은 키를 처음 놓친 요청(leader)만 loader를 실행하고 결과를 캐시에 저장</li>
+     *   <li>같은 인스턴스의 나머지 요청(follower)은 leader의 결과를 기다림 (최대 wait-timeout)</li>
+     *   <li>인스턴스 간 single-flight 사용 시 leader는 Redis 락을 잡고, 락을 못 잡으면 다른 인스턴스가 채운 캐시를 기다림</li>
+     *   <li>대기 시간 초과, leader 실패, Redis 오류 시에는 직접 loader를 실행 (응답 지연보다 중복 조회를 허용)</li>
+     *   <li>캐시 적중 시 만료가 가까우면 기존 값을 반환하고 백그라운드에서 loader를 실행 (조기 갱신)</li>
+     * </ul>
+     *
      * @param userId 사용자 ID
      * @param year 년도
      * @param month 월
-     * @return 캐시된 계획 목록 (Cache Miss시 null)
+     * @param loader 캐시 미스 시 DB 조회 및 반복 일정 전개
+     * @return 월별 계획 목록
      */
-    public List<PlanResponse> getMonthlyPlansFromCache(Long userId, int year, int month) {
-        String cacheKey = String.format(MONTHLY_PLANS_KEY, userId, year, month);
-        
-        try {
-            String cachedData = redisTemplate.opsForValue().get(cacheKey);
-            
-            if (cachedData == null) {
-                return null;
+    public List<PlanResponse> getOrLoadMonthlyPlans(Long userId, int year, int month,
+                                                    Supplier<List<PlanResponse>> loader) {
+        CacheSlot slot = lookup(userId, year, month);
+        MonthKey key = slot.key();
+        CachedMonthlyPlans cached = slot.entry();
+        if (cached != null) {
+            if (refreshExecutor != null && cached.shouldRefreshEarly(refreshAheadBeta, System.currentTimeMillis())) {
+                scheduleRefresh(key, cached, loader);
             }
+            return cached.plans();
+        }
+
+        String cacheKey = key.redisKey();
+        CompletableFuture<List<PlanResponse>> flight = new CompletableFuture<>();
+        CompletableFuture<List<PlanResponse>> existing = inFlightLoads.putIfAbsent(cacheKey, flight);
+        if (existing != null) {
+            return awaitFlight(existing, loader);
+        }
+
+        try {
+            List<PlanResponse> plans = loadAsLeader(key, loader);
+            flight.complete(plans);
+            return plans;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(cacheKey, flight);
+        }
+    }
+
+    /**
+     * 사용자의 월별 캐시 전체 무효화 (세대 번호 INCR 1회, 변경된 월 수와 무관)
+     *
+     * <p>트랜잭션 안에서 호출하면 커밋 후에 세대를 올립니다.
+     * 커밋 전에 올리면 다른 요청이 새 세대 키에 커밋 전 데이터를 캐시할 수 있기 때문입니다.
+     * 롤백되면 무효화하지 않습니다.</p>
+     *
+     * @param userId 사용자 ID
+     */
+    public void evictMonthlyPlansCache(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    incrementGeneration(userId);
+                }
+            });
+            return;
+        }
+        incrementGeneration(userId);
+    }
 
-            List<PlanResponse> plans = objectMapper.readValue(cachedData, new TypeReference<List<PlanResponse>>() {});
+    /**
+     * 다른 인스턴스(또는 자신)가 보낸 무효화 메시지 처리
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        try {
+            applyGeneration(Long.parseLong(body.substring(0, separator)), Long.parseLong(body.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed plan cache invalidation: message={}", body);
+        }
+    }
+
+    // ========== single-flight ==========
 
+    /**
+     * 같은 인스턴스의 진행 중인 조회 결과 대기 (실패 시 직접 조회)
+     */
+    private List<PlanResponse> awaitFlight(CompletableFuture<List<PlanResponse>> flight,
+                                           Supplier<List<PlanResponse>> loader) {
+        try {
+            List<PlanResponse> plans = flight.get(loadWaitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            followerLoads.increment();
             return plans;
-            
-        } catch (JsonProcessingException e) {
-            log.error("Failed to deserialize cached monthly plans: userId={}, year={}, month={}", 
-                    userId, year, month, e);
-            
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.debug("Monthly plan load wait failed, loading directly", e);
+        }
+
+        fallbackLoads.increment();
+        return loader.get();
+    }
+
+    /**
+     * leader 조회 (인스턴스 간 single-flight 사용 시 Redis 락)
+     */
+    private List<PlanResponse> loadAsLeader(MonthKey key, Supplier<List<PlanResponse>> loader) {
+        String lockKey = LOAD_LOCK_PREFIX + key.redisKey();
+        String token = distributedLoadLock ? tryLock(lockKey) : null;
+
+        // 다른 인스턴스가 조회 중이면 그 결과가 캐시에 저장되기를 기다림
+        if (distributedLoadLock && token == null) {
+            List<PlanResponse> plans = awaitRemoteLoad(key);
+            if (plans != null) {
+                remoteLoads.increment();
+                return plans;
+            }
+            fallbackLoads.increment();
+        } else {
+            leaderLoads.increment();
+        }
+
+        try {
+            return loadAndStore(key, loader);
+        } finally {
+            if (token != null) {
+                releaseLock(lockKey, token);
+            }
+        }
+    }
+
+    /**
+     * loader 실행 후 계산 시간과 함께 캐시 저장
+     * 조회 도중 무효화되었으면 이전 세대 키에 저장되므로 이후 요청은 읽지 않음
+     *
+     * <p>최근 쓰기 상태에 따라 읽을 DB와 TTL을 정합니다 (복제본을 쓰지 않으면 항상 마지막 경우).</p>
+     * <ul>
+     *   <li>window 안: 기본 DB에서 조회, 24시간</li>
+     *   <li>max-lag 안: 복제본에서 조회, max-lag 동안만 캐시 (복제본이 아직 이전 값일 수 있음)</li>
+     *   <li>그 밖: 복제본에서 조회, 24시간</li>
+     * </ul>
+     */
+    private List<PlanResponse> loadAndStore(MonthKey key, Supplier<List<PlanResponse>> loader) {
+        ReadYourWritesTracker.RecentWrite recentWrite = readYourWritesTracker.recentWrite(key.userId());
+
+        long startedAt = System.nanoTime();
+        List<PlanResponse> plans = recentWrite == ReadYourWritesTracker.RecentWrite.WITHIN_WINDOW
+                ? DataSourceRoutingContext.callOnPrimary(loader)
+                : loader.get();
+        long computeMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+
+        Duration ttl = recentWrite == ReadYourWritesTracker.RecentWrite.WITHIN_MAX_LAG
+                ? readYourWritesTracker.getMaxLag()
+                : CACHE_TTL;
+        store(key, plans, computeMillis, ttl);
+        return plans;
+    }
+
+    // ========== 조기 갱신 ==========
+
+    /**
+     * 백그라운드 갱신 예약 (이미 조회/갱신 중인 키는 건너뜀)
+     * 갱신 중 캐시 미스가 난 요청은 일반 single-flight처럼 갱신 결과를 기다림
+     */
+    private void scheduleRefresh(MonthKey key, CachedMonthlyPlans seen, Supplier<List<PlanResponse>> loader) {
+        String cacheKey = key.redisKey();
+        CompletableFuture<List<PlanResponse>> flight = new CompletableFuture<>();
+        if (inFlightLoads.putIfAbsent(cacheKey, flight) != null) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> refresh(key, seen, loader, flight));
+        } catch (TaskRejectedException e) {
+            // 대기열이 가득 차면 이번 갱신은 포기 (다음 읽기에서 다시 판단)
+            inFlightLoads.remove(cacheKey, flight);
+            flight.completeExceptionally(e);
+            log.debug("Monthly plan refresh rejected: key={}", cacheKey);
+        }
+    }
+
+    /**
+     * 백그라운드 갱신 (갱신 스레드)
+     */
+    private void refresh(MonthKey key, CachedMonthlyPlans seen, Supplier<List<PlanResponse>> loader,
+                         CompletableFuture<List<PlanResponse>> flight) {
+        String cacheKey = key.redisKey();
+        String lockKey = LOAD_LOCK_PREFIX + cacheKey;
+        String token = null;
+        try {
+            // 다른 인스턴스가 이미 갱신했으면 그 값을 로컬 캐시로 가져오고 끝냄
+            CachedMonthlyPlans current = readFromRedis(key);
+            if (current != null && current.expiresAt() > seen.expiresAt()) {
+                flight.complete(current.plans());
+                return;
+            }
+
+            if (distributedLoadLock) {
+                token = tryLock(lockKey);
+                if (token == null) {
+                    flight.completeExceptionally(new IllegalStateException("다른 인스턴스에서 갱신 중입니다"));
+                    return;
+                }
+            }
+
+            refreshLoads.increment();
+            flight.complete(loadAndStore(key, loader));
+
+        } catch (Exception e) {
+            log.warn("Failed to refresh monthly plans cache: key={}", cacheKey, e);
+            flight.completeExceptionally(e);
+        } finally {
+            inFlightLoads.remove(cacheKey, flight);
+            if (token != null) {
+                releaseLock(lockKey, token);
+            }
+        }
+    }
+
+    /**
+     * 조회 락 획득 (SET NX PX)
+     *
+     * @return 락 토큰 (다른 인스턴스가 잡고 있으면 null, Redis 오류 시에도 null이 아닌 값으로 직접 조회 진행)
+     */
+    private String tryLock(String lockKey) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lockKey, token, loadLockTtl);
+            return Boolean.FALSE.equals(acquired) ? null : token;
+        } catch (Exception e) {
+            log.warn("Failed to acquire monthly plan load lock, loading directly: key={}", lockKey, e);
+            return token;
+        }
+    }
+
+    private void releaseLock(String lockKey, String token) {
+        try {
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(lockKey), token);
+        } catch (Exception e) {
+            log.warn("Failed to release monthly plan load lock: key={}", lockKey, e);
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 채운 Redis 캐시 폴링 (최대 wait-timeout)
+     *
+     * @return 캐시된 계획 목록 (시간 초과 시 null)
+     */
+    private List<PlanResponse> awaitRemoteLoad(MonthKey key) {
+        long deadline = System.nanoTime() + loadWaitTimeout.toNanos();
+        try {
+            while (System.nanoTime() < deadline) {
+                Thread.sleep(loadPollInterval.toMillis());
+
+                CachedMonthlyPlans entry = readFromRedis(key);
+                if (entry != null) {
+                    return entry.plans();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Failed to poll monthly plan cache, loading directly: key={}", key.redisKey(), e);
+        }
+        return null;
+    }
+
+    // ========== 저장소 ==========
+
+    /**
+     * 캐시 조회 (로컬 → Redis)
+     *
+     * @return 조회한 세대의 키와 값 (값이 없으면 entry가 null)
+     */
+    private CacheSlot lookup(Long userId, int year, int month) {
+        // 1. 로컬 캐시 (Redis 왕복, 역직렬화 없음)
+        //    최근 확인한 세대가 없거나 그보다 오래된 항목, 만료 시각이 지난 항목(짧은 TTL로 저장한 값)은 미스
+        CacheSlot localSlot = null;
+        if (localCache != null) {
+            long startedAt = System.nanoTime();
+            localSlot = localCache.getIfPresent(String.format(LOCAL_MONTHLY_PLANS_KEY, userId, year, month));
+            if (localSlot != null && localSlot.entry().expiresAt() <= System.currentTimeMillis()) {
+                localSlot = null;
+            }
+            Long knownGeneration = localGenerations.getIfPresent(userId);
+            boolean hit = localSlot != null && knownGeneration != null
+                    && localSlot.key().generation() >= knownGeneration;
+            Timer timer = hit ? localHitTimer : localMissTimer;
+            timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            if (hit) {
+                return localSlot;
+            }
+        }
+
+        // 2. Redis (세대 번호 + 값, 왕복 1회)
+        long startedAt = System.nanoTime();
+        CacheSlot slot = readCurrentFromRedis(userId, year, month, localSlot);
+        Timer timer = slot.entry() != null ? redisHitTimer : redisMissTimer;
+        timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+        return slot;
+    }
+
+    /**
+     * Redis + 로컬 캐시 저장 (만료 시각 = 현재 + ttl, 로컬 항목도 이 시각이 지나면 미스)
+     */
+    private void store(MonthKey key, List<PlanResponse> plans, long computeMillis, Duration ttl) {
+        // 요청 간 공유되므로 수정 불가 목록으로 보관
+        CachedMonthlyPlans entry = new CachedMonthlyPlans(
+                List.copyOf(plans), computeMillis, System.currentTimeMillis() + ttl.toMillis());
+
+        try {
+            byte[] data = writeCodec.encode(entry);
+            binaryRedisTemplate.opsForValue().set(key.redisKey(), data, ttl);
+            payloadSize.record(data.length);
+
+        } catch (IOException e) {
+            log.error("Failed to serialize monthly plans for cache: key={}", key.redisKey(), e);
+        }
+
+        putLocal(key, entry);
+    }
+
+    /**
+     * 현재 세대 번호와 그 세대의 Redis 값을 함께 읽음 (스크립트 1회)
+     * 세대 키가 없으면 현재 시각으로 시작
+     *
+     * @param localSlot 확인이 필요한 로컬 항목 (현재 세대와 같으면 값을 다시 받지 않고 그대로 반환, 없으면 null)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private CacheSlot readCurrentFromRedis(Long userId, int year, int month, CacheSlot localSlot) {
+        List<byte[]> reply = binaryRedisTemplate.execute(READ_MONTH_SCRIPT, RedisSerializer.string(),
+                (RedisSerializer) RedisSerializer.byteArray(),
+                List.of(String.format(GENERATION_KEY, userId)),
+                String.valueOf(System.currentTimeMillis()),
+                "monthly_plans:" + userId + ":g", ":" + year + ":" + month,
+                localSlot != null ? String.valueOf(localSlot.key().generation()) : "");
+
+        long generation = Long.parseLong(new String(reply.get(0), StandardCharsets.UTF_8));
+        applyGeneration(userId, generation);
+
+        if (reply.size() == 1) {
+            return localSlot;
+        }
+        MonthKey key = new MonthKey(userId, year, month, generation);
+        return new CacheSlot(key, toEntry(key, reply.get(1)));
+    }
+
+    /**
+     * 특정 세대의 Redis 캐시 읽기 (조기 갱신, 다른 인스턴스 조회 대기용)
+     */
+    private CachedMonthlyPlans readFromRedis(MonthKey key) {
+        return toEntry(key, binaryRedisTemplate.opsForValue().get(key.redisKey()));
+    }
+
+    /**
+     * Redis 값 역직렬화 및 로컬 캐시 채우기 (없거나 손상되었으면 null)
+     * 저장 형식은 첫 바이트로 판별 (형식을 바꾸는 중에도 기존 값을 읽음)
+     */
+    private CachedMonthlyPlans toEntry(MonthKey key, byte[] cachedData) {
+        if (cachedData == null) {
+            return null;
+        }
+
+        try {
+            CachedMonthlyPlans stored = decode(cachedData);
+            // 요청 간 공유되므로 수정 불가 목록으로 보관
+            CachedMonthlyPlans entry = new CachedMonthlyPlans(
+                    List.copyOf(stored.plans()), stored.computeMillis(), stored.expiresAt());
+            putLocal(key, entry);
+            return entry;
+
+        } catch (IOException e) {
+            log.error("Failed to deserialize cached monthly plans: key={}", key.redisKey(), e);
+
             // 캐시 데이터가 손상된 경우 삭제
-            redisTemplate.delete(cacheKey);
+            redisTemplate.delete(key.redisKey());
             return null;
         }
     }
 
+    private CachedMonthlyPlans decode(byte[] data) throws IOException {
+        for (MonthlyPlansCodec codec : codecs) {
+            if (codec.canDecode(data)) {
+                return codec.decode(data);
+            }
+        }
+        throw new IOException("알 수 없는 캐시 형식입니다");
+    }
+
+    // ========== 로컬 캐시 ==========
+
     /**
-     * 월별 계획 캐시 저장
-     * 
-     * @param userId 사용자 ID
-     * @param year 년도
-     * @param month 월
-     * @param plans 캐시할 계획 목록
+     * 로컬 캐시 저장 (늦게 끝난 이전 세대 조회가 새 세대 항목을 덮어쓰지 않도록 더 큰 세대 유지)
+     */
+    private void putLocal(MonthKey key, CachedMonthlyPlans entry) {
+        if (localCache != null) {
+            CacheSlot slot = new CacheSlot(key, entry);
+            localCache.asMap().merge(key.localKey(), slot,
+                    (current, added) -> current.key().generation() > added.key().generation() ? current : added);
+        }
+    }
+
+    // ========== 세대 번호 ==========
+
+    /**
+     * 세대 번호 증가 및 전파 (이전 세대의 키는 더 이상 읽지 않고 TTL로 만료)
+     */
+    private void incrementGeneration(Long userId) {
+        try {
+            Long generation = redisTemplate.execute(INCREMENT_GENERATION_SCRIPT,
+                    List.of(String.format(GENERATION_KEY, userId)), String.valueOf(System.currentTimeMillis()));
+            applyGeneration(userId, generation);
+            publishInvalidation(userId + ":" + generation);
+        } catch (Exception e) {
+            // 커밋 후에 호출되므로 요청을 실패시키지 않음 (Redis 장애 시 캐시 조회도 실패하여 DB로 읽음)
+            log.error("Failed to invalidate monthly plans cache: userId={}", userId, e);
+        }
+    }
+
+    /**
+     * 로컬 세대 번호 갱신 (메시지 순서가 바뀌어도 더 큰 번호 유지)
      */
-    public void cacheMonthlyPlans(Long userId, int year, int month, List<PlanResponse> plans) {
-        String cacheKey = String.format(MONTHLY_PLANS_KEY, userId, year, month);
-        
+    private void applyGeneration(Long userId, long generation) {
+        if (localGenerations != null) {
+            // 같은 번호도 다시 저장하여 확인 시각(generation-ttl)을 늘림
+            localGenerations.asMap().compute(userId,
+                    (id, current) -> current != null && current > generation ? current : generation);
+        }
+    }
+
+    /**
+     * 모든 인스턴스에 새 세대 전파 (실패해도 Redis 단계는 항상 최신 세대를 읽고 로컬 항목은 TTL로 만료되므로 요청은 실패시키지 않음)
+     */
+    private void publishInvalidation(String message) {
+        if (localCache == null) {
+            return;
+        }
+
         try {
-            String jsonData = objectMapper.writeValueAsString(plans);
-            redisTemplate.opsForValue().set(cacheKey, jsonData, CACHE_TTL);
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (Exception e) {
+            log.warn("Failed to publish plan cache invalidation: message={}", message, e);
+        }
+    }
+
+    /**
+     * 월별 캐시 위치 (세대 포함)
+     */
+    private record MonthKey(Long userId, int year, int month, long generation) {
+
+        String redisKey() {
+            return String.format(MONTHLY_PLANS_KEY, userId, generation, year, month);
+        }
 
-        } catch (JsonProcessingException e) {
-            log.error("Failed to serialize monthly plans for cache: userId={}, year={}, month={}", 
-                    userId, year, month, e);
+        String localKey() {
+            return String.format(LOCAL_MONTHLY_PLANS_KEY, userId, year, month);
         }
     }
 
     /**
-     * 사용자의 특정 월 캐시 삭제
-     * 계획 생성/수정/삭제 시 해당 월 캐시 무효화용
-     * 
-     * @param userId 사용자 ID
-     * @param year 년도
-     * @param month 월
+     * 조회 결과 및 로컬 캐시 값 (어느 세대의 값인지 함께 보관, 미스면 entry가 null)
      */
-    public void evictMonthlyPlansCache(Long userId, int year, int month) {
-        String cacheKey = String.format(MONTHLY_PLANS_KEY, userId, year, month);
-        redisTemplate.delete(cacheKey);
+    private record CacheSlot(MonthKey key, CachedMonthlyPlans entry) {
+    }
+
+    private static Timer lookupTimer(MeterRegistry meterRegistry, String level, String result) {
+        return Timer.builder("plan.cache.get")
+                .description("월별 계획 캐시 단계별 조회")
+                .tag("level", level)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
 
+    private static Counter loadCounter(MeterRegistry meterRegistry, String role) {
+        return Counter.builder("plan.cache.load")
+                .description("월별 계획 캐시 미스 처리 방식 (single-flight)")
+                .tag("role", role)
+                .register(meterRegistry);
     }
 }
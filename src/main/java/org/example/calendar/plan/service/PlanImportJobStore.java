@@ -0,0 +1,79 @@
+package org.example.calendar.plan.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.example.calendar.plan.dto.response.PlanImportJobResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 일정 가져오기 작업 상태 저장소 (Redis)
+ *
+ * <h3>키 구조</h3>
+ * <ul>
+ *   <li>"plan_import:{userId}:{jobId}" → 작업 상태 JSON</li>
+ *   <li>키에 사용자 ID를 포함하므로 다른 사용자의 작업은 조회되지 않음</li>
+ *   <li>TTL(plan.import.job-ttl, 기본 24시간) 후 자동 삭제</li>
+ * </ul>
+ *
+ * <p>Redis에 저장하므로 업로드를 받은 인스턴스와 다른 인스턴스에서도 진행 상태를 조회할 수 있습니다.</p>
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+@Component
+@Slf4j
+public class PlanImportJobStore {
+
+    private static final String JOB_KEY = "plan_import:%d:%s"; // userId:jobId
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${plan.import.job-ttl:24h}")
+    private Duration jobTtl;
+
+    public PlanImportJobStore(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+    }
+
+    /**
+     * 작업 상태 저장 (진행 상태 갱신 시마다 덮어씀)
+     */
+    public void save(Long userId, PlanImportJobResponse job) {
+        String key = String.format(JOB_KEY, userId, job.getJobId());
+
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(job), jobTtl);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize import job: userId={}, jobId={}", userId, job.getJobId(), e);
+        }
+    }
+
+    /**
+     * 작업 상태 조회
+     *
+     * @return 작업 상태 (없거나 만료되었으면 빈 값)
+     */
+    public Optional<PlanImportJobResponse> find(Long userId, String jobId) {
+        String data = redisTemplate.opsForValue().get(String.format(JOB_KEY, userId, jobId));
+        if (data == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(objectMapper.readValue(data, PlanImportJobResponse.class));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to deserialize import job: userId={}, jobId={}", userId, jobId, e);
+            return Optional.empty();
+        }
+    }
+}
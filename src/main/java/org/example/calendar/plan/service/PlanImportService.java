@@ -0,0 +1,248 @@
+package org.example.calendar.plan.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.calendar.common.datasource.ReadYourWritesTracker;
+import org.example.calendar.plan.dto.response.PlanImportJobResponse;
+import org.example.calendar.plan.entity.Plan;
+import org.example.calendar.plan.enums.ImportJobStatus;
+import org.example.calendar.plan.service.ics.IcsComponent;
+import org.example.calendar.plan.service.ics.IcsEventMapper;
+import org.example.calendar.plan.service.ics.IcsReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * iCalendar(ICS) 일정 가져오기 서비스
+ *
+ * <h3>처리 흐름</h3>
+ * <ul>
+ *   <li>업로드 파일을 임시 파일로 옮기고 작업 ID를 바로 반환 (요청 스레드는 파일을 분석하지 않음)</li>
+ *   <li>전용 스레드 풀에서 IcsReader로 VEVENT를 하나씩 읽어 Plan으로 변환 (파일 전체를 메모리에 올리지 않음)</li>
+ *   <li>plan.import.chunk-size건마다 별도 트랜잭션으로 배치 저장 후 진행 상태 갱신</li>
+ *   <li>끝나면 사용자의 월별 캐시를 한 번만 무효화 (반복 계획은 여러 달에 걸치므로 사용자 단위)</li>
+ * </ul>
+ *
+ * <p>표현할 수 없는 일정은 건너뛰고 사유를 작업 상태에 기록합니다.
+ * 파일 형식 오류나 저장 실패 시 작업은 FAILED로 끝나며, 이미 저장된 청크는 유지됩니다.</p>
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PlanImportService {
+
+    private static final int MAX_RECORDED_ERRORS = 20;
+
+    private final IcsEventMapper icsEventMapper;
+    private final PlanImportWriter planImportWriter;
+    private final PlanImportJobStore planImportJobStore;
+    private final PlanCacheService planCacheService;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    @Value("${plan.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${plan.import.max-events:20000}")
+    private int maxEvents;
+
+    @Value("${plan.import.time-zone:Asia/Seoul}")
+    private ZoneId zone;
+
+    @Value("${plan.import.pool-size:2}")
+    private int poolSize;
+
+    @Value("${plan.import.queue-capacity:20}")
+    private int queueCapacity;
+
+    private ThreadPoolTaskExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("plan-import-");
+        executor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 가져오기 작업 시작
+     *
+     * @param file 업로드된 ICS 파일
+     * @param userId 사용자 ID
+     * @return 대기 상태의 작업 (jobId로 진행 상태 조회)
+     * @throws IllegalArgumentException 파일이 비어 있거나 대기 중인 작업이 너무 많은 경우
+     */
+    public PlanImportJobResponse startImport(MultipartFile file, Long userId) {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("가져올 파일이 비어 있습니다");
+        }
+
+        Path tempFile = spool(file);
+        PlanImportJobResponse job = PlanImportJobResponse.builder()
+                .jobId(UUID.randomUUID().toString())
+                .status(ImportJobStatus.PENDING)
+                .fileName(file.getOriginalFilename())
+                .createdAt(LocalDateTime.now())
+                .build();
+        planImportJobStore.save(userId, job);
+
+        // 응답으로 나가는 객체와 작업 스레드가 갱신하는 객체를 분리
+        PlanImportJobResponse progress = PlanImportJobResponse.builder()
+                .jobId(job.getJobId())
+                .status(job.getStatus())
+                .fileName(job.getFileName())
+                .createdAt(job.getCreatedAt())
+                .build();
+
+        try {
+            executor.execute(() -> runImport(progress, userId, tempFile));
+        } catch (TaskRejectedException e) {
+            deleteQuietly(tempFile);
+            finish(job, userId, ImportJobStatus.FAILED, "대기 중인 가져오기 작업이 너무 많습니다");
+            throw new IllegalArgumentException("대기 중인 가져오기 작업이 너무 많습니다. 잠시 후 다시 시도해 주세요");
+        }
+
+        log.info("Plan import queued: userId={}, jobId={}, fileName={}, size={}",
+                userId, job.getJobId(), job.getFileName(), file.getSize());
+        return job;
+    }
+
+    /**
+     * 가져오기 작업 진행 상태 조회
+     *
+     * @throws IllegalArgumentException 작업이 없거나 만료된 경우 (다른 사용자의 작업 포함)
+     */
+    public PlanImportJobResponse getJob(String jobId, Long userId) {
+        return planImportJobStore.find(userId, jobId)
+                .orElseThrow(() -> new IllegalArgumentException("가져오기 작업을 찾을 수 없습니다"));
+    }
+
+    /**
+     * 파일을 읽으며 청크 단위로 저장 (가져오기 스레드)
+     */
+    private void runImport(PlanImportJobResponse job, Long userId, Path file) {
+        job.setStatus(ImportJobStatus.RUNNING);
+        planImportJobStore.save(userId, job);
+
+        ImportJobStatus status = ImportJobStatus.COMPLETED;
+        String message = null;
+
+        List<Plan> chunk = new ArrayList<>(chunkSize);
+        try (IcsReader reader = new IcsReader(Files.newInputStream(file))) {
+            IcsComponent event;
+            while ((event = reader.nextEvent()) != null) {
+                if (job.getProcessedEvents() >= maxEvents) {
+                    throw new IllegalArgumentException("한 번에 가져올 수 있는 일정은 최대 " + maxEvents + "건입니다");
+                }
+                job.setProcessedEvents(job.getProcessedEvents() + 1);
+
+                try {
+                    chunk.add(icsEventMapper.toPlan(event, zone));
+                } catch (IllegalArgumentException e) {
+                    recordSkipped(job, reader.getLineNumber(), event.value("UID"), e.getMessage());
+                }
+
+                if (chunk.size() >= chunkSize) {
+                    flushChunk(job, userId, chunk);
+                }
+            }
+            flushChunk(job, userId, chunk);
+        } catch (IllegalArgumentException e) {
+            status = ImportJobStatus.FAILED;
+            message = e.getMessage();
+        } catch (Exception e) {
+            log.error("Plan import failed: userId={}, jobId={}, imported={}",
+                    userId, job.getJobId(), job.getImportedPlans(), e);
+            status = ImportJobStatus.FAILED;
+            message = "일정을 저장하는 중 오류가 발생했습니다";
+        } finally {
+            deleteQuietly(file);
+        }
+
+        // 캐시 무효화 (작업 전체에서 1회, 완료 상태를 기록하기 전에)
+        if (job.getImportedPlans() > 0) {
+            planCacheService.evictMonthlyPlansCache(userId);
+            readYourWritesTracker.markWritten(userId);
+        }
+
+        finish(job, userId, status, message);
+    }
+
+    /**
+     * 청크 저장 (별도 트랜잭션) 및 진행 상태 갱신
+     */
+    private void flushChunk(PlanImportJobResponse job, Long userId, List<Plan> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        planImportWriter.saveChunk(userId, chunk);
+        job.setImportedPlans(job.getImportedPlans() + chunk.size());
+        chunk.clear();
+
+        planImportJobStore.save(userId, job);
+    }
+
+    private static void recordSkipped(PlanImportJobResponse job, long lineNumber, String uid, String reason) {
+        job.setSkippedEvents(job.getSkippedEvents() + 1);
+        if (job.getErrors().size() < MAX_RECORDED_ERRORS) {
+            job.getErrors().add("line " + lineNumber + (uid != null ? " (" + uid + ")" : "") + ": " + reason);
+        }
+    }
+
+    private void finish(PlanImportJobResponse job, Long userId, ImportJobStatus status, String message) {
+        job.setStatus(status);
+        job.setMessage(message);
+        job.setFinishedAt(LocalDateTime.now());
+        planImportJobStore.save(userId, job);
+
+        log.info("Plan import finished: userId={}, jobId={}, status={}, processed={}, imported={}, skipped={}",
+                userId, job.getJobId(), status, job.getProcessedEvents(), job.getImportedPlans(), job.getSkippedEvents());
+    }
+
+    /**
+     * 업로드 파일을 임시 파일로 이동 (요청이 끝나면 MultipartFile은 정리되므로)
+     */
+    private static Path spool(MultipartFile file) {
+        try {
+            Path tempFile = Files.createTempFile("plan-import-", ".ics");
+            file.transferTo(tempFile);
+            return tempFile;
+        } catch (IOException e) {
+            throw new UncheckedIOException("업로드 파일을 저장하지 못했습니다", e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete import temp file: {}", file, e);
+        }
+    }
+}
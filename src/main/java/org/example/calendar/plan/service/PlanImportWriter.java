@@ -0,0 +1,59 @@
+package org.example.calendar.plan.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.calendar.plan.entity.Plan;
+import org.example.calendar.plan.repository.PlanRepository;
+import org.example.calendar.user.entity.User;
+import org.example.calendar.user.repository.UserRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 가져온 계획 청크 저장
+ *
+ * <h3>동작 방식</h3>
+ * <ul>
+ *   <li>청크마다 별도 트랜잭션 (실패해도 이전 청크는 유지, 트랜잭션/영속성 컨텍스트 크기 고정)</li>
+ *   <li>한 번에 flush하여 plans, recurring_info, 반복 컬렉션, plan_alarms를 테이블별 배치 INSERT</li>
+ *   <li>반복 인스턴스 구체화를 사용하면 저장 직후 반복 계획의 인스턴스를 채움</li>
+ * </ul>
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+@Service
+@RequiredArgsConstructor
+public class PlanImportWriter {
+
+    private final PlanRepository planRepository;
+    private final UserRepository userRepository;
+    private final PlanOccurrenceService planOccurrenceService;
+
+    /**
+     * 계획 청크 저장
+     *
+     * @param userId 소유 사용자 ID
+     * @param plans 저장 전 계획 목록 (반복 정보, 알람 포함)
+     */
+    @Transactional
+    public void saveChunk(Long userId, List<Plan> plans) {
+        // 사용자 엔티티는 FK 값만 필요하므로 조회하지 않음
+        User user = userRepository.getReferenceById(userId);
+        for (Plan plan : plans) {
+            plan.setUser(user);
+        }
+
+        planRepository.saveAll(plans);
+        planRepository.flush();
+
+        if (planOccurrenceService.isEnabled()) {
+            for (Plan plan : plans) {
+                if (plan.isRecurringPlan()) {
+                    planOccurrenceService.rebuild(plan);
+                }
+            }
+        }
+    }
+}
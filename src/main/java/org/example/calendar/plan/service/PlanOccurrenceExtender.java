@@ -0,0 +1,105 @@
+package org.example.calendar.plan.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 반복 인스턴스 구체화 기간 연장 작업
+ *
+ * <h3>동작 방식</h3>
+ * <ul>
+ *   <li>애플리케이션 시작 시 1회 실행 (기존 반복 계획 백필)</li>
+ *   <li>plan.occurrences.reset-on-start=true면 시작 시 기존 인스턴스를 모두 비운 뒤 다시 채움
+ *       (기능이 꺼져 있던 동안 수정된 계획의 오래된 인스턴스 정리, 다시 켜는 배포에서 한 번만 사용)</li>
+ *   <li>이후 cron 주기(plan.occurrences.extend-cron)마다 목표 날짜까지 연장</li>
+ *   <li>배치 단위로 처리하며, 구체화 완료 날짜 이후만 채우므로 여러 번 실행해도 안전 (멱등)</li>
+ * </ul>
+ *
+ * <p>plan.occurrences.enabled=true일 때만 등록되며, 전역 @EnableScheduling 없이
+ * 전용 스케줄러를 사용합니다.</p>
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+@Component
+@ConditionalOnProperty(name = "plan.occurrences.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class PlanOccurrenceExtender {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final PlanOccurrenceService planOccurrenceService;
+    private final ThreadPoolTaskScheduler scheduler = createScheduler();
+
+    @Value("${plan.occurrences.extend-cron:0 30 3 * * *}")
+    private String extendCron;
+
+    @Value("${plan.occurrences.reset-on-start:false}")
+    private boolean resetOnStart;
+
+    /**
+     * 애플리케이션 준비 완료 시 연장 작업 등록 및 1회 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.schedule(this::extendAll, new CronTrigger(extendCron));
+        scheduler.execute(resetOnStart ? this::resetAndExtendAll : this::extendAll);
+    }
+
+    /**
+     * 모든 인스턴스를 비운 뒤 처음부터 다시 채움
+     */
+    public void resetAndExtendAll() {
+        try {
+            planOccurrenceService.resetAll();
+        } catch (Exception e) {
+            log.error("Plan occurrence reset failed", e);
+            return;
+        }
+        extendAll();
+    }
+
+    /**
+     * 모든 반복 계획의 구체화 기간을 목표 날짜까지 연장
+     */
+    public void extendAll() {
+        LocalDate horizonEnd = planOccurrenceService.horizonEnd();
+        int total = 0;
+
+        try {
+            int processed;
+            do {
+                processed = planOccurrenceService.extendBatch(horizonEnd, BATCH_SIZE);
+                total += processed;
+            } while (processed == BATCH_SIZE);
+
+            log.info("Plan occurrences extended: plans={}, until={}", total, horizonEnd);
+        } catch (Exception e) {
+            log.error("Plan occurrence extension failed: processed={}, until={}", total, horizonEnd, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    private static ThreadPoolTaskScheduler createScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("plan-occurrence-");
+        scheduler.initialize();
+        return scheduler;
+    }
+}
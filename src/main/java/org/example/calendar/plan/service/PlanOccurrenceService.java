@@ -0,0 +1,224 @@
+package org.example.calendar.plan.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.calendar.plan.dto.response.PlanResponse;
+import org.example.calendar.plan.entity.Plan;
+import org.example.calendar.plan.entity.PlanOccurrence;
+import org.example.calendar.plan.mapper.PlanMapper;
+import org.example.calendar.plan.repository.PlanOccurrenceRepository;
+import org.example.calendar.plan.repository.PlanRepository;
+import org.example.calendar.plan.service.recurring.RecurrenceRule;
+import org.example.calendar.plan.service.recurring.RecurrenceRuleCache;
+import org.example.calendar.plan.service.recurring.RecurringGeneratorUtils;
+import org.example.calendar.plan.service.recurring.RecurringPlanGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 반복 일정 인스턴스 구체화 서비스 (plan_occurrences)
+ *
+ * <h3>핵심 기능</h3>
+ * <ul>
+ *   <li><strong>쓰기 시 전개</strong>: 계획 생성/수정 시 롤링 기간(기본 24개월)만큼 발생일을 다시 채움</li>
+ *   <li><strong>기간 연장</strong>: 백그라운드 작업이 날짜가 지남에 따라 기간을 연장 (멱등)</li>
+ *   <li><strong>읽기</strong>: 월별 조회를 인덱스 범위 스캔 + 계획 조회로 처리, Generator는 쓰기 시에만 실행</li>
+ *   <li><strong>보완</strong>: 아직 구체화되지 않은 기간은 기존 Java 전개로 처리</li>
+ * </ul>
+ *
+ * <p>plan.occurrences.enabled=false(기본값)이면 읽기는 기존 경로를 사용하고, 쓰기 시에도 구체화 테이블을 건드리지 않습니다.
+ * 꺼져 있는 동안 수정된 계획의 인스턴스는 오래된 값으로 남으므로, 다시 켤 때는
+ * plan.occurrences.reset-on-start=true로 한 번 배포하여 전체를 비우고 다시 채웁니다. ({@link #resetAll()})</p>
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class PlanOccurrenceService {
+
+    private final PlanRepository planRepository;
+    private final PlanOccurrenceRepository planOccurrenceRepository;
+    private final RecurringPlanGenerator recurringPlanGenerator;
+    private final RecurrenceRuleCache recurrenceRuleCache;
+    private final PlanMapper planMapper;
+
+    @Value("${plan.occurrences.enabled:false}")
+    private boolean enabled;
+
+    @Value("${plan.occurrences.horizon-months:24}")
+    private int horizonMonths;
+
+    /**
+     * 구체화 테이블 사용 여부
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 현재 기준 구체화 목표 날짜 (오늘 + 롤링 기간)
+     */
+    public LocalDate horizonEnd() {
+        return LocalDate.now().plusMonths(horizonMonths);
+    }
+
+    // ========== 쓰기 ==========
+
+    /**
+     * 계획의 인스턴스 다시 채우기 (계획 생성/수정 시, 기능이 꺼져 있으면 아무것도 하지 않음)
+     * 반복 계획이 아니게 되었으면 인스턴스만 비움
+     */
+    @Transactional
+    public void rebuild(Plan plan) {
+        if (!enabled) {
+            return;
+        }
+
+        clear(plan.getId());
+
+        if (!plan.isRecurringPlan() || plan.getRecurringInfo() == null) {
+            return;
+        }
+
+        // 수정 직후에는 버전 증가 전이므로 캐시를 거치지 않고 바로 컴파일
+        RecurrenceRule rule = RecurrenceRule.compile(plan);
+        LocalDate horizonEnd = horizonEnd();
+
+        int count = planOccurrenceRepository.insertOccurrences(
+                plan.getUser().getId(), plan.getId(),
+                recurringPlanGenerator.occurrences(rule, plan.getStartDate(), horizonEnd),
+                rule.getDurationDays());
+        planRepository.updateOccurrencesUntil(plan.getId(), horizonEnd);
+
+        log.debug("Plan occurrences rebuilt: planId={}, count={}, until={}", plan.getId(), count, horizonEnd);
+    }
+
+    /**
+     * 계획의 인스턴스 삭제 및 구체화 상태 초기화
+     */
+    @Transactional
+    public void clear(Long planId) {
+        planOccurrenceRepository.deleteByPlanId(planId);
+        planRepository.updateOccurrencesUntil(planId, null);
+    }
+
+    /**
+     * 모든 인스턴스 삭제 및 구체화 상태 초기화 (기능을 다시 켤 때 1회)
+     * 이후 연장 작업이 처음부터 다시 채우며, 그동안 읽기는 Java 전개로 보완됨
+     */
+    @Transactional
+    public void resetAll() {
+        int deleted = planOccurrenceRepository.deleteAllOccurrences();
+        int plans = planRepository.clearAllOccurrencesUntil();
+
+        log.info("Plan occurrences reset: occurrences={}, plans={}", deleted, plans);
+    }
+
+    /**
+     * 인스턴스 기간 연장 (백그라운드 작업 1회분)
+     *
+     * @param horizonEnd 구체화 목표 날짜
+     * @param batchSize 한 번에 처리할 계획 수
+     * @return 처리한 계획 수 (batchSize보다 작으면 더 이상 대상 없음)
+     */
+    @Transactional
+    public int extendBatch(LocalDate horizonEnd, int batchSize) {
+        List<Plan> plans = planRepository.findPlansNeedingOccurrenceExtension(horizonEnd, batchSize);
+
+        for (Plan plan : plans) {
+            // 읽은 버전 그대로일 때만 진행 (연장 중 수정된 계획은 수정 트랜잭션이 다시 채움)
+            if (planRepository.updateOccurrencesUntilIfVersion(plan.getId(), horizonEnd, plan.getVersion()) == 0) {
+                continue;
+            }
+
+            LocalDate from = plan.getOccurrencesUntil() != null
+                    ? plan.getOccurrencesUntil().plusDays(1)
+                    : plan.getStartDate();
+            RecurrenceRule rule = recurrenceRuleCache.getRule(plan);
+            if (rule == null) {
+                continue;
+            }
+
+            planOccurrenceRepository.insertOccurrences(
+                    plan.getUser().getId(), plan.getId(),
+                    recurringPlanGenerator.occurrences(rule, from, horizonEnd),
+                    rule.getDurationDays());
+        }
+
+        return plans.size();
+    }
+
+    // ========== 읽기 ==========
+
+    /**
+     * 기간 내 계획 조회 (구체화 테이블 사용)
+     *
+     * <ol>
+     *   <li>일반 계획: plans 기간 조회</li>
+     *   <li>반복 계획: plan_occurrences 범위 스캔 → 계획 일괄 조회 → 계획당 템플릿 1회 변환</li>
+     *   <li>구체화되지 않은 기간: 기존 Java 전개</li>
+     * </ol>
+     */
+    public List<PlanResponse> findPlansInRange(Long userId, LocalDate rangeStart, LocalDate rangeEnd) {
+        List<PlanResponse> responses = new ArrayList<>();
+
+        // 1. 일반 계획
+        for (Plan plan : planRepository.findSinglePlansInRange(userId, rangeStart, rangeEnd)) {
+            responses.add(planMapper.toPlanResponse(plan));
+        }
+
+        // 2. 구체화된 반복 인스턴스
+        List<PlanOccurrence> occurrences = planOccurrenceRepository.findByUserIdInRange(userId, rangeStart, rangeEnd);
+        if (!occurrences.isEmpty()) {
+            Set<Long> planIds = new LinkedHashSet<>();
+            for (PlanOccurrence occurrence : occurrences) {
+                planIds.add(occurrence.getPlanId());
+            }
+
+            List<Plan> plans = planRepository.findAllById(planIds);
+            recurrenceRuleCache.prepare(plans);
+
+            Map<Long, PlanResponse> templates = new HashMap<>();
+            for (Plan plan : plans) {
+                RecurrenceRule rule = recurrenceRuleCache.getRule(plan);
+                templates.put(plan.getId(), rule != null
+                        ? planMapper.toPlanResponse(plan, rule.getExceptionDates())
+                        : planMapper.toPlanResponse(plan));
+            }
+
+            for (PlanOccurrence occurrence : occurrences) {
+                PlanResponse template = templates.get(occurrence.getPlanId());
+                if (template != null) {
+                    long durationDays = RecurringGeneratorUtils.calculateDaysBetween(
+                            occurrence.getOccurrenceDate(), occurrence.getEndDate());
+                    responses.add(RecurringGeneratorUtils.createPlanInstance(
+                            template, occurrence.getOccurrenceDate(), durationDays));
+                }
+            }
+        }
+
+        // 3. 아직 구체화되지 않은 기간 보완 (구체화 완료 날짜 다음 날부터 전개)
+        List<Plan> unmaterialized = planRepository.findUnmaterializedRecurringPlans(userId, rangeStart, rangeEnd);
+        recurrenceRuleCache.prepare(unmaterialized);
+        for (Plan plan : unmaterialized) {
+            LocalDate from = plan.getOccurrencesUntil() != null && !plan.getOccurrencesUntil().isBefore(rangeStart)
+                    ? plan.getOccurrencesUntil().plusDays(1)
+                    : rangeStart;
+            responses.addAll(recurringPlanGenerator.generateRecurringInstances(plan, from, rangeEnd));
+        }
+
+        return responses;
+    }
+}
@@ -2,24 +2,42 @@ package org.example.calendar.plan.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.calendar.common.datasource.ReadYourWritesTracker;
+import org.example.calendar.plan.dto.request.PlanBatchReq;
 import org.example.calendar.plan.dto.request.PlanCreateReq;
 import org.example.calendar.plan.dto.request.PlanUpdateReq;
+import org.example.calendar.plan.dto.response.PlanBatchResponse;
 import org.example.calendar.plan.dto.response.PlanResponse;
 import org.example.calendar.plan.entity.Plan;
 import org.example.calendar.plan.entity.PlanAlarm;
 import org.example.calendar.plan.entity.RecurringInfo;
+import org.example.calendar.plan.enums.BatchOperationType;
 import org.example.calendar.plan.mapper.PlanMapper;
 import org.example.calendar.plan.repository.PlanRepository;
+import org.example.calendar.plan.repository.projection.PlanRow;
 import org.example.calendar.plan.service.helper.PlanUpdateHelper;
+import org.example.calendar.plan.service.recurring.RecurrenceRuleCache;
+import org.example.calendar.plan.service.recurring.RecurringGeneratorUtils;
+import org.example.calendar.plan.service.recurring.RecurringPlanExpander;
 import org.example.calendar.plan.service.recurring.RecurringPlanGenerator;
+import org.example.calendar.plan.service.recurring.UpcomingOccurrenceMerger;
 import org.example.calendar.user.entity.User;
 import org.example.calendar.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -41,49 +59,170 @@ import java.util.Set;
 @Transactional(readOnly = true)
 public class PlanService {
 
+    private static final String UPDATE_NOT_FOUND = "계획을 찾을 수 없거나 수정 권한이 없습니다";
+    private static final String DELETE_NOT_FOUND = "계획을 찾을 수 없거나 삭제 권한이 없습니다";
+
     private final PlanRepository planRepository;
     private final UserRepository userRepository;
     private final PlanCacheService planCacheService;
     private final AlarmService alarmService;
     private final PlanMapper planMapper;
+    private final RecurringPlanExpander recurringPlanExpander;
     private final RecurringPlanGenerator recurringPlanGenerator;
+    private final UpcomingOccurrenceMerger upcomingOccurrenceMerger;
     private final PlanUpdateHelper planUpdateHelper;
+    private final RecurrenceRuleCache recurrenceRuleCache;
+    private final PlanOccurrenceService planOccurrenceService;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${plan.range.max-days:366}")
+    private int maxRangeDays;
+
+    @Value("${plan.upcoming.max-limit:100}")
+    private int maxUpcomingLimit;
+
+    @Value("${plan.batch.max-operations:500}")
+    private int maxBatchOperations;
 
     /**
      * 월별 계획 조회 (Cache-Aside 패턴)
+     *
+     * <p>캐시 미스 시 같은 월에 대한 동시 요청은 하나만 DB를 조회하고 나머지는 그 결과를 기다립니다.
+     * 대기 중인 요청이 DB 커넥션을 잡지 않도록 트랜잭션은 실제 조회 구간에서만 시작합니다.</p>
+     *
+     * <p>캐시를 채우는 조회는 readOnly 트랜잭션이므로 복제본에서 수행합니다.
+     * 최근 쓰기 직후의 기본 DB 조회와 TTL 조정은 {@link PlanCacheService}가 담당합니다.</p>
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<PlanResponse> getMonthlyPlans(Long userId, int year, int month) {
 
-        // 1. 캐시 조회
-        List<PlanResponse> cachedPlans = planCacheService.getMonthlyPlansFromCache(userId, year, month);
-        if (cachedPlans != null) {
-            return cachedPlans;
-        }
-        
-        // 2. DB 조회
         LocalDate monthStart = LocalDate.of(year, month, 1);
         LocalDate monthEnd = monthStart.withDayOfMonth(monthStart.lengthOfMonth());
-        
-        List<Plan> plans = planRepository.findMonthlyPlans(userId, monthStart, monthEnd);
-        
-        // 3. 반복 일정 인스턴스 생성 및 응답 변환
-        List<PlanResponse> responses = new ArrayList<>();
-        
-        for (Plan plan : plans) {
-            if (plan.isRecurringPlan()) {
-                // 반복 일정의 해당 월 인스턴스들 생성
-                List<PlanResponse> recurringInstances = recurringPlanGenerator.generateRecurringInstances(plan, monthStart, monthEnd);
-                responses.addAll(recurringInstances);
-            } else {
-                // 일반 일정
-                responses.add(planMapper.toPlanResponse(plan));
-            }
+
+        // 캐시 조회 → 미스 시 DB 조회 및 반복 일정 인스턴스 생성 후 캐시 저장
+        return planCacheService.getOrLoadMonthlyPlans(userId, year, month,
+                () -> readOnlyTransaction().execute(status -> loadPlans(userId, monthStart, monthEnd)));
+    }
+
+    /**
+     * 기간별 계획 조회 (주간/분기/연간/일정 목록 뷰)
+     * 
+     * <p>DB 조회 1회 + 반복 계획당 전개 1회로 기간 전체를 처리합니다.
+     * 월 단위 캐시 키와 맞지 않으므로 Redis 캐시는 사용하지 않습니다.</p>
+     *
+     * @throws IllegalArgumentException 기간이 잘못되었거나 최대 조회 일수를 넘는 경우
+     */
+    public List<PlanResponse> getPlansInRange(Long userId, LocalDate from, LocalDate to) {
+
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("조회 시작일과 종료일은 필수입니다");
         }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("조회 종료일은 시작일 이후여야 합니다");
+        }
+        if (ChronoUnit.DAYS.between(from, to) + 1 > maxRangeDays) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + maxRangeDays + "일까지 가능합니다");
+        }
+
+        return loadPlans(userId, from, to);
+    }
+
+    private TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    /**
+     * 기간 내 계획 조회 및 반복 일정 인스턴스 전개
+     */
+    private List<PlanResponse> loadPlans(Long userId, LocalDate rangeStart, LocalDate rangeEnd) {
+        // 구체화 테이블 사용 시 인덱스 범위 스캔으로 처리
+        if (planOccurrenceService.isEnabled()) {
+            return planOccurrenceService.findPlansInRange(userId, rangeStart, rangeEnd);
+        }
+
+        // 엔티티 대신 읽기 모델로 1회 조회 (연관 컬렉션 포함, 영속성 컨텍스트 미사용)
+        List<PlanRow> rows = planRepository.findPlanRowsInRange(userId, rangeStart, rangeEnd);
         
-        // 4. 캐시 저장
-        planCacheService.cacheMonthlyPlans(userId, year, month, responses);
+        // 반복 일정 인스턴스 전개 (반복 계획이 많으면 병렬, 조회 순서 유지)
+        return recurringPlanExpander.expand(rows, rangeStart, rangeEnd);
+    }
+
+    /**
+     * 다가오는 일정 조회 (일반 + 반복 계획, 시간순 최대 limit건)
+     * 
+     * <p>시리즈마다 지연 발생일 커서를 두고 우선순위 큐로 병합하므로,
+     * 월 단위로 전개하지 않으며 limit번째 이후 발생일은 계산하지 않습니다.
+     * 오늘 이전에 시작해 아직 끝나지 않은 여러 날 계획/인스턴스도 포함합니다.</p>
+     *
+     * @throws IllegalArgumentException limit이 1 미만이거나 최대 조회 건수를 넘는 경우
+     */
+    public List<PlanResponse> getUpcomingPlans(Long userId, int limit) {
+
+        if (limit < 1 || limit > maxUpcomingLimit) {
+            throw new IllegalArgumentException("조회 건수는 1~" + maxUpcomingLimit + "건까지 가능합니다");
+        }
+
+        LocalDate today = LocalDate.now();
+        List<Plan> singlePlans = planRepository.findUpcomingSinglePlans(userId, today, limit);
+        List<Plan> recurringPlans = planRepository.findActiveRecurringPlans(userId, today);
+
+        return upcomingOccurrenceMerger.merge(singlePlans, recurringPlans, today, limit);
+    }
+
+    /**
+     * 기준 날짜 다음 계획 인스턴스 조회 (알림, "다음 일정" 위젯, 알람 예약용)
+     * 
+     * <p>반복 계획은 월 단위 전개 없이 다음 발생일을 계산합니다.
+     * 일반 계획은 시작일이 기준 날짜 이후인 경우에만 반환합니다.</p>
+     *
+     * @param after 기준 날짜 (제외)
+     * @return 다음 인스턴스 (없으면 빈 값)
+     * @throws IllegalArgumentException 계획이 없거나 조회 권한이 없는 경우
+     */
+    public Optional<PlanResponse> getNextOccurrence(Long planId, Long userId, LocalDate after) {
+        Plan plan = planRepository.findByIdAndUserId(planId, userId)
+                .orElseThrow(() -> new IllegalArgumentException("계획을 찾을 수 없거나 조회 권한이 없습니다"));
+
+        if (!plan.isRecurringPlan()) {
+            return plan.getStartDate().isAfter(after)
+                    ? Optional.of(planMapper.toPlanResponse(plan))
+                    : Optional.empty();
+        }
+
+        return recurringPlanGenerator.nextOccurrenceAfter(plan, after)
+                .map(date -> toInstance(plan, date));
+    }
+
+    /**
+     * 기준 날짜 이전 계획 인스턴스 조회
+     *
+     * @param before 기준 날짜 (제외)
+     * @return 이전 인스턴스 (없으면 빈 값)
+     * @throws IllegalArgumentException 계획이 없거나 조회 권한이 없는 경우
+     */
+    public Optional<PlanResponse> getPreviousOccurrence(Long planId, Long userId, LocalDate before) {
+        Plan plan = planRepository.findByIdAndUserId(planId, userId)
+                .orElseThrow(() -> new IllegalArgumentException("계획을 찾을 수 없거나 조회 권한이 없습니다"));
+
+        if (!plan.isRecurringPlan()) {
+            return plan.getStartDate().isBefore(before)
+                    ? Optional.of(planMapper.toPlanResponse(plan))
+                    : Optional.empty();
+        }
+
+        return recurringPlanGenerator.previousOccurrenceBefore(plan, before)
+                .map(date -> toInstance(plan, date));
+    }
 
-        return responses;
+    /**
+     * 반복 계획의 특정 발생일 인스턴스 생성
+     */
+    private PlanResponse toInstance(Plan plan, LocalDate date) {
+        return RecurringGeneratorUtils.createPlanInstance(planMapper.toPlanResponse(plan), date,
+                RecurringGeneratorUtils.calculateDaysBetween(plan.getStartDate(), plan.getEndDate()));
     }
 
     /**
@@ -96,6 +235,219 @@ public class PlanService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
         
+        // DB 저장
+        Plan savedPlan = planRepository.save(buildPlan(request, user));
+        
+        // 반복 인스턴스 구체화
+        if (planOccurrenceService.isEnabled() && savedPlan.isRecurringPlan()) {
+            planRepository.flush();
+            planOccurrenceService.rebuild(savedPlan);
+        }
+        
+        // 캐시 무효화 (사용자의 월별 캐시 세대 증가)
+        planCacheService.evictMonthlyPlansCache(userId);
+        readYourWritesTracker.markWritten(userId);
+        
+        // 알람 서비스 연동 (알람이 있는 경우만)
+        if (!savedPlan.getAlarms().isEmpty()) {
+            // TODO: AlarmService.scheduleAlarms() 호출
+            log.info("Alarms scheduled for plan: planId={}, alarmCount={}",
+                    savedPlan.getId(), savedPlan.getAlarms().size());
+        }
+
+        return planMapper.toPlanResponse(savedPlan);
+    }
+
+    /**
+     * 계획 수정
+     */
+    @Transactional
+    public PlanResponse updatePlan(Long planId, PlanUpdateReq request, Long userId) {
+
+        // 권한 확인, 조회 및 수정
+        Plan plan = applyUpdate(planId, request, userId);
+        
+        // DB 저장 및 flush로 즉시 반영 . 요부분 반복계획의 겨우 다른 테이블 명시해야할듯
+        Plan updatedPlan = planRepository.saveAndFlush(plan);
+        
+        // 반복 인스턴스 다시 구체화
+        if (planOccurrenceService.isEnabled()) {
+            planOccurrenceService.rebuild(updatedPlan);
+        }
+        
+        // 캐시 무효화 (기존 날짜와 새 날짜의 월 모두 포함)
+        planCacheService.evictMonthlyPlansCache(userId);
+        readYourWritesTracker.markWritten(userId);
+
+        return planMapper.toPlanResponse(updatedPlan);
+    }
+
+    /**
+     * 계획 삭제
+     */
+    @Transactional
+    public void deletePlan(Long planId, Long userId) {
+        
+        // 권한 확인, 조회 및 삭제 (구체화된 인스턴스는 FK ON DELETE CASCADE로 함께 삭제)
+        applyDelete(planId, userId);
+        
+        // 캐시 무효화
+        planCacheService.evictMonthlyPlansCache(userId);
+        readYourWritesTracker.markWritten(userId);
+    }
+
+    /**
+     * 계획 일괄 생성/수정/삭제 (한 트랜잭션)
+     * 
+     * <ul>
+     *   <li>사용자 조회 1회, 수정/삭제 대상은 작업을 적용하기 전에 IN 조회로 한 번에 (수정용 1회, 삭제용 1회)</li>
+     *   <li>계획 INSERT/UPDATE/DELETE는 마지막에 한 번 flush하여 배치 처리
+     *       (작업 중간에 plans 조회가 없으므로 자동 flush가 일어나지 않음,
+     *       반복 요일/주차를 바꾸는 수정만 해당 컬렉션 테이블 삭제 쿼리 전에 그 테이블의 변경을 flush)</li>
+     *   <li>계획 없음/권한 없음 등 작업별 오류는 해당 작업만 실패로 기록하고 나머지는 계속 처리</li>
+     *   <li>작업 수와 관계없이 캐시 무효화는 마지막에 한 번 (사용자의 월별 캐시 세대 증가)</li>
+     * </ul>
+     *
+     * @return 요청 순서대로의 작업별 결과
+     * @throws IllegalArgumentException 작업 수가 최대 건수를 넘거나 같은 계획을 여러 번 수정/삭제하는 경우
+     */
+    @Transactional
+    public PlanBatchResponse executeBatch(PlanBatchReq request, Long userId) {
+
+        List<PlanBatchReq.Operation> operations = request.getOperations();
+        if (operations.size() > maxBatchOperations) {
+            throw new IllegalArgumentException("일괄 처리는 최대 " + maxBatchOperations + "건까지 가능합니다");
+        }
+
+        // 같은 계획을 여러 번 수정/삭제하면 결과가 작업 순서에 따라 달라지고,
+        // 수정 후 삭제된 계획을 다시 구체화하게 되므로 요청 전체를 거부
+        List<Long> updateIds = new ArrayList<>();
+        List<Long> deleteIds = new ArrayList<>();
+        Set<Long> targetIds = new HashSet<>();
+        for (PlanBatchReq.Operation operation : operations) {
+            if (operation.getType() == BatchOperationType.CREATE) {
+                continue;
+            }
+            if (!targetIds.add(operation.getPlanId())) {
+                throw new IllegalArgumentException("같은 계획을 한 번에 여러 번 수정/삭제할 수 없습니다: planId=" + operation.getPlanId());
+            }
+            (operation.getType() == BatchOperationType.UPDATE ? updateIds : deleteIds).add(operation.getPlanId());
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+
+        // 1. 수정/삭제 대상 일괄 조회 (작업 적용 전이므로 flush 없음)
+        Map<Long, Plan> updateTargets = indexById(updateIds.isEmpty()
+                ? List.of() : planRepository.findAllByIdInAndUserIdForUpdate(updateIds, userId));
+        Map<Long, Plan> deleteTargets = indexById(deleteIds.isEmpty()
+                ? List.of() : planRepository.findAllByIdInAndUserId(deleteIds, userId));
+
+        Plan[] plans = new Plan[operations.size()];
+        Long[] deletedPlanIds = new Long[operations.size()];
+        String[] errors = new String[operations.size()];
+        List<Plan> rebuildTargets = new ArrayList<>();
+
+        // 2. 작업 적용 (INSERT/UPDATE/DELETE는 flush 시점까지 모아 둠)
+        for (int i = 0; i < operations.size(); i++) {
+            PlanBatchReq.Operation operation = operations.get(i);
+            try {
+                switch (operation.getType()) {
+                    case CREATE -> {
+                        Plan plan = planRepository.save(buildPlan(operation.getCreate(), user));
+                        plans[i] = plan;
+                        if (planOccurrenceService.isEnabled() && plan.isRecurringPlan()) {
+                            rebuildTargets.add(plan);
+                        }
+                    }
+                    case UPDATE -> {
+                        Plan plan = applyUpdate(requireTarget(updateTargets, operation.getPlanId(), UPDATE_NOT_FOUND),
+                                operation.getUpdate());
+                        plans[i] = plan;
+                        if (planOccurrenceService.isEnabled()) {
+                            rebuildTargets.add(plan);
+                        }
+                    }
+                    case DELETE -> {
+                        applyDelete(requireTarget(deleteTargets, operation.getPlanId(), DELETE_NOT_FOUND));
+                        deletedPlanIds[i] = operation.getPlanId();
+                    }
+                }
+            } catch (IllegalArgumentException e) {
+                errors[i] = e.getMessage();
+            }
+        }
+
+        // 3. 한 번에 flush (테이블별 배치 INSERT/UPDATE/DELETE)
+        planRepository.flush();
+
+        // 4. 반복 인스턴스 구체화 (기능이 켜진 경우, 생성: 반복 계획만, 수정: 다시 채우거나 비움)
+        for (Plan plan : rebuildTargets) {
+            planOccurrenceService.rebuild(plan);
+        }
+
+        // 5. 작업별 결과
+        List<PlanBatchResponse.ItemResult> results = new ArrayList<>(operations.size());
+        int successCount = 0;
+        for (int i = 0; i < operations.size(); i++) {
+            PlanBatchReq.Operation operation = operations.get(i);
+            PlanBatchResponse.ItemResult.ItemResultBuilder result = PlanBatchResponse.ItemResult.builder()
+                    .index(i)
+                    .type(operation.getType());
+
+            if (errors[i] != null) {
+                results.add(result.success(false).planId(operation.getPlanId()).message(errors[i]).build());
+                continue;
+            }
+
+            successCount++;
+            if (plans[i] != null) {
+                results.add(result.success(true).planId(plans[i].getId())
+                        .plan(planMapper.toPlanResponse(plans[i])).build());
+            } else {
+                results.add(result.success(true).planId(deletedPlanIds[i]).build());
+            }
+        }
+
+        // 6. 캐시 무효화 (작업 수와 관계없이 1회)
+        if (successCount > 0) {
+            planCacheService.evictMonthlyPlansCache(userId);
+            readYourWritesTracker.markWritten(userId);
+        }
+
+        log.info("Plan batch processed: userId={}, operations={}, succeeded={}",
+                userId, operations.size(), successCount);
+
+        return PlanBatchResponse.builder()
+                .successCount(successCount)
+                .failureCount(operations.size() - successCount)
+                .results(results)
+                .build();
+    }
+
+    private static Map<Long, Plan> indexById(List<Plan> plans) {
+        Map<Long, Plan> plansById = new HashMap<>();
+        for (Plan plan : plans) {
+            plansById.put(plan.getId(), plan);
+        }
+        return plansById;
+    }
+
+    /**
+     * 일괄 조회한 대상 중 계획 선택 (없으면 해당 작업만 실패)
+     */
+    private static Plan requireTarget(Map<Long, Plan> targets, Long planId, String notFoundMessage) {
+        Plan plan = targets.get(planId);
+        if (plan == null) {
+            throw new IllegalArgumentException(notFoundMessage);
+        }
+        return plan;
+    }
+
+    /**
+     * 생성 요청으로 Plan 엔티티 구성 (반복 설정, 알람 포함, 저장 전)
+     */
+    private Plan buildPlan(PlanCreateReq request, User user) {
         // Plan 엔티티 생성
         Plan plan = Plan.builder()
                 .planName(request.getPlanName())
@@ -120,34 +472,27 @@ public class PlanService {
             plan.updateAlarms(alarms);
         }
         
-        // DB 저장
-        Plan savedPlan = planRepository.save(plan);
-        
-        // 캐시 무효화 (해당 월)
-        evictRelatedCache(userId, savedPlan.getStartDate(), savedPlan.getEndDate());
-        
-        // 알람 서비스 연동 (알람이 있는 경우만)
-        if (!savedPlan.getAlarms().isEmpty()) {
-            // TODO: AlarmService.scheduleAlarms() 호출
-            log.info("Alarms scheduled for plan: planId={}, alarmCount={}",
-                    savedPlan.getId(), savedPlan.getAlarms().size());
-        }
-
-        return planMapper.toPlanResponse(savedPlan);
+        return plan;
     }
 
     /**
-     * 계획 수정
+     * 권한 확인 후 계획 수정 적용 (flush 전)
      */
-    @Transactional
-    public PlanResponse updatePlan(Long planId, PlanUpdateReq request, Long userId) {
-
+    private Plan applyUpdate(Long planId, PlanUpdateReq request, Long userId) {
+        
         // 권한 확인 및 조회
-        Plan plan = planRepository.findByIdAndUserId(planId, userId)
-                .orElseThrow(() -> new IllegalArgumentException("계획을 찾을 수 없거나 수정 권한이 없습니다"));
+        Plan plan = planRepository.findByIdAndUserIdForUpdate(planId, userId)
+                .orElseThrow(() -> new IllegalArgumentException(UPDATE_NOT_FOUND));
         
-        LocalDate oldStartDate = plan.getStartDate();
-        LocalDate oldEndDate = plan.getEndDate();
+        return applyUpdate(plan, request);
+    }
+
+    /**
+     * 조회한 계획에 수정 적용 (flush 전)
+     * 반복 규칙 캐시를 무효화
+     */
+    private Plan applyUpdate(Plan plan, PlanUpdateReq request) {
+        Long oldRecurringInfoId = plan.getRecurringInfo() != null ? plan.getRecurringInfo().getId() : null;
 
 //         RecurringInfo가 있는 경우 영속성 컨텍스트에 로드되도록 초기화
         if (plan.getRecurringInfo() != null) {
@@ -159,49 +504,32 @@ public class PlanService {
         // 계획 업데이트 (헬퍼 사용)
         planUpdateHelper.updatePlan(plan, request);
         
-        // DB 저장 및 flush로 즉시 반영 . 요부분 반복계획의 겨우 다른 테이블 명시해야할듯
-        Plan updatedPlan = planRepository.saveAndFlush(plan);
-        
-        // 캐시 무효화 (기존 날짜 + 새 날짜)
-        evictRelatedCache(userId, oldStartDate, oldEndDate);
-        evictRelatedCache(userId, updatedPlan.getStartDate(), updatedPlan.getEndDate());
-
-        return planMapper.toPlanResponse(updatedPlan);
+        recurrenceRuleCache.evict(oldRecurringInfoId);
+        return plan;
     }
 
     /**
-     * 계획 삭제
+     * 권한 확인 후 계획 삭제 (flush 전)
      */
-    @Transactional
-    public void deletePlan(Long planId, Long userId) {
+    private void applyDelete(Long planId, Long userId) {
         
         // 권한 확인 및 조회
         Plan plan = planRepository.findByIdAndUserId(planId, userId)
-                .orElseThrow(() -> new IllegalArgumentException("계획을 찾을 수 없거나 삭제 권한이 없습니다"));
-        
-        LocalDate startDate = plan.getStartDate();
-        LocalDate endDate = plan.getEndDate();
+                .orElseThrow(() -> new IllegalArgumentException(DELETE_NOT_FOUND));
         
-        // DB 삭제
-        planRepository.delete(plan);
-        
-        // 캐시 무효화
-        evictRelatedCache(userId, startDate, endDate);
-
-
+        applyDelete(plan);
     }
 
     /**
-     * 관련 캐시 무효화
+     * 조회한 계획 삭제 (flush 전)
+     * 반복 규칙 캐시를 무효화
      */
-    private void evictRelatedCache(Long userId, LocalDate startDate, LocalDate endDate) {
-        // 시작 월부터 종료 월까지 모든 월의 캐시 삭제 (반복 계획 지원)
-        LocalDate current = startDate.withDayOfMonth(1); // 월 첫날로 설정
-        LocalDate endMonth = endDate.withDayOfMonth(1);   // 종료월 첫날로 설정
+    private void applyDelete(Plan plan) {
+        Long recurringInfoId = plan.getRecurringInfo() != null ? plan.getRecurringInfo().getId() : null;
         
-        while (!current.isAfter(endMonth)) {
-            planCacheService.evictMonthlyPlansCache(userId, current.getYear(), current.getMonthValue());
-            current = current.plusMonths(1);
-        }
+        // DB 삭제 (구체화된 인스턴스는 FK ON DELETE CASCADE로 함께 삭제)
+        planRepository.delete(plan);
+        
+        recurrenceRuleCache.evict(recurringInfoId);
     }
 }
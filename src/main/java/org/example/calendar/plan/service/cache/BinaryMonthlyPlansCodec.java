@@ -0,0 +1,563 @@
+package org.example.calendar.plan.service.cache;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.example.calendar.plan.dto.common.AlarmResInfo;
+import org.example.calendar.plan.dto.common.RecurringResInfo;
+import org.example.calendar.plan.dto.response.PlanResponse;
+import org.example.calendar.plan.service.CachedMonthlyPlans;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 바이너리 저장 형식 (중복 제거 + LZ4 압축)
+ *
+ * <h3>구조</h3>
+ * <ul>
+ *   <li>[0] 형식 버전 (1), [1] 플래그 (bit0: LZ4 압축)</li>
+ *   <li>압축 시 [2..5] 압축 전 길이 (int) 다음에 LZ4 블록, 아니면 바로 본문</li>
+ *   <li>본문: computeMillis, expiresAt, 계획 수, 계획 목록</li>
+ * </ul>
+ *
+ * <h3>크기를 줄이는 방법</h3>
+ * <ul>
+ *   <li>정수는 가변 길이(varint), 날짜는 epoch day, 시각은 nano of day로 저장</li>
+ *   <li>null 여부는 계획/알람마다 비트 마스크 하나로 저장</li>
+ *   <li>문자열(제목, 사용자 이름 등)은 처음 나올 때만 저장하고 이후는 번호로 참조</li>
+ *   <li>반복 인스턴스끼리 공유하는 recurringResInfo, alarms 객체는 한 번만 저장하고 번호로 참조
+ *       (읽을 때도 같은 객체를 공유하므로 로컬 캐시 메모리도 줄어듦)</li>
+ *   <li>본문이 compressThreshold 바이트 이상이면 LZ4로 압축 (압축 효과가 없으면 원본 유지)</li>
+ * </ul>
+ *
+ * <p>필드를 추가/변경하면 FORMAT_VERSION을 올리고 이전 버전 읽기를 유지해야 합니다.
+ * 읽을 수 없는 버전의 값은 캐시 미스로 처리됩니다.</p>
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+public class BinaryMonthlyPlansCodec implements MonthlyPlansCodec {
+
+    public static final String NAME = "binary";
+
+    static final byte FORMAT_VERSION = 1;
+
+    private static final int FLAG_LZ4 = 1;
+    private static final int HEADER_LENGTH = 2;
+    private static final int COMPRESSED_HEADER_LENGTH = HEADER_LENGTH + Integer.BYTES;
+
+    // 손상된 값으로 큰 배열을 만들지 않도록 제한
+    private static final int MAX_BODY_LENGTH = 64 * 1024 * 1024;
+
+    // 참조 값: 0 = null, 1 = 새 값이 뒤따름, n >= 2 = (n - 2)번째 값
+    private static final int REF_NULL = 0;
+    private static final int REF_NEW = 1;
+    private static final int REF_OFFSET = 2;
+
+    // 계획 필드 null 마스크
+    private static final int PLAN_ID = 1;
+    private static final int PLAN_START_DATE = 1 << 1;
+    private static final int PLAN_END_DATE = 1 << 2;
+    private static final int PLAN_START_TIME = 1 << 3;
+    private static final int PLAN_END_TIME = 1 << 4;
+    private static final int PLAN_RECURRING = 1 << 5;
+    private static final int PLAN_RECURRING_TRUE = 1 << 6;
+    private static final int PLAN_CREATED_AT = 1 << 7;
+    private static final int PLAN_UPDATED_AT = 1 << 8;
+    private static final int PLAN_USER_ID = 1 << 9;
+
+    // 알람 필드 null 마스크
+    private static final int ALARM_ID = 1;
+    private static final int ALARM_DATE = 1 << 1;
+    private static final int ALARM_TIME = 1 << 2;
+
+    private final int compressThreshold;
+    private final LZ4Compressor compressor;
+    private final LZ4SafeDecompressor decompressor;
+
+    /**
+     * @param compressThreshold 압축할 최소 본문 크기 (바이트)
+     */
+    public BinaryMonthlyPlansCodec(int compressThreshold) {
+        LZ4Factory factory = LZ4Factory.fastestInstance();
+        this.compressThreshold = compressThreshold;
+        this.compressor = factory.fastCompressor();
+        this.decompressor = factory.safeDecompressor();
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public boolean canDecode(byte[] data) {
+        return data.length >= HEADER_LENGTH && data[0] == FORMAT_VERSION;
+    }
+
+    @Override
+    public byte[] encode(CachedMonthlyPlans entry) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(256 + entry.plans().size() * 48);
+        buffer.write(FORMAT_VERSION);
+        buffer.write(0);
+        new Writer(new DataOutputStream(buffer)).writeEntry(entry);
+        byte[] plain = buffer.toByteArray();
+
+        int bodyLength = plain.length - HEADER_LENGTH;
+        if (bodyLength < compressThreshold) {
+            return plain;
+        }
+
+        int maxCompressedLength = compressor.maxCompressedLength(bodyLength);
+        byte[] compressed = new byte[COMPRESSED_HEADER_LENGTH + maxCompressedLength];
+        int compressedLength = compressor.compress(plain, HEADER_LENGTH, bodyLength,
+                compressed, COMPRESSED_HEADER_LENGTH, maxCompressedLength);
+        if (COMPRESSED_HEADER_LENGTH + compressedLength >= plain.length) {
+            return plain;
+        }
+
+        compressed[0] = FORMAT_VERSION;
+        compressed[1] = FLAG_LZ4;
+        compressed[2] = (byte) (bodyLength >>> 24);
+        compressed[3] = (byte) (bodyLength >>> 16);
+        compressed[4] = (byte) (bodyLength >>> 8);
+        compressed[5] = (byte) bodyLength;
+        return Arrays.copyOf(compressed, COMPRESSED_HEADER_LENGTH + compressedLength);
+    }
+
+    @Override
+    public CachedMonthlyPlans decode(byte[] data) throws IOException {
+        if (!canDecode(data)) {
+            throw new IOException("지원하지 않는 캐시 형식입니다");
+        }
+
+        byte[] body = data;
+        int offset = HEADER_LENGTH;
+        int length = data.length - HEADER_LENGTH;
+
+        if ((data[1] & FLAG_LZ4) != 0) {
+            if (data.length < COMPRESSED_HEADER_LENGTH) {
+                throw new EOFException("압축 헤더가 잘렸습니다");
+            }
+            int bodyLength = ((data[2] & 0xFF) << 24) | ((data[3] & 0xFF) << 16)
+                    | ((data[4] & 0xFF) << 8) | (data[5] & 0xFF);
+            if (bodyLength < 0 || bodyLength > MAX_BODY_LENGTH) {
+                throw new IOException("압축 전 길이가 잘못되었습니다: " + bodyLength);
+            }
+
+            body = new byte[bodyLength];
+            try {
+                int decompressed = decompressor.decompress(data, COMPRESSED_HEADER_LENGTH,
+                        data.length - COMPRESSED_HEADER_LENGTH, body, 0, bodyLength);
+                if (decompressed != bodyLength) {
+                    throw new IOException("압축 해제 길이가 맞지 않습니다");
+                }
+            } catch (LZ4Exception e) {
+                throw new IOException("압축 해제에 실패했습니다", e);
+            }
+            offset = 0;
+            length = bodyLength;
+        }
+
+        return new Reader(new DataInputStream(new ByteArrayInputStream(body, offset, length)), length).readEntry();
+    }
+
+    // ========== 쓰기 ==========
+
+    private static final class Writer {
+
+        private final DataOutputStream out;
+        private final Map<String, Integer> strings = new HashMap<>();
+        private final Map<RecurringResInfo, Integer> recurringInfos = new IdentityHashMap<>();
+        private final Map<List<AlarmResInfo>, Integer> alarmLists = new IdentityHashMap<>();
+
+        private Writer(DataOutputStream out) {
+            this.out = out;
+        }
+
+        private void writeEntry(CachedMonthlyPlans entry) throws IOException {
+            writeSignedVarLong(entry.computeMillis());
+            out.writeLong(entry.expiresAt());
+
+            writeVarLong(entry.plans().size());
+            for (PlanResponse plan : entry.plans()) {
+                writePlan(plan);
+            }
+            out.flush();
+        }
+
+        private void writePlan(PlanResponse plan) throws IOException {
+            int mask = 0;
+            if (plan.getId() != null) mask |= PLAN_ID;
+            if (plan.getStartDate() != null) mask |= PLAN_START_DATE;
+            if (plan.getEndDate() != null) mask |= PLAN_END_DATE;
+            if (plan.getStartTime() != null) mask |= PLAN_START_TIME;
+            if (plan.getEndTime() != null) mask |= PLAN_END_TIME;
+            if (plan.getIsRecurring() != null) mask |= PLAN_RECURRING;
+            if (Boolean.TRUE.equals(plan.getIsRecurring())) mask |= PLAN_RECURRING_TRUE;
+            if (plan.getCreatedAt() != null) mask |= PLAN_CREATED_AT;
+            if (plan.getUpdatedAt() != null) mask |= PLAN_UPDATED_AT;
+            if (plan.getUserId() != null) mask |= PLAN_USER_ID;
+            writeVarLong(mask);
+
+            if (plan.getId() != null) writeSignedVarLong(plan.getId());
+            writeString(plan.getPlanName());
+            writeString(plan.getPlanContent());
+            if (plan.getStartDate() != null) writeDate(plan.getStartDate());
+            if (plan.getEndDate() != null) writeDate(plan.getEndDate());
+            if (plan.getStartTime() != null) writeTime(plan.getStartTime());
+            if (plan.getEndTime() != null) writeTime(plan.getEndTime());
+            writeRecurringInfo(plan.getRecurringResInfo());
+            writeAlarms(plan.getAlarms());
+            if (plan.getCreatedAt() != null) writeDateTime(plan.getCreatedAt());
+            if (plan.getUpdatedAt() != null) writeDateTime(plan.getUpdatedAt());
+            if (plan.getUserId() != null) writeSignedVarLong(plan.getUserId());
+            writeString(plan.getUserName());
+        }
+
+        private void writeRecurringInfo(RecurringResInfo info) throws IOException {
+            if (info == null) {
+                writeVarLong(REF_NULL);
+                return;
+            }
+            Integer index = recurringInfos.get(info);
+            if (index != null) {
+                writeVarLong(REF_OFFSET + index);
+                return;
+            }
+            recurringInfos.put(info, recurringInfos.size());
+            writeVarLong(REF_NEW);
+
+            writeString(info.getRepeatUnit());
+            writeNullableInt(info.getRepeatInterval());
+            writeStringList(info.getRepeatWeekdays());
+            writeNullableInt(info.getRepeatDayOfMonth());
+            writeIntList(info.getRepeatWeeksOfMonth());
+            writeNullableInt(info.getRepeatWeekOfMonth());
+            writeNullableInt(info.getRepeatMonth());
+            writeNullableInt(info.getRepeatDayOfYear());
+            writeStringList(info.getExceptionDates());
+            writeString(info.getStartDate());
+            writeString(info.getEndDate());
+            writeString(info.getRepeatDescription());
+        }
+
+        private void writeAlarms(List<AlarmResInfo> alarms) throws IOException {
+            if (alarms == null) {
+                writeVarLong(REF_NULL);
+                return;
+            }
+            Integer index = alarmLists.get(alarms);
+            if (index != null) {
+                writeVarLong(REF_OFFSET + index);
+                return;
+            }
+            alarmLists.put(alarms, alarmLists.size());
+            writeVarLong(REF_NEW);
+
+            writeVarLong(alarms.size());
+            for (AlarmResInfo alarm : alarms) {
+                int mask = 0;
+                if (alarm.getId() != null) mask |= ALARM_ID;
+                if (alarm.getAlarmDate() != null) mask |= ALARM_DATE;
+                if (alarm.getAlarmTime() != null) mask |= ALARM_TIME;
+                writeVarLong(mask);
+
+                if (alarm.getId() != null) writeSignedVarLong(alarm.getId());
+                if (alarm.getAlarmDate() != null) writeDate(alarm.getAlarmDate());
+                if (alarm.getAlarmTime() != null) writeTime(alarm.getAlarmTime());
+                writeString(alarm.getAlarmStatus());
+            }
+        }
+
+        private void writeString(String value) throws IOException {
+            if (value == null) {
+                writeVarLong(REF_NULL);
+                return;
+            }
+            Integer index = strings.get(value);
+            if (index != null) {
+                writeVarLong(REF_OFFSET + index);
+                return;
+            }
+            strings.put(value, strings.size());
+            writeVarLong(REF_NEW);
+
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length);
+            out.write(bytes);
+        }
+
+        private void writeStringList(List<String> values) throws IOException {
+            if (values == null) {
+                writeVarLong(0);
+                return;
+            }
+            writeVarLong(values.size() + 1L);
+            for (String value : values) {
+                writeString(value);
+            }
+        }
+
+        private void writeIntList(List<Integer> values) throws IOException {
+            if (values == null) {
+                writeVarLong(0);
+                return;
+            }
+            writeVarLong(values.size() + 1L);
+            for (Integer value : values) {
+                writeNullableInt(value);
+            }
+        }
+
+        private void writeNullableInt(Integer value) throws IOException {
+            writeVarLong(value == null ? 0 : zigZag(value) + 1);
+        }
+
+        private void writeDate(LocalDate date) throws IOException {
+            writeSignedVarLong(date.toEpochDay());
+        }
+
+        private void writeTime(LocalTime time) throws IOException {
+            writeVarLong(time.toNanoOfDay());
+        }
+
+        private void writeDateTime(LocalDateTime dateTime) throws IOException {
+            writeDate(dateTime.toLocalDate());
+            writeTime(dateTime.toLocalTime());
+        }
+
+        private void writeSignedVarLong(long value) throws IOException {
+            writeVarLong(zigZag(value));
+        }
+
+        private void writeVarLong(long value) throws IOException {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+
+        private static long zigZag(long value) {
+            return (value << 1) ^ (value >> 63);
+        }
+    }
+
+    // ========== 읽기 ==========
+
+    private static final class Reader {
+
+        private final DataInputStream in;
+        private final int length;
+        private final List<String> strings = new ArrayList<>();
+        private final List<RecurringResInfo> recurringInfos = new ArrayList<>();
+        private final List<List<AlarmResInfo>> alarmLists = new ArrayList<>();
+
+        private Reader(DataInputStream in, int length) {
+            this.in = in;
+            this.length = length;
+        }
+
+        private CachedMonthlyPlans readEntry() throws IOException {
+            long computeMillis = readSignedVarLong();
+            long expiresAt = in.readLong();
+
+            int count = readCount();
+            List<PlanResponse> plans = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                plans.add(readPlan());
+            }
+            return new CachedMonthlyPlans(plans, computeMillis, expiresAt);
+        }
+
+        private PlanResponse readPlan() throws IOException {
+            int mask = (int) readVarLong();
+
+            PlanResponse plan = new PlanResponse();
+            if ((mask & PLAN_ID) != 0) plan.setId(readSignedVarLong());
+            plan.setPlanName(readString());
+            plan.setPlanContent(readString());
+            if ((mask & PLAN_START_DATE) != 0) plan.setStartDate(readDate());
+            if ((mask & PLAN_END_DATE) != 0) plan.setEndDate(readDate());
+            if ((mask & PLAN_START_TIME) != 0) plan.setStartTime(readTime());
+            if ((mask & PLAN_END_TIME) != 0) plan.setEndTime(readTime());
+            if ((mask & PLAN_RECURRING) != 0) plan.setIsRecurring((mask & PLAN_RECURRING_TRUE) != 0);
+            plan.setRecurringResInfo(readRecurringInfo());
+            plan.setAlarms(readAlarms());
+            if ((mask & PLAN_CREATED_AT) != 0) plan.setCreatedAt(readDateTime());
+            if ((mask & PLAN_UPDATED_AT) != 0) plan.setUpdatedAt(readDateTime());
+            if ((mask & PLAN_USER_ID) != 0) plan.setUserId(readSignedVarLong());
+            plan.setUserName(readString());
+            return plan;
+        }
+
+        private RecurringResInfo readRecurringInfo() throws IOException {
+            int ref = readRef(recurringInfos.size());
+            if (ref == REF_NULL) {
+                return null;
+            }
+            if (ref >= REF_OFFSET) {
+                return recurringInfos.get(ref - REF_OFFSET);
+            }
+
+            RecurringResInfo info = new RecurringResInfo();
+            info.setRepeatUnit(readString());
+            info.setRepeatInterval(readNullableInt());
+            info.setRepeatWeekdays(readStringList());
+            info.setRepeatDayOfMonth(readNullableInt());
+            info.setRepeatWeeksOfMonth(readIntList());
+            info.setRepeatWeekOfMonth(readNullableInt());
+            info.setRepeatMonth(readNullableInt());
+            info.setRepeatDayOfYear(readNullableInt());
+            info.setExceptionDates(readStringList());
+            info.setStartDate(readString());
+            info.setEndDate(readString());
+            info.setRepeatDescription(readString());
+
+            recurringInfos.add(info);
+            return info;
+        }
+
+        private List<AlarmResInfo> readAlarms() throws IOException {
+            int ref = readRef(alarmLists.size());
+            if (ref == REF_NULL) {
+                return null;
+            }
+            if (ref >= REF_OFFSET) {
+                return alarmLists.get(ref - REF_OFFSET);
+            }
+
+            int count = readCount();
+            List<AlarmResInfo> alarms = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int mask = (int) readVarLong();
+
+                AlarmResInfo alarm = new AlarmResInfo();
+                if ((mask & ALARM_ID) != 0) alarm.setId(readSignedVarLong());
+                if ((mask & ALARM_DATE) != 0) alarm.setAlarmDate(readDate());
+                if ((mask & ALARM_TIME) != 0) alarm.setAlarmTime(readTime());
+                alarm.setAlarmStatus(readString());
+                alarms.add(alarm);
+            }
+
+            alarmLists.add(alarms);
+            return alarms;
+        }
+
+        private String readString() throws IOException {
+            int ref = readRef(strings.size());
+            if (ref == REF_NULL) {
+                return null;
+            }
+            if (ref >= REF_OFFSET) {
+                return strings.get(ref - REF_OFFSET);
+            }
+
+            byte[] bytes = new byte[readCount()];
+            in.readFully(bytes);
+            String value = new String(bytes, StandardCharsets.UTF_8);
+            strings.add(value);
+            return value;
+        }
+
+        private List<String> readStringList() throws IOException {
+            int size = readCount();
+            if (size == 0) {
+                return null;
+            }
+            List<String> values = new ArrayList<>(size - 1);
+            for (int i = 1; i < size; i++) {
+                values.add(readString());
+            }
+            return values;
+        }
+
+        private List<Integer> readIntList() throws IOException {
+            int size = readCount();
+            if (size == 0) {
+                return null;
+            }
+            List<Integer> values = new ArrayList<>(size - 1);
+            for (int i = 1; i < size; i++) {
+                values.add(readNullableInt());
+            }
+            return values;
+        }
+
+        private Integer readNullableInt() throws IOException {
+            long value = readVarLong();
+            return value == 0 ? null : (int) unZigZag(value - 1);
+        }
+
+        private LocalDate readDate() throws IOException {
+            return LocalDate.ofEpochDay(readSignedVarLong());
+        }
+
+        private LocalTime readTime() throws IOException {
+            return LocalTime.ofNanoOfDay(readVarLong());
+        }
+
+        private LocalDateTime readDateTime() throws IOException {
+            return LocalDateTime.of(readDate(), readTime());
+        }
+
+        /**
+         * 참조 값 (이미 읽은 값 수를 넘는 번호는 손상으로 처리)
+         */
+        private int readRef(int known) throws IOException {
+            long ref = readVarLong();
+            if (ref >= REF_OFFSET && ref - REF_OFFSET >= known) {
+                throw new IOException("잘못된 참조 번호입니다: " + ref);
+            }
+            return (int) ref;
+        }
+
+        /**
+         * 목록 크기/바이트 수 (남은 본문보다 크면 손상으로 처리)
+         */
+        private int readCount() throws IOException {
+            long count = readVarLong();
+            if (count > length) {
+                throw new IOException("잘못된 길이입니다: " + count);
+            }
+            return (int) count;
+        }
+
+        private long readSignedVarLong() throws IOException {
+            return unZigZag(readVarLong());
+        }
+
+        private long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = in.readUnsignedByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("varint가 너무 깁니다");
+        }
+
+        private static long unZigZag(long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+}
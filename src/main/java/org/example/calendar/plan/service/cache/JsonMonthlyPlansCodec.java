@@ -0,0 +1,55 @@
+package org.example.calendar.plan.service.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.calendar.plan.dto.response.PlanResponse;
+import org.example.calendar.plan.service.CachedMonthlyPlans;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * JSON 저장 형식
+ *
+ * <p>{"plans":[...],"computeMillis":..,"expiresAt":..} 형식으로 저장합니다.
+ * 조기 갱신 도입 전 형식(계획 목록 JSON 배열)도 읽으며, 이 경우 계산 시간을 모르므로 조기 갱신하지 않습니다.</p>
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+public class JsonMonthlyPlansCodec implements MonthlyPlansCodec {
+
+    public static final String NAME = "json";
+
+    private static final TypeReference<List<PlanResponse>> PLAN_LIST = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+
+    public JsonMonthlyPlansCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public boolean canDecode(byte[] data) {
+        return data.length > 0 && (data[0] == '{' || data[0] == '[');
+    }
+
+    @Override
+    public byte[] encode(CachedMonthlyPlans entry) throws IOException {
+        return objectMapper.writeValueAsBytes(entry);
+    }
+
+    @Override
+    public CachedMonthlyPlans decode(byte[] data) throws IOException {
+        if (data[0] == '[') {
+            List<PlanResponse> plans = objectMapper.readValue(data, PLAN_LIST);
+            return new CachedMonthlyPlans(plans, 0, Long.MAX_VALUE);
+        }
+        return objectMapper.readValue(data, CachedMonthlyPlans.class);
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.calendar.plan.service.cache;
+
+import org.example.calendar.plan.service.CachedMonthlyPlans;
+
+import java.io.IOException;
+
+/**
+ * 월별 계획 캐시 항목의 Redis 저장 형식
+ *
+ * <h3>구현</h3>
+ * <ul>
+ *   <li>{@link JsonMonthlyPlansCodec}: JSON (기존 형식, 첫 바이트 '{' 또는 '[')</li>
+ *   <li>{@link BinaryMonthlyPlansCodec}: 중복 제거 바이너리 + LZ4 (첫 바이트가 형식 버전)</li>
+ * </ul>
+ *
+ * <p>저장은 설정한 형식 하나로 하고, 읽기는 첫 바이트로 형식을 판별하므로
+ * 형식을 바꿔 배포하는 동안 두 형식이 섞여 있어도 읽을 수 있습니다.</p>
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+public interface MonthlyPlansCodec {
+
+    /**
+     * 형식 이름 (설정값, 메트릭 태그)
+     */
+    String name();
+
+    /**
+     * 이 형식으로 저장된 값인지 (첫 바이트로 판별)
+     */
+    boolean canDecode(byte[] data);
+
+    byte[] encode(CachedMonthlyPlans entry) throws IOException;
+
+    /**
+     * @throws IOException 값이 손상된 경우
+     */
+    CachedMonthlyPlans decode(byte[] data) throws IOException;
+}
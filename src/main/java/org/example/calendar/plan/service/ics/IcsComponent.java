@@ -0,0 +1,75 @@
+package org.example.calendar.plan.service.ics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * iCalendar 컴포넌트 (VEVENT, VALARM 등) 한 개
+ *
+ * <p>IcsReader가 VEVENT 하나를 읽을 때마다 만들며, 다음 VEVENT를 읽기 전에 버려지므로
+ * 파일 전체가 메모리에 올라가지 않습니다.</p>
+ *
+ * @param name 컴포넌트 이름 (대문자, 예: VEVENT)
+ * @param properties 속성 목록 (파일 순서)
+ * @param children 하위 컴포넌트 (VEVENT 안의 VALARM 등)
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+public record IcsComponent(String name, List<Property> properties, List<IcsComponent> children) {
+
+    /**
+     * 이름이 같은 첫 속성 (없으면 null)
+     */
+    public Property first(String propertyName) {
+        for (Property property : properties) {
+            if (property.name().equals(propertyName)) {
+                return property;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 이름이 같은 첫 속성 값 (없으면 null)
+     */
+    public String value(String propertyName) {
+        Property property = first(propertyName);
+        return property != null ? property.value() : null;
+    }
+
+    /**
+     * 이름이 같은 모든 속성 (EXDATE처럼 여러 번 나올 수 있는 속성용)
+     */
+    public List<Property> all(String propertyName) {
+        List<Property> result = new ArrayList<>();
+        for (Property property : properties) {
+            if (property.name().equals(propertyName)) {
+                result.add(property);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 이름이 같은 하위 컴포넌트
+     */
+    public List<IcsComponent> children(String componentName) {
+        return children.stream().filter(child -> child.name().equals(componentName)).toList();
+    }
+
+    /**
+     * 속성 한 줄 (content line)
+     *
+     * @param name 속성 이름 (대문자, 예: DTSTART)
+     * @param parameters 매개변수 (이름은 대문자, 예: TZID, VALUE)
+     * @param value 속성 값 (이스케이프 해제 전 원문)
+     */
+    public record Property(String name, Map<String, String> parameters, String value) {
+
+        public String parameter(String parameterName) {
+            return parameters.get(parameterName);
+        }
+    }
+}
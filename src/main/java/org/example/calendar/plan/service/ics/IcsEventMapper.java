@@ -0,0 +1,610 @@
+package org.example.calendar.plan.service.ics;
+
+import lombok.RequiredArgsConstructor;
+import org.example.calendar.plan.entity.Plan;
+import org.example.calendar.plan.entity.PlanAlarm;
+import org.example.calendar.plan.entity.RecurringInfo;
+import org.example.calendar.plan.enums.RepeatUnit;
+import org.example.calendar.plan.service.recurring.RecurrenceRule;
+import org.example.calendar.plan.service.recurring.RecurringPlanGenerator;
+import org.springframework.stereotype.Component;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+
+/**
+ * iCalendar VEVENT → Plan 엔티티 변환기
+ *
+ * <h3>변환 규칙</h3>
+ * <ul>
+ *   <li>SUMMARY → 제목 (30자), DESCRIPTION → 내용 (Plan 검증 길이까지 자름)</li>
+ *   <li>DTSTART/DTEND(또는 DURATION) → 시작/종료 날짜와 시간 (UTC, TZID는 가져오기 시간대로 변환)</li>
+ *   <li>종일 일정(VALUE=DATE) → 00:00 ~ 23:59, DTEND는 배타적이므로 하루 전까지</li>
+ *   <li>RRULE → RecurringInfo (UNTIL/COUNT → 반복 종료일), EXDATE → 예외 날짜</li>
+ *   <li>시간대 변환으로 시작 날짜가 바뀌면 BYDAY/BYMONTHDAY도 같은 일수만큼 이동
+ *       (예: UTC 월요일 20:00 → 서울 화요일 05:00이면 BYDAY=MO → 화요일)</li>
+ *   <li>VALARM의 TRIGGER → PlanAlarm (상대 시간, 절대 시간 모두 지원)</li>
+ * </ul>
+ *
+ * <h3>표현 가능한 RRULE</h3>
+ * <ul>
+ *   <li>DAILY (간격 1) → 요일 전체를 선택한 주간 반복</li>
+ *   <li>WEEKLY + BYDAY(요일)</li>
+ *   <li>MONTHLY + BYMONTHDAY 하나, 또는 BYDAY(주차+요일, 예: 2TU, -1FR) / BYDAY + BYSETPOS</li>
+ *   <li>YEARLY + BYMONTH/BYMONTHDAY 하나씩</li>
+ * </ul>
+ *
+ * <p>그 밖의 규칙(BYHOUR, BYYEARDAY, 여러 날짜 조합 등)이나 취소된 일정, 반복 인스턴스 수정본(RECURRENCE-ID),
+ * 날짜가 바뀌면 같은 날짜로 옮길 수 없는 규칙(주차+요일, 29~31일)은
+ * 잘못 전개되지 않도록 {@link IllegalArgumentException}으로 건너뜁니다.</p>
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+@Component
+@RequiredArgsConstructor
+public class IcsEventMapper {
+
+    private static final int MAX_PLAN_NAME_LENGTH = 30;
+    // Plan.planContent 검증 길이 (@Size(max = 100))
+    private static final int MAX_PLAN_CONTENT_LENGTH = 100;
+    private static final int MAX_ALARMS = 10;
+    private static final int MAX_COUNT = 10_000;
+    private static final String UNTITLED = "(제목 없음)";
+    private static final LocalTime ALL_DAY_END = LocalTime.of(23, 59);
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private final RecurringPlanGenerator recurringPlanGenerator;
+
+    /**
+     * VEVENT 하나를 Plan 엔티티로 변환 (사용자는 저장 시 설정)
+     *
+     * @param event VEVENT 컴포넌트
+     * @param zone 가져오기 시간대 (UTC/TZID 시간을 이 시간대의 현지 시간으로 변환)
+     * @return 저장 전 Plan (반복 정보, 알람 포함)
+     * @throws IllegalArgumentException 필수 값이 없거나 표현할 수 없는 일정인 경우
+     */
+    public Plan toPlan(IcsComponent event, ZoneId zone) {
+        if ("CANCELLED".equalsIgnoreCase(event.value("STATUS"))) {
+            throw new IllegalArgumentException("취소된 일정입니다");
+        }
+        if (event.first("RECURRENCE-ID") != null) {
+            throw new IllegalArgumentException("반복 인스턴스 수정본(RECURRENCE-ID)은 지원하지 않습니다");
+        }
+
+        IcsComponent.Property dtStart = event.first("DTSTART");
+        if (dtStart == null) {
+            throw new IllegalArgumentException("DTSTART가 없습니다");
+        }
+        boolean allDay = isDate(dtStart);
+        LocalDateTime start = parseDateTime(dtStart, dtStart.value(), zone);
+        LocalDateTime end = resolveEnd(event, start, allDay, zone);
+
+        Plan plan = Plan.builder()
+                .planName(truncate(defaultIfBlank(unescape(event.value("SUMMARY")), UNTITLED), MAX_PLAN_NAME_LENGTH))
+                .planContent(truncate(unescape(event.value("DESCRIPTION")), MAX_PLAN_CONTENT_LENGTH))
+                .startDate(start.toLocalDate())
+                .endDate(end.toLocalDate())
+                .startTime(allDay ? LocalTime.MIDNIGHT : start.toLocalTime())
+                .endTime(allDay ? ALL_DAY_END : end.toLocalTime())
+                .build();
+
+        String rrule = event.value("RRULE");
+        if (rrule != null) {
+            // RRULE의 요일/날짜는 DTSTART 원래 시간대 기준이므로 변환으로 바뀐 날짜만큼 함께 이동
+            int dayShift = (int) ChronoUnit.DAYS.between(sourceDate(dtStart), plan.getStartDate());
+            plan.setIsRecurring(true);
+            plan.setRecurringInfo(toRecurringInfo(rrule, plan, event, zone, dayShift));
+        }
+
+        Set<PlanAlarm> alarms = toAlarms(event, plan, start, end, zone);
+        if (!alarms.isEmpty()) {
+            plan.updateAlarms(alarms);
+        }
+
+        return plan;
+    }
+
+    // ========== 날짜/시간 ==========
+
+    /**
+     * DTEND 또는 DURATION으로 종료 시각 계산 (둘 다 없으면 종일 일정은 당일, 시간 일정은 시작 시각)
+     */
+    private LocalDateTime resolveEnd(IcsComponent event, LocalDateTime start, boolean allDay, ZoneId zone) {
+        LocalDateTime end;
+        IcsComponent.Property dtEnd = event.first("DTEND");
+        String duration = event.value("DURATION");
+
+        if (dtEnd != null) {
+            end = parseDateTime(dtEnd, dtEnd.value(), zone);
+        } else if (duration != null) {
+            end = start.plus(parseDuration(duration));
+        } else {
+            return start;
+        }
+
+        // 종일 일정의 종료일은 배타적 (DTEND = 다음 날)
+        if (allDay) {
+            end = end.minusDays(1);
+        }
+        return end.isBefore(start) ? start : end;
+    }
+
+    private static boolean isDate(IcsComponent.Property property) {
+        return "DATE".equalsIgnoreCase(property.parameter("VALUE")) || property.value().trim().length() == 8;
+    }
+
+    /**
+     * DATE 또는 DATE-TIME 값을 가져오기 시간대의 현지 시각으로 변환
+     * (Z 접미사는 UTC, TZID는 해당 시간대, 둘 다 없으면 floating time으로 그대로 사용)
+     */
+    private static LocalDateTime parseDateTime(IcsComponent.Property property, String rawValue, ZoneId zone) {
+        String value = rawValue.trim();
+        try {
+            if (value.length() == 8) {
+                return LocalDate.parse(value, DATE).atStartOfDay();
+            }
+
+            boolean utc = value.endsWith("Z");
+            LocalDateTime local = LocalDateTime.parse(utc ? value.substring(0, value.length() - 1) : value, DATE_TIME);
+            if (utc) {
+                return local.atOffset(ZoneOffset.UTC).atZoneSameInstant(zone).toLocalDateTime();
+            }
+
+            ZoneId sourceZone = toZoneId(property.parameter("TZID"));
+            return sourceZone != null ? local.atZone(sourceZone).withZoneSameInstant(zone).toLocalDateTime() : local;
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException(property.name() + " 날짜 형식이 잘못되었습니다: " + value);
+        }
+    }
+
+    /**
+     * 변환 전(DTSTART 원래 시간대 기준) 날짜
+     */
+    private static LocalDate sourceDate(IcsComponent.Property property) {
+        return LocalDate.parse(property.value().trim().substring(0, 8), DATE);
+    }
+
+    /**
+     * TZID → ZoneId (IANA 이름이 아니면 null, floating time으로 처리)
+     */
+    private static ZoneId toZoneId(String tzid) {
+        if (tzid == null || tzid.isBlank()) {
+            return null;
+        }
+        try {
+            return ZoneId.of(tzid.startsWith("/") ? tzid.substring(1) : tzid);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * RFC 5545 기간 (예: P1D, PT1H30M, -PT15M, P2W)
+     */
+    private static Duration parseDuration(String rawValue) {
+        String value = rawValue.trim().toUpperCase(Locale.ROOT);
+        try {
+            boolean negative = value.startsWith("-");
+            String unsigned = negative || value.startsWith("+") ? value.substring(1) : value;
+
+            Duration duration = unsigned.endsWith("W")
+                    ? Duration.ofDays(7L * Long.parseLong(unsigned.substring(1, unsigned.length() - 1)))
+                    : Duration.parse(unsigned);
+            return negative ? duration.negated() : duration;
+        } catch (DateTimeException | NumberFormatException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("기간 형식이 잘못되었습니다: " + rawValue);
+        }
+    }
+
+    // ========== 반복 규칙 ==========
+
+    /**
+     * RRULE → RecurringInfo
+     *
+     * @param dayShift 시간대 변환으로 바뀐 시작 날짜 일수 (변환 후 - 변환 전)
+     */
+    private RecurringInfo toRecurringInfo(String rrule, Plan plan, IcsComponent event, ZoneId zone, int dayShift) {
+        Map<String, String> parts = parseRule(rrule);
+        LocalDate startDate = plan.getStartDate();
+        LocalDate sourceStartDate = startDate.minusDays(dayShift);
+
+        String freq = parts.remove("FREQ");
+        int interval = parts.containsKey("INTERVAL") ? parsePositiveInt(parts.remove("INTERVAL"), "INTERVAL") : 1;
+        String until = parts.remove("UNTIL");
+        String count = parts.remove("COUNT");
+        parts.remove("WKST");
+        if (freq == null) {
+            throw new IllegalArgumentException("RRULE에 FREQ가 없습니다");
+        }
+        if (until != null && count != null) {
+            throw new IllegalArgumentException("RRULE에 UNTIL과 COUNT를 함께 지정할 수 없습니다");
+        }
+
+        RecurringInfo recurringInfo = switch (freq) {
+            case "DAILY" -> toDailyRule(parts, interval, dayShift);
+            case "WEEKLY" -> toWeeklyRule(parts, startDate, dayShift);
+            case "MONTHLY" -> toMonthlyRule(parts, sourceStartDate, dayShift);
+            case "YEARLY" -> toYearlyRule(parts, startDate, sourceStartDate, dayShift);
+            default -> throw new IllegalArgumentException("지원하지 않는 반복 주기입니다: " + freq);
+        };
+        if (!parts.isEmpty()) {
+            throw new IllegalArgumentException("지원하지 않는 반복 규칙입니다: " + String.join(",", parts.keySet()));
+        }
+        if (interval > recurringInfo.getRepeatUnit().getMaxInterval()) {
+            throw new IllegalArgumentException("반복 간격이 너무 큽니다: " + interval);
+        }
+        recurringInfo.setRepeatInterval(interval);
+
+        recurringInfo.setStartDate(startDate);
+        recurringInfo.setExceptionDates(toExceptionDates(event, startDate, zone));
+        plan.setRecurringInfo(recurringInfo);
+
+        if (until != null) {
+            IcsComponent.Property untilProperty = new IcsComponent.Property("UNTIL", Map.of(), until);
+            recurringInfo.setEndDate(parseDateTime(untilProperty, until, zone).toLocalDate());
+        } else if (count != null) {
+            recurringInfo.setEndDate(nthOccurrence(plan, parsePositiveInt(count, "COUNT")));
+        }
+        if (recurringInfo.getEndDate() != null && recurringInfo.getEndDate().isBefore(startDate)) {
+            throw new IllegalArgumentException("반복 종료일이 시작일 이전입니다");
+        }
+
+        return recurringInfo;
+    }
+
+    /**
+     * 매일 반복 → 요일 전체(또는 BYDAY 요일)를 선택한 매주 반복 (간격 1만 표현 가능)
+     */
+    private static RecurringInfo toDailyRule(Map<String, String> parts, int interval, int dayShift) {
+        if (interval != 1) {
+            throw new IllegalArgumentException("간격이 있는 매일 반복은 지원하지 않습니다");
+        }
+        String byDay = parts.remove("BYDAY");
+        Set<DayOfWeek> weekdays = byDay != null
+                ? shiftWeekdays(parsePlainWeekdays(byDay), dayShift)
+                : EnumSet.allOf(DayOfWeek.class);
+
+        return RecurringInfo.builder()
+                .repeatUnit(RepeatUnit.WEEKLY)
+                .repeatWeekdays(new HashSet<>(weekdays))
+                .build();
+    }
+
+    private static RecurringInfo toWeeklyRule(Map<String, String> parts, LocalDate startDate, int dayShift) {
+        String byDay = parts.remove("BYDAY");
+        Set<DayOfWeek> weekdays = byDay != null
+                ? shiftWeekdays(parsePlainWeekdays(byDay), dayShift)
+                : EnumSet.of(startDate.getDayOfWeek());
+
+        return RecurringInfo.builder()
+                .repeatUnit(RepeatUnit.WEEKLY)
+                .repeatWeekdays(new HashSet<>(weekdays))
+                .build();
+    }
+
+    /**
+     * 매월 반복 (특정 날짜 또는 주차+요일)
+     *
+     * @param sourceStartDate 변환 전 시작 날짜 (BYMONTHDAY가 없으면 이 날짜의 일)
+     */
+    private static RecurringInfo toMonthlyRule(Map<String, String> parts, LocalDate sourceStartDate, int dayShift) {
+        String byMonthDay = parts.remove("BYMONTHDAY");
+        String byDay = parts.remove("BYDAY");
+        String bySetPos = parts.remove("BYSETPOS");
+
+        if (byDay == null) {
+            if (bySetPos != null) {
+                throw new IllegalArgumentException("BYDAY 없는 BYSETPOS는 지원하지 않습니다");
+            }
+            int dayOfMonth = byMonthDay != null
+                    ? parseSingleInt(byMonthDay, "BYMONTHDAY", 1, 31)
+                    : sourceStartDate.getDayOfMonth();
+            return RecurringInfo.builder()
+                    .repeatUnit(RepeatUnit.MONTHLY)
+                    .repeatDayOfMonth(shiftDayOfMonth(dayOfMonth, dayShift))
+                    .build();
+        }
+        if (byMonthDay != null) {
+            throw new IllegalArgumentException("BYMONTHDAY와 BYDAY를 함께 지정한 월간 반복은 지원하지 않습니다");
+        }
+        // N번째 요일의 다음/이전 날은 같은 주차의 요일이 아닐 수 있음 (예: 둘째 주 화요일 14일 → 셋째 주 수요일 15일)
+        if (dayShift != 0) {
+            throw new IllegalArgumentException("시간대 변환으로 날짜가 바뀌는 주차+요일 월간 반복은 지원하지 않습니다");
+        }
+
+        // BYSETPOS는 BYDAY 전체 날짜 집합에서 하나를 고르므로, 요일이 하나일 때만 주차로 바꿀 수 있음
+        // (예: BYDAY=MO,TU,WE,TH,FR;BYSETPOS=-1 → 매월 마지막 평일 하루)
+        if (bySetPos != null && byDay.split(",").length != 1) {
+            throw new IllegalArgumentException("여러 요일에 BYSETPOS를 지정한 월간 반복은 지원하지 않습니다");
+        }
+
+        // 주차 × 요일 조합 (예: 2TU,4TU → 둘째/넷째 주 화요일)
+        Set<Integer> weeks = new HashSet<>();
+        Set<DayOfWeek> weekdays = EnumSet.noneOf(DayOfWeek.class);
+        Set<String> pairs = new HashSet<>();
+        Integer setPos = bySetPos != null ? toWeekOfMonth(parseSingleInt(bySetPos, "BYSETPOS", -1, 5)) : null;
+
+        for (String token : byDay.split(",")) {
+            String trimmed = token.trim();
+            String ordinal = trimmed.substring(0, Math.max(0, trimmed.length() - 2));
+            DayOfWeek weekday = parseWeekday(trimmed.substring(Math.max(0, trimmed.length() - 2)));
+
+            Integer week;
+            if (ordinal.isEmpty()) {
+                week = setPos;
+            } else if (setPos == null) {
+                week = toWeekOfMonth(parseSingleInt(ordinal, "BYDAY", -1, 5));
+            } else {
+                throw new IllegalArgumentException("BYDAY 주차와 BYSETPOS를 함께 지정할 수 없습니다");
+            }
+            if (week == null) {
+                throw new IllegalArgumentException("주차 없는 월간 요일 반복은 지원하지 않습니다");
+            }
+
+            weeks.add(week);
+            weekdays.add(weekday);
+            pairs.add(week + ":" + weekday);
+        }
+        if (pairs.size() != weeks.size() * weekdays.size()) {
+            throw new IllegalArgumentException("주차별로 다른 요일을 지정한 월간 반복은 지원하지 않습니다");
+        }
+
+        return RecurringInfo.builder()
+                .repeatUnit(RepeatUnit.MONTHLY)
+                .repeatWeeksOfMonth(weeks)
+                .repeatWeekdays(new HashSet<>(weekdays))
+                .build();
+    }
+
+    /**
+     * 매년 반복 (특정 월의 특정 일)
+     * BYMONTH/BYMONTHDAY가 없으면 변환 후 시작 날짜를 그대로 사용 (매년 같은 날짜가 같은 일수만큼 이동)
+     */
+    private static RecurringInfo toYearlyRule(Map<String, String> parts, LocalDate startDate,
+                                              LocalDate sourceStartDate, int dayShift) {
+        String byMonth = parts.remove("BYMONTH");
+        String byMonthDay = parts.remove("BYMONTHDAY");
+
+        if (byMonth == null && byMonthDay == null) {
+            return RecurringInfo.builder()
+                    .repeatUnit(RepeatUnit.YEARLY)
+                    .repeatMonth(startDate.getMonthValue())
+                    .repeatDayOfYear(startDate.getDayOfMonth())
+                    .build();
+        }
+
+        int dayOfMonth = byMonthDay != null
+                ? parseSingleInt(byMonthDay, "BYMONTHDAY", 1, 31)
+                : sourceStartDate.getDayOfMonth();
+        return RecurringInfo.builder()
+                .repeatUnit(RepeatUnit.YEARLY)
+                .repeatMonth(byMonth != null ? parseSingleInt(byMonth, "BYMONTH", 1, 12) : sourceStartDate.getMonthValue())
+                .repeatDayOfYear(shiftDayOfMonth(dayOfMonth, dayShift))
+                .build();
+    }
+
+    /**
+     * 시간대 변환으로 바뀐 일수만큼 요일 이동
+     */
+    private static Set<DayOfWeek> shiftWeekdays(Set<DayOfWeek> weekdays, int dayShift) {
+        Set<DayOfWeek> shifted = EnumSet.noneOf(DayOfWeek.class);
+        for (DayOfWeek weekday : weekdays) {
+            shifted.add(weekday.plus(dayShift));
+        }
+        return shifted;
+    }
+
+    /**
+     * 시간대 변환으로 바뀐 일수만큼 날짜(일) 이동
+     * 이동 전후 모두 모든 달에 있는 1~28일일 때만 가능 (29~31일은 달마다 발생 여부가 달라 다른 반복이 됨)
+     */
+    private static int shiftDayOfMonth(int dayOfMonth, int dayShift) {
+        if (dayShift == 0) {
+            return dayOfMonth;
+        }
+        int shifted = dayOfMonth + dayShift;
+        if (dayOfMonth > 28 || shifted < 1 || shifted > 28) {
+            throw new IllegalArgumentException("시간대 변환으로 월이 바뀌는 반복 날짜는 지원하지 않습니다: " + dayOfMonth + "일");
+        }
+        return shifted;
+    }
+
+    /**
+     * COUNT번째 발생일 (EXDATE는 COUNT에 포함되므로 예외 날짜 없이 계산)
+     */
+    private LocalDate nthOccurrence(Plan plan, int count) {
+        if (count > MAX_COUNT) {
+            throw new IllegalArgumentException("COUNT가 너무 큽니다: " + count);
+        }
+
+        RecurrenceRule rule = RecurrenceRule.compile(plan, new long[0]);
+        PrimitiveIterator.OfLong occurrences = recurringPlanGenerator.occurrences(rule, plan.getStartDate(), LocalDate.MAX);
+
+        long last = plan.getStartDate().toEpochDay();
+        for (int i = 0; i < count && occurrences.hasNext(); i++) {
+            last = occurrences.nextLong();
+        }
+        return LocalDate.ofEpochDay(last);
+    }
+
+    private static Set<LocalDate> toExceptionDates(IcsComponent event, LocalDate startDate, ZoneId zone) {
+        Set<LocalDate> exceptionDates = new HashSet<>();
+        for (IcsComponent.Property exDate : event.all("EXDATE")) {
+            for (String value : exDate.value().split(",")) {
+                if (value.isBlank()) {
+                    continue;
+                }
+                LocalDate date = parseDateTime(exDate, value, zone).toLocalDate();
+                if (!date.isBefore(startDate)) {
+                    exceptionDates.add(date);
+                }
+            }
+        }
+        return exceptionDates;
+    }
+
+    private static Map<String, String> parseRule(String rrule) {
+        Map<String, String> parts = new HashMap<>();
+        for (String part : rrule.split(";")) {
+            int equals = part.indexOf('=');
+            if (equals <= 0) {
+                continue;
+            }
+            parts.put(part.substring(0, equals).trim().toUpperCase(Locale.ROOT),
+                    part.substring(equals + 1).trim().toUpperCase(Locale.ROOT));
+        }
+        return parts;
+    }
+
+    /**
+     * 주차 없는 요일 목록 (예: MO,WE,FR)
+     */
+    private static Set<DayOfWeek> parsePlainWeekdays(String byDay) {
+        Set<DayOfWeek> weekdays = EnumSet.noneOf(DayOfWeek.class);
+        for (String token : byDay.split(",")) {
+            String trimmed = token.trim();
+            if (trimmed.length() != 2) {
+                throw new IllegalArgumentException("주차가 있는 요일은 월간 반복에서만 지원합니다: " + trimmed);
+            }
+            weekdays.add(parseWeekday(trimmed));
+        }
+        return weekdays;
+    }
+
+    private static DayOfWeek parseWeekday(String code) {
+        return switch (code) {
+            case "MO" -> DayOfWeek.MONDAY;
+            case "TU" -> DayOfWeek.TUESDAY;
+            case "WE" -> DayOfWeek.WEDNESDAY;
+            case "TH" -> DayOfWeek.THURSDAY;
+            case "FR" -> DayOfWeek.FRIDAY;
+            case "SA" -> DayOfWeek.SATURDAY;
+            case "SU" -> DayOfWeek.SUNDAY;
+            default -> throw new IllegalArgumentException("요일 형식이 잘못되었습니다: " + code);
+        };
+    }
+
+    /**
+     * RRULE 주차 → recurring_repeat_weeks_of_month 값 (1~5, -1: 마지막 주)
+     */
+    private static Integer toWeekOfMonth(int ordinal) {
+        if (ordinal == 0) {
+            throw new IllegalArgumentException("주차는 0일 수 없습니다");
+        }
+        return ordinal;
+    }
+
+    private static int parseSingleInt(String value, String name, int min, int max) {
+        if (value.contains(",")) {
+            throw new IllegalArgumentException(name + "에 여러 값을 지정한 반복은 지원하지 않습니다");
+        }
+        try {
+            int parsed = Integer.parseInt(value.trim().replace("+", ""));
+            if (parsed < min || parsed > max) {
+                throw new IllegalArgumentException(name + " 값이 범위를 벗어났습니다: " + value);
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " 값이 잘못되었습니다: " + value);
+        }
+    }
+
+    private static int parsePositiveInt(String value, String name) {
+        return parseSingleInt(value, name, 1, Integer.MAX_VALUE);
+    }
+
+    // ========== 알람 ==========
+
+    /**
+     * VALARM → PlanAlarm (TRIGGER 기준: 시작 시각, RELATED=END면 종료 시각)
+     */
+    private static Set<PlanAlarm> toAlarms(IcsComponent event, Plan plan, LocalDateTime start, LocalDateTime end, ZoneId zone) {
+        Set<PlanAlarm> alarms = new HashSet<>();
+        Set<LocalDateTime> seen = new HashSet<>();
+
+        for (IcsComponent valarm : event.children("VALARM")) {
+            IcsComponent.Property trigger = valarm.first("TRIGGER");
+            if (trigger == null || alarms.size() >= MAX_ALARMS) {
+                continue;
+            }
+
+            LocalDateTime alarmAt;
+            try {
+                if ("DATE-TIME".equalsIgnoreCase(trigger.parameter("VALUE"))) {
+                    alarmAt = parseDateTime(trigger, trigger.value(), zone);
+                } else {
+                    LocalDateTime base = "END".equalsIgnoreCase(trigger.parameter("RELATED")) ? end : start;
+                    alarmAt = base.plus(parseDuration(trigger.value()));
+                }
+            } catch (IllegalArgumentException e) {
+                // 알람 형식 오류는 일정 가져오기를 막지 않음
+                continue;
+            }
+
+            if (seen.add(alarmAt)) {
+                alarms.add(PlanAlarm.builder()
+                        .plan(plan)
+                        .alarmDate(alarmAt.toLocalDate())
+                        .alarmTime(alarmAt.toLocalTime())
+                        .build());
+            }
+        }
+        return alarms;
+    }
+
+    // ========== 텍스트 ==========
+
+    /**
+     * TEXT 값 이스케이프 해제 (\n, \, \; \\)
+     */
+    private static String unescape(String value) {
+        if (value == null || value.indexOf('\\') < 0) {
+            return value;
+        }
+
+        StringBuilder result = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                result.append(next == 'n' || next == 'N' ? '\n' : next);
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    private static String defaultIfBlank(String value, String defaultValue) {
+        return value == null || value.isBlank() ? defaultValue : value.strip();
+    }
+
+    /**
+     * 최대 길이로 자르기 (서로게이트 쌍은 나누지 않음)
+     */
+    private static String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        int cut = Character.isHighSurrogate(value.charAt(maxLength - 1)) ? maxLength - 1 : maxLength;
+        return value.substring(0, cut);
+    }
+}
@@ -0,0 +1,236 @@
+package org.example.calendar.plan.service.ics;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * iCalendar(RFC 5545) 스트리밍 리더
+ *
+ * <h3>동작 방식</h3>
+ * <ul>
+ *   <li>한 줄씩 읽으며 접힌 줄(공백/탭으로 시작하는 다음 줄)을 이어 붙임</li>
+ *   <li>{@link #nextEvent()} 호출마다 VEVENT 하나(하위 VALARM 포함)만 만들어 반환</li>
+ *   <li>VCALENDAR, VTIMEZONE, VTODO 등 VEVENT 밖의 내용은 읽고 버림</li>
+ * </ul>
+ *
+ * <p>메모리 사용량은 파일 크기가 아니라 가장 큰 VEVENT 하나의 크기에 비례합니다.
+ * 비정상적으로 긴 줄이나 속성이 많은 VEVENT는 {@link IllegalArgumentException}으로 중단합니다.</p>
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+public class IcsReader implements Closeable {
+
+    private static final int MAX_LINE_LENGTH = 64 * 1024;
+    private static final int MAX_PROPERTIES_PER_COMPONENT = 1000;
+    private static final String EVENT = "VEVENT";
+
+    private final BufferedReader reader;
+    private String lookahead;
+    private boolean started;
+    private long lineNumber;
+
+    public IcsReader(InputStream inputStream) {
+        this(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    public IcsReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+    }
+
+    /**
+     * 다음 VEVENT 읽기
+     *
+     * @return 다음 VEVENT (파일 끝이면 null)
+     * @throws IllegalArgumentException 파일 형식이 잘못된 경우 (VEVENT 도중 파일 끝, 줄 길이 초과 등)
+     */
+    public IcsComponent nextEvent() throws IOException {
+        Deque<ComponentBuilder> stack = new ArrayDeque<>();
+
+        String line;
+        while ((line = nextUnfoldedLine()) != null) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            IcsComponent.Property property = parseLine(line);
+
+            switch (property.name()) {
+                case "BEGIN" -> {
+                    String componentName = property.value().trim().toUpperCase(Locale.ROOT);
+                    if (!stack.isEmpty() || EVENT.equals(componentName)) {
+                        stack.push(new ComponentBuilder(componentName));
+                    }
+                }
+                case "END" -> {
+                    if (stack.isEmpty()) {
+                        continue;
+                    }
+                    IcsComponent component = stack.pop().build();
+                    if (stack.isEmpty()) {
+                        return component;
+                    }
+                    stack.peek().children.add(component);
+                }
+                default -> {
+                    if (!stack.isEmpty()) {
+                        stack.peek().add(property);
+                    }
+                }
+            }
+        }
+
+        if (!stack.isEmpty()) {
+            throw new IllegalArgumentException("ICS 파일이 VEVENT 도중에 끝났습니다 (line " + lineNumber + ")");
+        }
+        return null;
+    }
+
+    /**
+     * 현재까지 읽은 물리적 줄 수
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * 접힌 줄을 이어 붙인 논리적 한 줄 (파일 끝이면 null)
+     */
+    private String nextUnfoldedLine() throws IOException {
+        String current = lookahead != null ? lookahead : readPhysicalLine();
+        lookahead = null;
+        if (current == null) {
+            return null;
+        }
+
+        StringBuilder unfolded = null;
+        String next;
+        while ((next = readPhysicalLine()) != null && !next.isEmpty()
+                && (next.charAt(0) == ' ' || next.charAt(0) == '\t')) {
+            if (unfolded == null) {
+                unfolded = new StringBuilder(current);
+            }
+            unfolded.append(next, 1, next.length());
+            if (unfolded.length() > MAX_LINE_LENGTH) {
+                throw new IllegalArgumentException("ICS 줄 길이가 너무 깁니다 (line " + lineNumber + ")");
+            }
+        }
+        lookahead = next;
+
+        return unfolded != null ? unfolded.toString() : current;
+    }
+
+    private String readPhysicalLine() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        lineNumber++;
+        if (!started) {
+            started = true;
+            if (!line.isEmpty() && line.charAt(0) == '\uFEFF') {
+                line = line.substring(1);
+            }
+        }
+        if (line.length() > MAX_LINE_LENGTH) {
+            throw new IllegalArgumentException("ICS 줄 길이가 너무 깁니다 (line " + lineNumber + ")");
+        }
+        return line;
+    }
+
+    /**
+     * "NAME;PARAM=value;PARAM=\"quoted\":VALUE" 형식의 한 줄 분석
+     */
+    private IcsComponent.Property parseLine(String line) {
+        int length = line.length();
+        int index = 0;
+        while (index < length && line.charAt(index) != ';' && line.charAt(index) != ':') {
+            index++;
+        }
+        if (index == length) {
+            throw new IllegalArgumentException("ICS 속성 형식이 잘못되었습니다 (line " + lineNumber + ")");
+        }
+        String name = line.substring(0, index).trim().toUpperCase(Locale.ROOT);
+
+        Map<String, String> parameters = Map.of();
+        while (line.charAt(index) == ';') {
+            int nameStart = index + 1;
+            int equals = line.indexOf('=', nameStart);
+            if (equals < 0) {
+                throw new IllegalArgumentException("ICS 매개변수 형식이 잘못되었습니다 (line " + lineNumber + ")");
+            }
+
+            int valueEnd = equals + 1;
+            boolean quoted = false;
+            while (valueEnd < length) {
+                char c = line.charAt(valueEnd);
+                if (c == '"') {
+                    quoted = !quoted;
+                } else if (!quoted && (c == ';' || c == ':')) {
+                    break;
+                }
+                valueEnd++;
+            }
+            if (valueEnd == length) {
+                throw new IllegalArgumentException("ICS 속성 값이 없습니다 (line " + lineNumber + ")");
+            }
+
+            if (parameters.isEmpty()) {
+                parameters = new HashMap<>(4);
+            }
+            parameters.put(line.substring(nameStart, equals).trim().toUpperCase(Locale.ROOT),
+                    unquote(line.substring(equals + 1, valueEnd)));
+            index = valueEnd;
+        }
+
+        return new IcsComponent.Property(name, parameters, line.substring(index + 1));
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 && value.charAt(0) == '"' && value.charAt(value.length() - 1) == '"') {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+
+    /**
+     * 읽는 중인 컴포넌트
+     */
+    private final class ComponentBuilder {
+
+        private final String name;
+        private final List<IcsComponent.Property> properties = new ArrayList<>();
+        private final List<IcsComponent> children = new ArrayList<>(0);
+
+        private ComponentBuilder(String name) {
+            this.name = name;
+        }
+
+        private void add(IcsComponent.Property property) {
+            if (properties.size() >= MAX_PROPERTIES_PER_COMPONENT) {
+                throw new IllegalArgumentException("ICS 컴포넌트의 속성이 너무 많습니다 (line " + lineNumber + ")");
+            }
+            properties.add(property);
+        }
+
+        private IcsComponent build() {
+            return new IcsComponent(name, properties, children);
+        }
+    }
+}
@@ -3,15 +3,14 @@ package org.example.calendar.plan.service.recurring;
 import lombok.extern.slf4j.Slf4j;
 import org.example.calendar.plan.dto.response.PlanResponse;
 import org.example.calendar.plan.entity.Plan;
-import org.example.calendar.plan.entity.RecurringInfo;
 import org.example.calendar.plan.mapper.PlanMapper;
 import org.springframework.stereotype.Component;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.PrimitiveIterator;
 
 /**
  * 월간 반복 일정 전용 생성기
@@ -24,6 +23,7 @@ import java.util.List;
  *   <li><strong>방식 4:</strong> 마지막 주 지원 (예: 매월 마지막 주 금요일)</li>
  *   <li>N개월 간격 반복 (예: 격월, 분기별)</li>
  *   <li>예외 날짜 처리</li>
+ *   <li>발생일 지연 반복 (월 단위 재사용 버퍼)</li>
  * </ul>
  *
  * @author Calendar Team
@@ -33,149 +33,187 @@ import java.util.List;
 @Slf4j
 public class MonthlyRecurringGenerator implements RecurringGenerator {
 
+    /**
+     * 한 달 최대 발생 수: 5개 주차(첫째~넷째 + 마지막) x 7개 요일
+     */
+    private static final int MAX_OCCURRENCES_PER_MONTH = 35;
+
     private final PlanMapper planMapper;
+    private final RecurrenceRuleCache ruleCache;
 
-    public MonthlyRecurringGenerator(PlanMapper planMapper) {
+    public MonthlyRecurringGenerator(PlanMapper planMapper, RecurrenceRuleCache ruleCache) {
         this.planMapper = planMapper;
+        this.ruleCache = ruleCache;
     }
 
     @Override
     public List<PlanResponse> generateInstances(Plan plan, LocalDate monthStart, LocalDate monthEnd) {
-        List<PlanResponse> instances = new ArrayList<>();
-        RecurringInfo recurring = plan.getRecurringInfo();
+        RecurrenceRule rule = ruleCache.getRule(plan);
         
-        if (recurring == null) {
+        if (rule == null) {
             log.warn("월간 반복 설정이 없습니다. planId: {}", plan.getId());
-            return instances;
-        }
-        
-        // 방식 1: 특정 날짜 기준 (예: 매월 15일)
-        if (recurring.getRepeatDayOfMonth() != null) {
-            generateDayOfMonthInstances(plan, monthStart, monthEnd, instances);
-        }
-        // 방식 2: 주차 + 요일 기준 (예: 매월 둘째 화요일)
-        else if (recurring.getRepeatWeeksOfMonth() != null && !recurring.getRepeatWeeksOfMonth().isEmpty() &&
-                 recurring.getRepeatWeekdays() != null && !recurring.getRepeatWeekdays().isEmpty()) {
-            generateWeekOfMonthInstances(plan, monthStart, monthEnd, instances);
+            return new ArrayList<>();
         }
-        else {
+        if (!rule.isExpandable()) {
             log.warn("월간 반복 설정이 올바르지 않습니다. planId: {}", plan.getId());
+            return new ArrayList<>();
         }
 
-        return instances;
+        return RecurringGeneratorUtils.createPlanInstances(plan, rule, occurrences(rule, monthStart, monthEnd), planMapper);
     }
 
-    /**
-     * 방식 1: 매월 특정 날짜 반복 (예: 매월 15일)
-     */
-    private void generateDayOfMonthInstances(Plan plan, LocalDate monthStart, LocalDate monthEnd, 
-                                           List<PlanResponse> instances) {
-        RecurringInfo recurring = plan.getRecurringInfo();
-        LocalDate planStart = plan.getStartDate();
-        int targetDay = recurring.getRepeatDayOfMonth();
-        
-        // 계획 시작 월부터 현재 조회 월까지 해당하는 월들을 찾기
-        LocalDate currentMonth = planStart.withDayOfMonth(1);
+    @Override
+    public PrimitiveIterator.OfLong occurrences(RecurrenceRule rule, LocalDate from, LocalDate to) {
+        return new MonthlyOccurrenceIterator(rule, from.toEpochDay(), to.toEpochDay());
+    }
+
+    @Override
+    public long firstCandidateOnOrAfter(RecurrenceRule rule, long epochDay) {
+        long[] buffer = new long[MAX_OCCURRENCES_PER_MONTH];
+        long anchorMonth = RecurringGeneratorUtils.toMonthIndex(LocalDate.ofEpochDay(rule.getAnchorEpochDay()));
+        long monthIndex = RecurringGeneratorUtils.firstAlignedOnOrAfter(
+                anchorMonth, RecurringGeneratorUtils.toMonthIndex(LocalDate.ofEpochDay(epochDay)), rule.getInterval());
         
-        // 조회 범위 이전 월들을 건너뛰기
-        while (currentMonth.isBefore(monthStart.withDayOfMonth(1))) {
-            currentMonth = currentMonth.plusMonths(recurring.getRepeatInterval());
+        // 기준 월의 발생일이 모두 기준 날짜보다 이르면 다음 반복 월
+        for (int attempt = 0; attempt < 2; attempt++, monthIndex += rule.getInterval()) {
+            int size = fillMonth(rule, RecurringGeneratorUtils.fromMonthIndex(monthIndex), buffer);
+            for (int i = 0; i < size; i++) {
+                if (buffer[i] >= epochDay && buffer[i] >= rule.getAnchorEpochDay()) {
+                    return buffer[i];
+                }
+            }
+        }
+        return NO_OCCURRENCE;
+    }
+
+    @Override
+    public long lastCandidateOnOrBefore(RecurrenceRule rule, long epochDay) {
+        long[] buffer = new long[MAX_OCCURRENCES_PER_MONTH];
+        long anchorMonth = RecurringGeneratorUtils.toMonthIndex(LocalDate.ofEpochDay(rule.getAnchorEpochDay()));
+        long targetMonth = RecurringGeneratorUtils.toMonthIndex(LocalDate.ofEpochDay(epochDay));
+        if (targetMonth < anchorMonth) {
+            return NO_OCCURRENCE;
         }
+        long monthIndex = anchorMonth + Math.floorDiv(targetMonth - anchorMonth, rule.getInterval()) * rule.getInterval();
         
-        // 조회 범위 내 월들에서 인스턴스 생성
-        while (!currentMonth.isAfter(monthEnd.withDayOfMonth(1))) {
-            // 해당 월의 실제 일수에 맞춰 날짜 조정
-            int actualDay = Math.min(targetDay, currentMonth.lengthOfMonth());
-            LocalDate instanceDate = currentMonth.withDayOfMonth(actualDay);
-            
-            if (RecurringGeneratorUtils.isValidInstance(plan, instanceDate, monthStart, monthEnd)) {
-                PlanResponse instance = RecurringGeneratorUtils.createPlanInstance(plan, instanceDate, planMapper);
-                instances.add(instance);
+        // 기준 월의 발생일이 모두 기준 날짜보다 늦으면 이전 반복 월
+        for (int attempt = 0; attempt < 2 && monthIndex >= anchorMonth; attempt++, monthIndex -= rule.getInterval()) {
+            int size = fillMonth(rule, RecurringGeneratorUtils.fromMonthIndex(monthIndex), buffer);
+            for (int i = size - 1; i >= 0; i--) {
+                if (buffer[i] <= epochDay && buffer[i] >= rule.getAnchorEpochDay()) {
+                    return buffer[i];
+                }
             }
-            
-            currentMonth = currentMonth.plusMonths(recurring.getRepeatInterval());
         }
+        return NO_OCCURRENCE;
     }
 
     /**
-     * 방식 2: 매월 특정 주차의 특정 요일 반복 (예: 매월 둘째 화요일, 매월 둘째,넷째 화요일)
+     * 월간 반복 발생일 반복자
+     *
+     * <p>반복 월 단위로 진행하며, 한 달치 발생일을 재사용 버퍼에 오름차순으로 채운 뒤 하나씩 꺼냅니다.</p>
+     * <ul>
+     *   <li><strong>방식 1</strong>: 특정 날짜 기준 (예: 매월 15일) - 월의 일수를 넘으면 말일로 조정</li>
+     *   <li><strong>방식 2</strong>: 주차 + 요일 기준 (예: 매월 둘째 화요일) - 같은 날짜가 겹치면 한 번만 반환</li>
+     * </ul>
      */
-    private void generateWeekOfMonthInstances(Plan plan, LocalDate monthStart, LocalDate monthEnd, 
-                                            List<PlanResponse> instances) {
-        RecurringInfo recurring = plan.getRecurringInfo();
-        LocalDate planStart = plan.getStartDate();
-        
-        // 계획 시작 월부터 현재 조회 월까지 해당하는 월들을 찾기
-        LocalDate currentMonth = planStart.withDayOfMonth(1);
-        
-        // 조회 범위 이전 월들을 건너뛰기
-        while (currentMonth.isBefore(monthStart.withDayOfMonth(1))) {
-            currentMonth = currentMonth.plusMonths(recurring.getRepeatInterval());
-        }
-        
-        // 조회 범위 내 월들에서 인스턴스 생성
-        while (!currentMonth.isAfter(monthEnd.withDayOfMonth(1))) {
+    private static final class MonthlyOccurrenceIterator extends OccurrenceIterator {
+
+        private final long[] buffer = new long[MAX_OCCURRENCES_PER_MONTH];
+        private final int interval;
+        private final long lastMonthIndex;
+        private long monthIndex;
+        private int size;
+        private int position;
+
+        MonthlyOccurrenceIterator(RecurrenceRule rule, long from, long to) {
+            super(rule, from, to);
+            this.interval = rule.getInterval();
+            this.lastMonthIndex = RecurringGeneratorUtils.toMonthIndex(
+                    LocalDate.ofEpochDay(Math.min(to, rule.getEndEpochDay())));
             
-            // 각 주차에 대해 처리
-            for (Integer weekOfMonth : recurring.getRepeatWeeksOfMonth()) {
-                // 각 요일에 대해 처리
-                for (DayOfWeek dayOfWeek : recurring.getRepeatWeekdays()) {
-                    LocalDate instanceDate = findDateByWeekAndDay(currentMonth, weekOfMonth, dayOfWeek);
-                    
-                    if (instanceDate != null && RecurringGeneratorUtils.isValidInstance(plan, instanceDate, monthStart, monthEnd)) {
-                        PlanResponse instance = RecurringGeneratorUtils.createPlanInstance(plan, instanceDate, planMapper);
-                        instances.add(instance);
-                    }
+            // 조회 범위 이전 월들은 (시작 월 인덱스 + k * 간격) 계산으로 한 번에 건너뛰기
+            this.monthIndex = isEmptyRange()
+                    ? lastMonthIndex + 1
+                    : RecurringGeneratorUtils.firstAlignedOnOrAfter(
+                            RecurringGeneratorUtils.toMonthIndex(LocalDate.ofEpochDay(rule.getAnchorEpochDay())),
+                            RecurringGeneratorUtils.toMonthIndex(LocalDate.ofEpochDay(this.from)), interval);
+        }
+
+        @Override
+        protected long nextCandidate() {
+            while (position >= size) {
+                if (monthIndex > lastMonthIndex) {
+                    return DONE;
                 }
+                size = fillMonth(rule, RecurringGeneratorUtils.fromMonthIndex(monthIndex), buffer);
+                position = 0;
+                monthIndex += interval;
             }
-            
-            currentMonth = currentMonth.plusMonths(recurring.getRepeatInterval());
+            return buffer[position++];
         }
     }
 
     /**
-     * 특정 월의 특정 주차에서 특정 요일 찾기
-     * 
+     * 한 달치 발생일을 버퍼에 오름차순으로 채우기
+     *
+     * @param rule 컴파일된 반복 규칙
      * @param month 대상 월 (1일 기준)
-     * @param weekOfMonth 주차 (1=첫째주, 2=둘째주, ..., -1=마지막주)
-     * @param dayOfWeek 요일
-     * @return 해당 날짜 (없으면 null)
+     * @param buffer 결과 버퍼 (35칸 이상)
+     * @return 채운 발생일 수
      */
-    private LocalDate findDateByWeekAndDay(LocalDate month, Integer weekOfMonth, DayOfWeek dayOfWeek) {
-        // 마지막 주 처리 (-1 또는 5 이상)
-        if (weekOfMonth == -1 || weekOfMonth >= 5) {
-            return findLastOccurrenceInMonth(month, dayOfWeek);
-        }
+    private static int fillMonth(RecurrenceRule rule, LocalDate month, long[] buffer) {
+        int size = 0;
         
-        // 첫째~넷째 주 처리
-        if (weekOfMonth < 1 || weekOfMonth > 4) {
-            log.warn("잘못된 주차 설정: {}", weekOfMonth);
-            return null;
+        if (rule.getDayOfMonth() > 0) {
+            // 해당 월의 실제 일수에 맞춰 날짜 조정
+            int actualDay = Math.min(rule.getDayOfMonth(), month.lengthOfMonth());
+            buffer[size++] = month.toEpochDay() + actualDay - 1;
+            return size;
         }
         
-        // 해당 월의 첫 번째 해당 요일 찾기
-        LocalDate firstDayOfMonth = month.withDayOfMonth(1);
-        LocalDate firstOccurrence = firstDayOfMonth.with(TemporalAdjusters.firstInMonth(dayOfWeek));
-        
-        // 목표 주차까지 이동
-        LocalDate targetDate = firstOccurrence.plusWeeks(weekOfMonth - 1);
-        
-        // 해당 월 내에 있는지 확인
-        if (targetDate.getMonthValue() != month.getMonthValue()) {
-            return null;
+        // 각 주차(0번 비트 = 마지막 주) x 각 요일 조합
+        for (int weekBit = 0; weekBit <= 4; weekBit++) {
+            if (!rule.hasWeekOfMonth(weekBit)) {
+                continue;
+            }
+            for (int dayOfWeek = 1; dayOfWeek <= 7; dayOfWeek++) {
+                if (rule.hasWeekday(dayOfWeek)) {
+                    buffer[size++] = findDateByWeekAndDay(month, weekBit, dayOfWeek);
+                }
+            }
         }
         
-        return targetDate;
+        // 날짜순 정렬 후 중복 제거 (예: 넷째 주와 마지막 주가 같은 날인 경우)
+        Arrays.sort(buffer, 0, size);
+        int distinct = 0;
+        for (int i = 0; i < size; i++) {
+            if (distinct == 0 || buffer[i] != buffer[distinct - 1]) {
+                buffer[distinct++] = buffer[i];
+            }
+        }
+        return distinct;
     }
 
     /**
-     * 특정 월의 마지막 해당 요일 찾기
+     * 특정 월의 특정 주차에서 특정 요일 찾기
      * 
-     * @param month 대상 월
-     * @param dayOfWeek 요일
-     * @return 해당 월의 마지막 해당 요일
+     * @param month 대상 월 (1일 기준)
+     * @param weekBit 주차 비트 (0=마지막주, 1=첫째주, ..., 4=넷째주)
+     * @param dayOfWeek ISO 요일 번호 (1: 월요일 ~ 7: 일요일)
+     * @return 해당 날짜의 epoch day
      */
-    private LocalDate findLastOccurrenceInMonth(LocalDate month, DayOfWeek dayOfWeek) {
-        return month.with(TemporalAdjusters.lastInMonth(dayOfWeek));
+    private static long findDateByWeekAndDay(LocalDate month, int weekBit, int dayOfWeek) {
+        long firstDayOfMonth = month.toEpochDay();
+        
+        // 마지막 주 처리
+        if (weekBit == 0) {
+            long lastDayOfMonth = firstDayOfMonth + month.lengthOfMonth() - 1;
+            return lastDayOfMonth - Math.floorMod(RecurringGeneratorUtils.dayOfWeek(lastDayOfMonth) - dayOfWeek, 7);
+        }
+        
+        // 첫째~넷째 주 처리: 해당 월의 첫 번째 해당 요일에서 목표 주차까지 이동 (항상 28일 이내)
+        long firstOccurrence = firstDayOfMonth + Math.floorMod(dayOfWeek - RecurringGeneratorUtils.dayOfWeek(firstDayOfMonth), 7);
+        return firstOccurrence + 7L * (weekBit - 1);
     }
 }
@@ -0,0 +1,94 @@
+package org.example.calendar.plan.service.recurring;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * 반복 발생일(epoch day) 지연 반복자 공통 구현
+ *
+ * <h3>동작 방식</h3>
+ * <ul>
+ *   <li>하위 클래스는 {@link #nextCandidate()}로 후보 날짜를 오름차순으로 하나씩 계산</li>
+ *   <li>공통 필터: 반복 시작일 이후, 조회 범위 [from, to] 이내, 반복 종료일 이전, 예외 날짜 제외</li>
+ *   <li>후보가 조회 범위 또는 반복 종료일을 넘으면 즉시 종료 (조기 종료 지원)</li>
+ *   <li>필수 값이 빠진 규칙({@link RecurrenceRule#isExpandable()}이 false)은 빈 범위로 취급
+ *       → 종료일 없이 LocalDate.MAX까지 조회해도 빈 주기를 끝없이 훑지 않음</li>
+ * </ul>
+ *
+ * <p>날짜는 모두 epoch day(long)로 다루므로 발생일마다 객체를 생성하지 않습니다.
+ * 후보가 오름차순이므로 예외 날짜는 정렬된 배열을 한 방향으로 함께 훑으며(merge-walk) 확인합니다.</p>
+ *
+ * @author Calendar Team
+ * @since 2025-08-22
+ */
+abstract class OccurrenceIterator implements PrimitiveIterator.OfLong {
+
+    /**
+     * 더 이상 후보가 없음을 나타내는 값
+     */
+    static final long DONE = Long.MAX_VALUE;
+
+    protected final RecurrenceRule rule;
+    protected final long from;
+    private final long limit;
+
+    private int exceptionIndex;
+    private long next;
+    private boolean ready;
+    private boolean finished;
+
+    protected OccurrenceIterator(RecurrenceRule rule, long from, long to) {
+        this.rule = rule;
+        this.from = Math.max(from, rule.getAnchorEpochDay());
+        this.limit = rule.isExpandable() ? Math.min(to, rule.getEndEpochDay()) : Long.MIN_VALUE;
+        this.exceptionIndex = rule.exceptionIndexOnOrAfter(this.from);
+    }
+
+    /**
+     * 다음 후보 발생일 계산
+     *
+     * @return 이전 후보보다 큰 epoch day (후보가 없으면 {@link #DONE})
+     */
+    protected abstract long nextCandidate();
+
+    @Override
+    public boolean hasNext() {
+        while (!ready && !finished) {
+            long candidate = nextCandidate();
+            if (candidate == DONE || candidate > limit) {
+                finished = true;
+            } else if (candidate >= from && !isException(candidate)) {
+                next = candidate;
+                ready = true;
+            }
+        }
+        return ready;
+    }
+
+    @Override
+    public long nextLong() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ready = false;
+        return next;
+    }
+
+    /**
+     * 예외 날짜 여부 (오름차순 후보 전제, 예외 배열 포인터를 앞으로만 이동)
+     */
+    private boolean isException(long candidate) {
+        int count = rule.exceptionCount();
+        while (exceptionIndex < count && rule.exceptionAt(exceptionIndex) < candidate) {
+            exceptionIndex++;
+        }
+        return exceptionIndex < count && rule.exceptionAt(exceptionIndex) == candidate;
+    }
+
+    /**
+     * 조회 범위가 비어 있는지 확인 (하위 클래스 초기화 시 사용)
+     */
+    protected boolean isEmptyRange() {
+        return from > limit;
+    }
+}
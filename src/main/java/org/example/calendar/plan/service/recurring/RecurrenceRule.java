@@ -0,0 +1,280 @@
+package org.example.calendar.plan.service.recurring;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.example.calendar.plan.entity.Plan;
+import org.example.calendar.plan.entity.RecurringInfo;
+import org.example.calendar.plan.enums.RepeatUnit;
+import org.example.calendar.plan.repository.projection.PlanRow;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 컴파일된 반복 규칙 (불변 객체)
+ *
+ * <p>RecurringInfo 엔티티의 Hibernate 컬렉션(Set&lt;DayOfWeek&gt;, Set&lt;Integer&gt;, Set&lt;LocalDate&gt;)을
+ * 한 번만 읽어 원시 타입 필드로 변환해 둔 반복 규칙입니다.
+ * 반복 Generator는 엔티티 대신 이 객체를 평가하므로, 자주 조회되는 월에서는
+ * 지연 로딩 컬렉션이나 박싱된 Set을 다시 읽지 않습니다.</p>
+ *
+ * <h3>표현 방식</h3>
+ * <ul>
+ *   <li><strong>요일 마스크</strong>: 비트 (ISO 요일 - 1), 월요일 = 0번 비트</li>
+ *   <li><strong>주차 마스크</strong>: 0번 비트 = 마지막 주(-1 또는 5 이상), 1~4번 비트 = 첫째~넷째 주</li>
+ *   <li><strong>날짜</strong>: 모두 epoch day (long)</li>
+ *   <li><strong>예외 날짜</strong>: 정렬된 long[] (단건은 이진 탐색, 반복자는 순차 병합)</li>
+ * </ul>
+ *
+ * @author Calendar Team
+ * @since 2025-08-22
+ */
+@Getter
+public final class RecurrenceRule {
+
+    /**
+     * 반복 종료일이 없는 경우의 종료 epoch day
+     */
+    public static final long NO_END = Long.MAX_VALUE;
+
+    /**
+     * 주차 마스크에서 마지막 주를 나타내는 비트
+     */
+    public static final int LAST_WEEK_BIT = 1;
+
+    private final Long recurringInfoId;
+    private final Long planVersion;
+    private final RepeatUnit repeatUnit;
+    private final int interval;
+    private final int weekdayMask;
+    private final int weekOfMonthMask;
+    private final int dayOfMonth;        // 0 = 미지정
+    private final int month;             // 0 = 미지정
+    private final int dayOfYear;         // 0 = 미지정
+    private final long anchorEpochDay;   // 반복 시작일 (Plan.startDate)
+    private final long endEpochDay;      // 반복 종료일 (RecurringInfo.endDate, 없으면 NO_END)
+    private final long durationDays;     // 인스턴스 기간 (Plan.endDate - Plan.startDate)
+
+    @Getter(AccessLevel.NONE)
+    private final long[] exceptionEpochDays;
+
+    private RecurrenceRule(Long recurringInfoId, Long planVersion, RepeatUnit repeatUnit, int interval,
+                           int weekdayMask, int weekOfMonthMask, int dayOfMonth, int month, int dayOfYear,
+                           long anchorEpochDay, long endEpochDay, long durationDays, long[] exceptionEpochDays) {
+        this.recurringInfoId = recurringInfoId;
+        this.planVersion = planVersion;
+        this.repeatUnit = repeatUnit;
+        this.interval = interval;
+        this.weekdayMask = weekdayMask;
+        this.weekOfMonthMask = weekOfMonthMask;
+        this.dayOfMonth = dayOfMonth;
+        this.month = month;
+        this.dayOfYear = dayOfYear;
+        this.anchorEpochDay = anchorEpochDay;
+        this.endEpochDay = endEpochDay;
+        this.durationDays = durationDays;
+        this.exceptionEpochDays = exceptionEpochDays;
+    }
+
+    /**
+     * Plan과 RecurringInfo로부터 반복 규칙 컴파일
+     * 예외 날짜는 RecurringInfo의 지연 로딩 컬렉션에서 읽음
+     *
+     * @param plan 원본 반복 계획 (recurringInfo 필수)
+     * @return 컴파일된 반복 규칙
+     */
+    public static RecurrenceRule compile(Plan plan) {
+        return compile(plan, toSortedEpochDays(plan.getRecurringInfo().getExceptionDates()));
+    }
+
+    /**
+     * 미리 일괄 조회한 예외 날짜로 반복 규칙 컴파일
+     *
+     * @param plan 원본 반복 계획 (recurringInfo 필수)
+     * @param sortedExceptionEpochDays 오름차순 정렬된 예외 날짜 epoch day 배열
+     * @return 컴파일된 반복 규칙
+     */
+    public static RecurrenceRule compile(Plan plan, long[] sortedExceptionEpochDays) {
+        RecurringInfo recurring = plan.getRecurringInfo();
+
+        return new RecurrenceRule(
+                recurring.getId(),
+                plan.getVersion(),
+                recurring.getRepeatUnit(),
+                normalizeInterval(recurring.getRepeatInterval()),
+                toWeekdayMask(recurring.getRepeatWeekdays()),
+                toWeekOfMonthMask(recurring.getRepeatWeeksOfMonth()),
+                valueOrZero(recurring.getRepeatDayOfMonth()),
+                valueOrZero(recurring.getRepeatMonth()),
+                valueOrZero(recurring.getRepeatDayOfYear()),
+                plan.getStartDate().toEpochDay(),
+                recurring.getEndDate() != null ? recurring.getEndDate().toEpochDay() : NO_END,
+                plan.getEndDate().toEpochDay() - plan.getStartDate().toEpochDay(),
+                sortedExceptionEpochDays
+        );
+    }
+
+    /**
+     * 읽기 모델(PlanRow)로부터 반복 규칙 컴파일 (예외 날짜는 조회 시 함께 읽은 값 사용)
+     *
+     * @param row 원본 반복 계획 읽기 모델 (recurring 필수)
+     * @return 컴파일된 반복 규칙
+     */
+    public static RecurrenceRule compile(PlanRow row) {
+        PlanRow.RecurringRow recurring = row.recurring();
+
+        return new RecurrenceRule(
+                recurring.id(),
+                row.version(),
+                recurring.repeatUnit(),
+                normalizeInterval(recurring.repeatInterval()),
+                toWeekdayMask(recurring.repeatWeekdays()),
+                toWeekOfMonthMask(recurring.repeatWeeksOfMonth()),
+                valueOrZero(recurring.repeatDayOfMonth()),
+                valueOrZero(recurring.repeatMonth()),
+                valueOrZero(recurring.repeatDayOfYear()),
+                row.startDate().toEpochDay(),
+                recurring.endDate() != null ? recurring.endDate().toEpochDay() : NO_END,
+                row.endDate().toEpochDay() - row.startDate().toEpochDay(),
+                toSortedEpochDays(recurring.exceptionDates())
+        );
+    }
+
+    /**
+     * 발생일을 만들 수 있는 규칙인지 확인 (반복 단위별 필수 값)
+     *
+     * <ul>
+     *   <li>주간: 반복 요일 1개 이상</li>
+     *   <li>월간: 특정 날짜, 또는 주차와 요일 모두 지정</li>
+     *   <li>연간: 월과 일 모두 지정</li>
+     * </ul>
+     */
+    public boolean isExpandable() {
+        if (repeatUnit == null) {
+            return false;
+        }
+        return switch (repeatUnit) {
+            case WEEKLY -> weekdayMask != 0;
+            case MONTHLY -> dayOfMonth > 0 || (weekOfMonthMask != 0 && weekdayMask != 0);
+            case YEARLY -> month != 0 && dayOfYear != 0;
+        };
+    }
+
+    /**
+     * 특정 요일이 반복 요일에 포함되는지 확인
+     *
+     * @param isoDayOfWeek ISO 요일 번호 (1: 월요일 ~ 7: 일요일)
+     */
+    public boolean hasWeekday(int isoDayOfWeek) {
+        return (weekdayMask & (1 << (isoDayOfWeek - 1))) != 0;
+    }
+
+    /**
+     * 특정 주차가 반복 주차에 포함되는지 확인
+     *
+     * @param weekBit 주차 비트 번호 (0 = 마지막 주, 1~4 = 첫째~넷째 주)
+     */
+    public boolean hasWeekOfMonth(int weekBit) {
+        return (weekOfMonthMask & (1 << weekBit)) != 0;
+    }
+
+    /**
+     * 예외 날짜 여부 (이진 탐색)
+     */
+    public boolean isException(long epochDay) {
+        return exceptionEpochDays.length > 0 && Arrays.binarySearch(exceptionEpochDays, epochDay) >= 0;
+    }
+
+    /**
+     * 예외 날짜 개수
+     */
+    public int exceptionCount() {
+        return exceptionEpochDays.length;
+    }
+
+    /**
+     * epochDay 이상인 첫 예외 날짜의 인덱스 (없으면 exceptionCount())
+     */
+    public int exceptionIndexOnOrAfter(long epochDay) {
+        int index = Arrays.binarySearch(exceptionEpochDays, epochDay);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * index번째 예외 날짜 (오름차순)
+     */
+    public long exceptionAt(int index) {
+        return exceptionEpochDays[index];
+    }
+
+    /**
+     * 예외 날짜 목록 (오름차순, 수정 불가)
+     */
+    public List<LocalDate> getExceptionDates() {
+        return Arrays.stream(exceptionEpochDays).mapToObj(LocalDate::ofEpochDay).toList();
+    }
+
+    /**
+     * 인스턴스 생성 가능 여부 검증
+     *
+     * <ul>
+     *   <li>반복 시작일 이후</li>
+     *   <li>조회 범위 [from, to] 이내</li>
+     *   <li>반복 종료일 이전</li>
+     *   <li>예외 날짜가 아님</li>
+     * </ul>
+     */
+    public boolean isValidOccurrence(long epochDay, long from, long to) {
+        return epochDay >= anchorEpochDay
+                && epochDay >= from
+                && epochDay <= to
+                && epochDay <= endEpochDay
+                && !isException(epochDay);
+    }
+
+    private static int normalizeInterval(Integer interval) {
+        return interval != null && interval > 0 ? interval : 1;
+    }
+
+    private static int valueOrZero(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    private static int toWeekdayMask(Collection<DayOfWeek> weekdays) {
+        int mask = 0;
+        if (weekdays != null) {
+            for (DayOfWeek weekday : weekdays) {
+                mask |= 1 << (weekday.getValue() - 1);
+            }
+        }
+        return mask;
+    }
+
+    private static int toWeekOfMonthMask(Collection<Integer> weeksOfMonth) {
+        int mask = 0;
+        if (weeksOfMonth != null) {
+            for (Integer week : weeksOfMonth) {
+                if (week == null) {
+                    continue;
+                }
+                // 마지막 주 처리 (-1 또는 5 이상), 잘못된 주차는 무시
+                if (week == -1 || week >= 5) {
+                    mask |= LAST_WEEK_BIT;
+                } else if (week >= 1) {
+                    mask |= 1 << week;
+                }
+            }
+        }
+        return mask;
+    }
+
+    private static long[] toSortedEpochDays(Collection<LocalDate> dates) {
+        if (dates == null || dates.isEmpty()) {
+            return new long[0];
+        }
+        return dates.stream().mapToLong(LocalDate::toEpochDay).sorted().toArray();
+    }
+}
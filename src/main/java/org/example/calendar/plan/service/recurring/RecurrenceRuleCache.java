@@ -0,0 +1,204 @@
+package org.example.calendar.plan.service.recurring;
+
+import org.example.calendar.plan.entity.Plan;
+import org.example.calendar.plan.entity.RecurringInfo;
+import org.example.calendar.plan.repository.RecurringInfoRepository;
+import org.example.calendar.plan.repository.projection.PlanRow;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 컴파일된 반복 규칙 인메모리 캐시
+ *
+ * <h3>캐시 전략</h3>
+ * <ul>
+ *   <li><strong>키</strong>: RecurringInfo ID + Plan.version (버전이 다르면 다시 컴파일)</li>
+ *   <li><strong>크기 제한</strong>: LRU 방식, 최대 항목 수 초과 시 가장 오래 사용되지 않은 규칙 제거</li>
+ *   <li><strong>무효화</strong>: 계획 수정/삭제 시 해당 RecurringInfo 규칙 삭제</li>
+ *   <li><strong>일괄 준비</strong>: 조회 1회에 필요한 규칙의 예외 날짜를 쿼리 1회로 읽어 컴파일
+ *       (시리즈마다 지연 로딩 컬렉션을 초기화하지 않음)</li>
+ * </ul>
+ *
+ * @author Calendar Team
+ * @since 2025-08-22
+ */
+@Component
+public class RecurrenceRuleCache {
+
+    private static final long[] NO_EXCEPTIONS = new long[0];
+
+    private final Map<Long, RecurrenceRule> rules;
+    private final RecurringInfoRepository recurringInfoRepository;
+
+    public RecurrenceRuleCache(@Value("${plan.recurrence.rule-cache-size:10000}") int maxSize,
+                               RecurringInfoRepository recurringInfoRepository) {
+        this.recurringInfoRepository = recurringInfoRepository;
+        this.rules = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, RecurrenceRule> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 계획의 반복 규칙 조회 (없으면 컴파일 후 캐시)
+     *
+     * @param plan 반복 계획
+     * @return 컴파일된 반복 규칙 (반복 설정이 없으면 null)
+     */
+    public RecurrenceRule getRule(Plan plan) {
+        RecurringInfo recurring = plan.getRecurringInfo();
+        if (recurring == null || recurring.getRepeatUnit() == null) {
+            return null;
+        }
+
+        // 아직 저장되지 않은 반복 정보는 캐시하지 않음
+        Long recurringInfoId = recurring.getId();
+        if (recurringInfoId == null) {
+            return RecurrenceRule.compile(plan);
+        }
+
+        synchronized (rules) {
+            RecurrenceRule cached = rules.get(recurringInfoId);
+            if (cached != null && Objects.equals(cached.getPlanVersion(), plan.getVersion())) {
+                return cached;
+            }
+        }
+
+        RecurrenceRule compiled = RecurrenceRule.compile(plan);
+        synchronized (rules) {
+            rules.put(recurringInfoId, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * 읽기 모델의 반복 규칙 조회 (없으면 컴파일 후 캐시)
+     * 예외 날짜가 읽기 모델에 포함되어 있으므로 추가 쿼리가 없음
+     *
+     * @param row 반복 계획 읽기 모델
+     * @return 컴파일된 반복 규칙 (반복 설정이 없으면 null)
+     */
+    public RecurrenceRule getRule(PlanRow row) {
+        PlanRow.RecurringRow recurring = row.recurring();
+        if (recurring == null || recurring.repeatUnit() == null) {
+            return null;
+        }
+
+        synchronized (rules) {
+            RecurrenceRule cached = rules.get(recurring.id());
+            if (cached != null && Objects.equals(cached.getPlanVersion(), row.version())) {
+                return cached;
+            }
+        }
+
+        RecurrenceRule compiled = RecurrenceRule.compile(row);
+        synchronized (rules) {
+            rules.put(recurring.id(), compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * 조회 대상 계획들의 반복 규칙 일괄 준비
+     * 
+     * <p>캐시에 없거나 버전이 다른 규칙만 모아, 예외 날짜를 한 번의 쿼리로 읽은 뒤 컴파일합니다.
+     * 예외 날짜 컬렉션이 이미 초기화된 계획은 쿼리 없이 바로 컴파일합니다.
+     * 이후 {@link #getRule(Plan)}은 캐시에서 바로 반환됩니다.</p>
+     *
+     * @param plans 월별/기간 조회 결과 계획 목록
+     */
+    public void prepare(Collection<Plan> plans) {
+        Map<Long, Plan> stalePlans = new LinkedHashMap<>();
+
+        synchronized (rules) {
+            for (Plan plan : plans) {
+                RecurringInfo recurring = plan.getRecurringInfo();
+                if (!plan.isRecurringPlan() || recurring == null
+                        || recurring.getId() == null || recurring.getRepeatUnit() == null) {
+                    continue;
+                }
+                RecurrenceRule cached = rules.get(recurring.getId());
+                if (cached != null && Objects.equals(cached.getPlanVersion(), plan.getVersion())) {
+                    continue;
+                }
+                // 예외 날짜가 이미 로딩된 경우(fetch join 조회) 추가 쿼리 없이 바로 컴파일
+                if (Hibernate.isInitialized(recurring.getExceptionDates())) {
+                    rules.put(recurring.getId(), RecurrenceRule.compile(plan));
+                } else {
+                    stalePlans.put(recurring.getId(), plan);
+                }
+            }
+        }
+
+        if (stalePlans.isEmpty()) {
+            return;
+        }
+
+        Map<Long, long[]> exceptions = loadExceptionEpochDays(stalePlans.keySet());
+
+        for (Map.Entry<Long, Plan> entry : stalePlans.entrySet()) {
+            RecurrenceRule compiled = RecurrenceRule.compile(
+                    entry.getValue(), exceptions.getOrDefault(entry.getKey(), NO_EXCEPTIONS));
+            synchronized (rules) {
+                rules.put(entry.getKey(), compiled);
+            }
+        }
+    }
+
+    /**
+     * 예외 날짜 일괄 조회 후 RecurringInfo ID별 정렬된 epoch day 배열로 변환
+     */
+    private Map<Long, long[]> loadExceptionEpochDays(Collection<Long> recurringInfoIds) {
+        List<Object[]> rows = recurringInfoRepository.findExceptionDatesByRecurringInfoIds(recurringInfoIds);
+        Map<Long, long[]> result = new HashMap<>();
+
+        // 결과가 (ID, 날짜) 오름차순이므로 ID가 바뀔 때마다 배열로 잘라 담음
+        long[] buffer = new long[16];
+        int size = 0;
+        Long currentId = null;
+        for (Object[] row : rows) {
+            Long recurringInfoId = (Long) row[0];
+            if (!recurringInfoId.equals(currentId)) {
+                if (currentId != null) {
+                    result.put(currentId, Arrays.copyOf(buffer, size));
+                }
+                currentId = recurringInfoId;
+                size = 0;
+            }
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            buffer[size++] = ((LocalDate) row[1]).toEpochDay();
+        }
+        if (currentId != null) {
+            result.put(currentId, Arrays.copyOf(buffer, size));
+        }
+        return result;
+    }
+
+    /**
+     * 반복 규칙 캐시 삭제
+     *
+     * @param recurringInfoId RecurringInfo ID
+     */
+    public void evict(Long recurringInfoId) {
+        if (recurringInfoId == null) {
+            return;
+        }
+        synchronized (rules) {
+            rules.remove(recurringInfoId);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import org.example.calendar.plan.entity.Plan;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.PrimitiveIterator;
 
 /**
  * 반복 일정 생성기 인터페이스
@@ -13,6 +14,8 @@ import java.util.List;
  * <ul>
  *   <li>각 반복 단위별 Generator의 공통 인터페이스 정의</li>
  *   <li>일관된 API 제공</li>
+ *   <li>발생일만 필요한 호출자(충돌 검사, 알람 전개, 바쁜 날 집계)를 위한 지연 반복 API 제공</li>
+ *   <li>특정 날짜 기준 다음/이전 발생일 계산 (월 단위 전개 없이 산술 계산)</li>
  *   <li>확장성 및 테스트 용이성 보장</li>
  * </ul>
  * 
@@ -37,4 +40,88 @@ public interface RecurringGenerator {
      * @return 생성된 인스턴스 목록
      */
     List<PlanResponse> generateInstances(Plan plan, LocalDate monthStart, LocalDate monthEnd);
+
+    /**
+     * 반복 발생일 지연 반복
+     *
+     * <p>[from, to] 범위의 발생일을 epoch day 오름차순으로 하나씩 계산합니다.
+     * DTO를 만들지 않으며, 호출자가 필요한 만큼만 읽고 중단할 수 있습니다.</p>
+     *
+     * @param rule 컴파일된 반복 규칙
+     * @param from 조회 범위 시작일 (포함)
+     * @param to 조회 범위 종료일 (포함)
+     * @return 발생일(epoch day) 반복자
+     */
+    PrimitiveIterator.OfLong occurrences(RecurrenceRule rule, LocalDate from, LocalDate to);
+
+    /**
+     * 발생일이 없음을 나타내는 값
+     */
+    long NO_OCCURRENCE = Long.MIN_VALUE;
+
+    /**
+     * epochDay 이상인 첫 후보 발생일 (반복 시작일 이후, 예외 날짜/반복 종료일은 고려하지 않음)
+     *
+     * <p>시작일부터 한 주기씩 따라가지 않고, 나머지 연산으로 해당 주기를 바로 계산합니다.</p>
+     *
+     * @param rule 컴파일된 반복 규칙
+     * @param epochDay 기준 날짜 (반복 시작일 이상)
+     * @return 후보 발생일 (없으면 {@link #NO_OCCURRENCE})
+     */
+    long firstCandidateOnOrAfter(RecurrenceRule rule, long epochDay);
+
+    /**
+     * epochDay 이하인 마지막 후보 발생일 (반복 시작일 이후, 예외 날짜/반복 종료일은 고려하지 않음)
+     *
+     * @param rule 컴파일된 반복 규칙
+     * @param epochDay 기준 날짜
+     * @return 후보 발생일 (없으면 {@link #NO_OCCURRENCE})
+     */
+    long lastCandidateOnOrBefore(RecurrenceRule rule, long epochDay);
+
+    /**
+     * 기준 날짜 다음(초과) 첫 발생일
+     *
+     * <p>후보가 예외 날짜이면 그 다음 후보를 다시 계산하므로, 반복 횟수는 예외 날짜 수 + 1 이하입니다.</p>
+     *
+     * @param rule 컴파일된 반복 규칙
+     * @param epochDay 기준 날짜 (제외)
+     * @return 다음 발생일 (없으면 {@link #NO_OCCURRENCE})
+     */
+    default long nextOccurrenceAfter(RecurrenceRule rule, long epochDay) {
+        long day = Math.max(epochDay + 1, rule.getAnchorEpochDay());
+        while (day <= rule.getEndEpochDay()) {
+            long candidate = firstCandidateOnOrAfter(rule, day);
+            if (candidate == NO_OCCURRENCE || candidate > rule.getEndEpochDay()) {
+                return NO_OCCURRENCE;
+            }
+            if (!rule.isException(candidate)) {
+                return candidate;
+            }
+            day = candidate + 1;
+        }
+        return NO_OCCURRENCE;
+    }
+
+    /**
+     * 기준 날짜 이전(미만) 마지막 발생일
+     *
+     * @param rule 컴파일된 반복 규칙
+     * @param epochDay 기준 날짜 (제외)
+     * @return 이전 발생일 (없으면 {@link #NO_OCCURRENCE})
+     */
+    default long previousOccurrenceBefore(RecurrenceRule rule, long epochDay) {
+        long day = Math.min(epochDay - 1, rule.getEndEpochDay());
+        while (day >= rule.getAnchorEpochDay()) {
+            long candidate = lastCandidateOnOrBefore(rule, day);
+            if (candidate == NO_OCCURRENCE || candidate < rule.getAnchorEpochDay()) {
+                return NO_OCCURRENCE;
+            }
+            if (!rule.isException(candidate)) {
+                return candidate;
+            }
+            day = candidate - 1;
+        }
+        return NO_OCCURRENCE;
+    }
 }
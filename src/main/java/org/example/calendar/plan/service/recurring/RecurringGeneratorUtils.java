@@ -5,14 +5,17 @@ import org.example.calendar.plan.entity.Plan;
 import org.example.calendar.plan.mapper.PlanMapper;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
 
 /**
  * 반복 일정 생성기 공통 유틸리티 클래스
  * 
  * <h3>제공 기능</h3>
  * <ul>
- *   <li>PlanResponse 인스턴스 생성</li>
- *   <li>인스턴스 유효성 검증</li>
+ *   <li>PlanResponse 인스턴스 생성 (계획당 템플릿 1회 변환 후 얕은 복사)</li>
+ *   <li>발생일 반복자 → PlanResponse 목록 변환</li>
  *   <li>공통 날짜 계산 로직</li>
  * </ul>
  * 
@@ -28,66 +31,63 @@ public final class RecurringGeneratorUtils {
     }
 
     /**
-     * 기본 PlanResponse 인스턴스 생성
+     * 템플릿을 기반으로 PlanResponse 인스턴스 생성 (얕은 복사)
      * 
-     * @param originalPlan 원본 계획
+     * <p>날짜 필드만 바꾸고 반복 정보, 알람 목록 등 나머지 필드는 템플릿과 공유합니다.</p>
+     * 
+     * @param template 계획당 한 번 변환한 PlanResponse 템플릿
      * @param instanceDate 인스턴스 날짜
-     * @param planMapper PlanMapper 인스턴스
+     * @param durationDays 인스턴스 기간 (원본 계획의 종료일 - 시작일)
      * @return 생성된 PlanResponse 인스턴스
      */
-    public static PlanResponse createPlanInstance(Plan originalPlan, LocalDate instanceDate, PlanMapper planMapper) {
-        PlanResponse instance = planMapper.toPlanResponse(originalPlan);
-        
-        // 시작 날짜를 인스턴스 날짜로 설정
-        instance.setStartDate(instanceDate);
-        
-        // 종료 날짜 계산 (원본 계획의 기간만큼 유지)
-        long daysBetween = originalPlan.getEndDate().toEpochDay() - originalPlan.getStartDate().toEpochDay();
-        instance.setEndDate(instanceDate.plusDays(daysBetween));
-        
-        return instance;
+    public static PlanResponse createPlanInstance(PlanResponse template, LocalDate instanceDate, long durationDays) {
+        return template.toBuilder()
+                .startDate(instanceDate)                        // 시작 날짜를 인스턴스 날짜로 설정
+                .endDate(instanceDate.plusDays(durationDays))   // 원본 계획의 기간만큼 유지
+                .build();
     }
 
     /**
-     * 인스턴스 생성 가능 여부 검증
+     * 발생일 반복자를 PlanResponse 인스턴스 목록으로 변환
      * 
-     * @param plan 원본 계획
-     * @param instanceDate 인스턴스 날짜
-     * @param monthStart 조회 월 시작일
-     * @param monthEnd 조회 월 종료일
-     * @return 생성 가능 여부
+     * <p>원본 계획은 한 번만 PlanResponse로 변환(템플릿)하고,
+     * 각 발생일은 템플릿의 얕은 복사본으로 만듭니다.
+     * 템플릿의 예외 날짜는 컴파일된 규칙에서 가져오므로 지연 로딩 컬렉션을 읽지 않습니다.</p>
+     *
+     * @param originalPlan 원본 계획
+     * @param rule 컴파일된 반복 규칙
+     * @param occurrences 발생일(epoch day) 반복자
+     * @param planMapper PlanMapper 인스턴스
+     * @return 생성된 PlanResponse 인스턴스 목록
      */
-    public static boolean isValidInstance(Plan plan, LocalDate instanceDate, LocalDate monthStart, LocalDate monthEnd) {
-        // null 체크
-        if (plan == null || instanceDate == null || monthStart == null || monthEnd == null) {
-            return false;
-        }
-        
-        // 계획 시작일 이후여야 함
-        if (instanceDate.isBefore(plan.getStartDate())) {
-            return false;
-        }
-        
-        // 조회 월 범위 내에 있어야 함
-        if (instanceDate.isBefore(monthStart) || instanceDate.isAfter(monthEnd)) {
-            return false;
+    public static List<PlanResponse> createPlanInstances(Plan originalPlan, RecurrenceRule rule,
+                                                         PrimitiveIterator.OfLong occurrences, PlanMapper planMapper) {
+        List<PlanResponse> instances = new ArrayList<>();
+        if (!occurrences.hasNext()) {
+            return instances;
         }
-        
-        // 반복 종료일 확인
-        if (plan.getRecurringInfo() != null && plan.getRecurringInfo().getEndDate() != null) {
-            if (instanceDate.isAfter(plan.getRecurringInfo().getEndDate())) {
-                return false;
-            }
-        }
-        
-        // 예외 날짜 확인
-        if (plan.getRecurringInfo() != null && 
-            plan.getRecurringInfo().getExceptionDates() != null &&
-            plan.getRecurringInfo().getExceptionDates().contains(instanceDate)) {
-            return false;
+
+        PlanResponse template = planMapper.toPlanResponse(originalPlan, rule.getExceptionDates());
+        return createPlanInstances(template, rule, occurrences);
+    }
+
+    /**
+     * 발생일 반복자를 템플릿 기반 PlanResponse 인스턴스 목록으로 변환 (읽기 모델용)
+     *
+     * @param template 계획당 한 번 변환한 PlanResponse 템플릿
+     * @param rule 컴파일된 반복 규칙
+     * @param occurrences 발생일(epoch day) 반복자
+     * @return 생성된 PlanResponse 인스턴스 목록
+     */
+    public static List<PlanResponse> createPlanInstances(PlanResponse template, RecurrenceRule rule,
+                                                         PrimitiveIterator.OfLong occurrences) {
+        List<PlanResponse> instances = new ArrayList<>();
+        long durationDays = rule.getDurationDays();
+
+        while (occurrences.hasNext()) {
+            instances.add(createPlanInstance(template, LocalDate.ofEpochDay(occurrences.nextLong()), durationDays));
         }
-        
-        return true;
+        return instances;
     }
 
     /**
@@ -104,6 +104,56 @@ public final class RecurringGeneratorUtils {
         return endDate.toEpochDay() - startDate.toEpochDay();
     }
 
+    /**
+     * anchor에서 period 간격으로 증가하는 수열 중 from 이상인 첫 값 계산
+     *
+     * <p>시작일부터 조회 범위까지 한 단계씩 이동하지 않고, 나머지 연산으로 바로 건너뜁니다.</p>
+     *
+     * @param anchor 수열의 첫 값 (예: 첫 발생일의 epoch day, 시작 월 인덱스)
+     * @param from 조회 범위 시작값
+     * @param period 반복 간격 (1 이상)
+     * @return from 이상인 첫 값 (from이 anchor 이전이면 anchor)
+     */
+    public static long firstAlignedOnOrAfter(long anchor, long from, long period) {
+        if (from <= anchor) {
+            return anchor;
+        }
+        long steps = Math.floorDiv(from - anchor + period - 1, period);
+        return anchor + steps * period;
+    }
+
+    /**
+     * 날짜를 월 인덱스(년 * 12 + 월 - 1)로 변환
+     *
+     * @param date 날짜
+     * @return 월 인덱스
+     */
+    public static long toMonthIndex(LocalDate date) {
+        return date.getYear() * 12L + date.getMonthValue() - 1;
+    }
+
+    /**
+     * 월 인덱스를 해당 월의 1일로 변환
+     *
+     * @param monthIndex 월 인덱스 (년 * 12 + 월 - 1)
+     * @return 해당 월의 1일
+     */
+    public static LocalDate fromMonthIndex(long monthIndex) {
+        return LocalDate.of((int) Math.floorDiv(monthIndex, 12), (int) Math.floorMod(monthIndex, 12) + 1, 1);
+    }
+
+    /**
+     * epoch day의 ISO 요일 번호 계산 (1: 월요일 ~ 7: 일요일)
+     *
+     * <p>1970-01-01(epoch day 0)은 목요일입니다.</p>
+     *
+     * @param epochDay epoch day
+     * @return ISO 요일 번호
+     */
+    public static int dayOfWeek(long epochDay) {
+        return (int) Math.floorMod(epochDay + 3, 7) + 1;
+    }
+
     /**
      * 월의 유효한 일수로 조정
      * 
@@ -0,0 +1,135 @@
+package org.example.calendar.plan.service.recurring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.calendar.plan.dto.response.PlanResponse;
+import org.example.calendar.plan.mapper.PlanMapper;
+import org.example.calendar.plan.repository.projection.PlanRow;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * 조회 결과 계획 목록의 인스턴스 전개 (순차/병렬)
+ *
+ * <h3>동작 방식</h3>
+ * <ul>
+ *   <li><strong>순차 전개</strong>: 반복 계획 수가 임계값 미만이면 기존처럼 한 스레드에서 전개</li>
+ *   <li><strong>병렬 전개</strong>: 임계값 이상이면 시리즈별 전개를 전용 ForkJoinPool에 나누어 실행</li>
+ *   <li><strong>순서 보장</strong>: 두 방식 모두 조회 순서(start_date, start_time)대로 결과를 이어 붙임</li>
+ *   <li><strong>메트릭</strong>: plan.recurrence.expansion 타이머 (mode = sequential | parallel)</li>
+ * </ul>
+ *
+ * <p>입력은 불변 읽기 모델(PlanRow)이므로 영속성 컨텍스트와 무관하며,
+ * 작업 스레드에서 별도 준비 없이 바로 전개할 수 있습니다.</p>
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+@Component
+@Slf4j
+public class RecurringPlanExpander {
+
+    private static final String METRIC_NAME = "plan.recurrence.expansion";
+
+    private final RecurringPlanGenerator recurringPlanGenerator;
+    private final PlanMapper planMapper;
+    private final ForkJoinPool expansionPool;
+    private final Timer sequentialTimer;
+    private final Timer parallelTimer;
+
+    @Value("${plan.recurrence.parallel.enabled:true}")
+    private boolean parallelEnabled;
+
+    @Value("${plan.recurrence.parallel.threshold:200}")
+    private int parallelThreshold;
+
+    public RecurringPlanExpander(RecurringPlanGenerator recurringPlanGenerator,
+                                 PlanMapper planMapper,
+                                 @Qualifier("recurringExpansionPool") ForkJoinPool expansionPool,
+                                 MeterRegistry meterRegistry) {
+        this.recurringPlanGenerator = recurringPlanGenerator;
+        this.planMapper = planMapper;
+        this.expansionPool = expansionPool;
+        this.sequentialTimer = Timer.builder(METRIC_NAME).tag("mode", "sequential").register(meterRegistry);
+        this.parallelTimer = Timer.builder(METRIC_NAME).tag("mode", "parallel").register(meterRegistry);
+    }
+
+    /**
+     * 계획 목록을 응답으로 변환 (반복 계획은 기간 내 인스턴스로 전개)
+     *
+     * @param rows 조회 순서대로 정렬된 계획 읽기 모델 목록
+     * @param rangeStart 조회 범위 시작일
+     * @param rangeEnd 조회 범위 종료일
+     * @return 계획 순서를 유지한 응답 목록
+     */
+    public List<PlanResponse> expand(List<PlanRow> rows, LocalDate rangeStart, LocalDate rangeEnd) {
+        int recurringCount = 0;
+        for (PlanRow row : rows) {
+            if (row.isRecurringPlan()) {
+                recurringCount++;
+            }
+        }
+
+        if (parallelEnabled && recurringCount >= parallelThreshold) {
+            return parallelTimer.record(() -> expandParallel(rows, rangeStart, rangeEnd, recurringCount));
+        }
+        return sequentialTimer.record(() -> expandSequential(rows, rangeStart, rangeEnd));
+    }
+
+    private List<PlanResponse> expandSequential(List<PlanRow> rows, LocalDate rangeStart, LocalDate rangeEnd) {
+        List<PlanResponse> responses = new ArrayList<>();
+
+        for (PlanRow row : rows) {
+            if (row.isRecurringPlan()) {
+                // 반복 일정의 해당 기간 인스턴스들 생성
+                responses.addAll(recurringPlanGenerator.generateRecurringInstances(row, rangeStart, rangeEnd));
+            } else {
+                // 일반 일정
+                responses.add(planMapper.toPlanResponse(row));
+            }
+        }
+
+        return responses;
+    }
+
+    private List<PlanResponse> expandParallel(List<PlanRow> rows, LocalDate rangeStart, LocalDate rangeEnd,
+                                              int recurringCount) {
+        // 1. 반복 계획은 시리즈별로 작업 제출, 일반 계획은 바로 변환
+        List<ForkJoinTask<List<PlanResponse>>> tasks = new ArrayList<>(rows.size());
+        List<PlanResponse> singles = new ArrayList<>(rows.size());
+        for (PlanRow row : rows) {
+            if (row.isRecurringPlan()) {
+                tasks.add(expansionPool.submit(
+                        () -> recurringPlanGenerator.generateRecurringInstances(row, rangeStart, rangeEnd)));
+                singles.add(null);
+            } else {
+                tasks.add(null);
+                singles.add(planMapper.toPlanResponse(row));
+            }
+        }
+
+        log.debug("Parallel recurring expansion: recurringPlans={}, parallelism={}",
+                recurringCount, expansionPool.getParallelism());
+
+        // 2. 계획 순서대로 결과 병합
+        List<PlanResponse> responses = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            ForkJoinTask<List<PlanResponse>> task = tasks.get(i);
+            if (task != null) {
+                responses.addAll(task.join());
+            } else {
+                responses.add(singles.get(i));
+            }
+        }
+
+        return responses;
+    }
+}
@@ -5,11 +5,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.example.calendar.plan.dto.response.PlanResponse;
 import org.example.calendar.plan.entity.Plan;
 import org.example.calendar.plan.entity.RecurringInfo;
+import org.example.calendar.plan.mapper.PlanMapper;
+import org.example.calendar.plan.repository.projection.PlanRow;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.stream.LongStream;
 
 /**
  * 반복 일정 인스턴스 생성기 (메인 컨트롤러)
@@ -41,6 +46,8 @@ public class RecurringPlanGenerator {
     private final WeeklyRecurringGenerator weeklyGenerator;
     private final MonthlyRecurringGenerator monthlyGenerator;
     private final YearlyRecurringGenerator yearlyGenerator;
+    private final RecurrenceRuleCache ruleCache;
+    private final PlanMapper planMapper;
 
     /**
      * 반복 일정의 월별 인스턴스 생성 (메인 진입점)
@@ -78,4 +85,129 @@ public class RecurringPlanGenerator {
         }
         return instances;
     }
+
+    /**
+     * 읽기 모델(PlanRow)의 기간 내 인스턴스 생성 (월별/기간 조회 경로)
+     *
+     * <p>읽기 모델은 불변이고 예외 날짜를 포함하므로, DB나 영속성 컨텍스트에 접근하지 않으며
+     * 여러 스레드에서 동시에 호출해도 안전합니다.</p>
+     *
+     * @param row 원본 계획 읽기 모델
+     * @param from 조회 범위 시작일
+     * @param to 조회 범위 종료일
+     * @return 생성된 인스턴스 목록 (반복 계획이 아니면 빈 목록)
+     */
+    public List<PlanResponse> generateRecurringInstances(PlanRow row, LocalDate from, LocalDate to) {
+        if (row == null || !row.isRecurringPlan()) {
+            return new ArrayList<>();
+        }
+
+        RecurrenceRule rule = ruleCache.getRule(row);
+        if (rule == null) {
+            log.warn("반복 설정이 없습니다. planId: {}", row.id());
+            return new ArrayList<>();
+        }
+
+        try {
+            PrimitiveIterator.OfLong occurrences = occurrences(rule, from, to);
+            if (!occurrences.hasNext()) {
+                return new ArrayList<>();
+            }
+            return RecurringGeneratorUtils.createPlanInstances(planMapper.toPlanResponse(row), rule, occurrences);
+        } catch (Exception e) {
+            log.error("반복 인스턴스 생성 중 오류 발생 - planId: {}, repeatUnit: {}",
+                    row.id(), rule.getRepeatUnit(), e);
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * 반복 일정의 발생일 지연 반복 (DTO 생성 없음)
+     *
+     * <p>충돌 검사, 알람 전개, 바쁜 날 집계처럼 날짜만 필요한 호출자를 위한 진입점입니다.
+     * 발생일은 epoch day 오름차순으로 반환되며, 필요한 만큼만 읽고 중단할 수 있습니다.</p>
+     *
+     * @param plan 원본 반복 계획
+     * @param from 조회 범위 시작일 (포함)
+     * @param to 조회 범위 종료일 (포함)
+     * @return 발생일(epoch day) 반복자 (반복 계획이 아니면 빈 반복자)
+     */
+    public PrimitiveIterator.OfLong occurrences(Plan plan, LocalDate from, LocalDate to) {
+        if (plan == null || !Boolean.TRUE.equals(plan.getIsRecurring())) {
+            return LongStream.empty().iterator();
+        }
+
+        return occurrences(ruleCache.getRule(plan), from, to);
+    }
+
+    /**
+     * 컴파일된 반복 규칙의 발생일 지연 반복
+     *
+     * @param rule 컴파일된 반복 규칙 (null이면 빈 반복자)
+     * @param from 조회 범위 시작일 (포함)
+     * @param to 조회 범위 종료일 (포함)
+     * @return 발생일(epoch day) 반복자
+     */
+    public PrimitiveIterator.OfLong occurrences(RecurrenceRule rule, LocalDate from, LocalDate to) {
+        if (rule == null || rule.getRepeatUnit() == null) {
+            return LongStream.empty().iterator();
+        }
+
+        return generatorFor(rule).occurrences(rule, from, to);
+    }
+
+    /**
+     * 기준 날짜 다음 발생일 (알림, "다음 일정" 위젯, 알람 예약용)
+     *
+     * <p>월 단위로 전개하지 않고 반복 주기를 산술 계산하므로,
+     * 드문 연간 반복이나 24개월 간격 반복도 상수 시간에 가깝게 계산됩니다.</p>
+     *
+     * @param plan 원본 반복 계획
+     * @param date 기준 날짜 (제외)
+     * @return 다음 발생일 (없거나 반복 계획이 아니면 빈 값)
+     */
+    public Optional<LocalDate> nextOccurrenceAfter(Plan plan, LocalDate date) {
+        RecurrenceRule rule = ruleFor(plan);
+        if (rule == null) {
+            return Optional.empty();
+        }
+        return toDate(generatorFor(rule).nextOccurrenceAfter(rule, date.toEpochDay()));
+    }
+
+    /**
+     * 기준 날짜 이전 발생일
+     *
+     * @param plan 원본 반복 계획
+     * @param date 기준 날짜 (제외)
+     * @return 이전 발생일 (없거나 반복 계획이 아니면 빈 값)
+     */
+    public Optional<LocalDate> previousOccurrenceBefore(Plan plan, LocalDate date) {
+        RecurrenceRule rule = ruleFor(plan);
+        if (rule == null) {
+            return Optional.empty();
+        }
+        return toDate(generatorFor(rule).previousOccurrenceBefore(rule, date.toEpochDay()));
+    }
+
+    private RecurrenceRule ruleFor(Plan plan) {
+        if (plan == null || !Boolean.TRUE.equals(plan.getIsRecurring())) {
+            return null;
+        }
+        RecurrenceRule rule = ruleCache.getRule(plan);
+        return rule != null && rule.getRepeatUnit() != null ? rule : null;
+    }
+
+    private RecurringGenerator generatorFor(RecurrenceRule rule) {
+        return switch (rule.getRepeatUnit()) {
+            case WEEKLY -> weeklyGenerator;
+            case MONTHLY -> monthlyGenerator;
+            case YEARLY -> yearlyGenerator;
+        };
+    }
+
+    private static Optional<LocalDate> toDate(long epochDay) {
+        return epochDay == RecurringGenerator.NO_OCCURRENCE
+                ? Optional.empty()
+                : Optional.of(LocalDate.ofEpochDay(epochDay));
+    }
 }
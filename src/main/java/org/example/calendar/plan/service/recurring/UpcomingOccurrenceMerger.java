@@ -0,0 +1,142 @@
+package org.example.calendar.plan.service.recurring;
+
+import lombok.RequiredArgsConstructor;
+import org.example.calendar.plan.dto.response.PlanResponse;
+import org.example.calendar.plan.entity.Plan;
+import org.example.calendar.plan.mapper.PlanMapper;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.PriorityQueue;
+import java.util.stream.LongStream;
+
+/**
+ * 다가오는 일정(upcoming agenda) k-way 병합기
+ *
+ * <h3>동작 방식</h3>
+ * <ul>
+ *   <li>시리즈(반복 계획)마다 지연 발생일 커서를 하나씩 생성 (월 단위 전개 없음)</li>
+ *   <li>일반 계획은 시작일 하나만 가진 커서로 취급</li>
+ *   <li>기준 날짜에 진행 중인 인스턴스(여러 날 계획)도 포함: 시리즈 커서는 기준 날짜 - 기간부터 시작</li>
+ *   <li>우선순위 큐에서 가장 이른 커서를 꺼내 인스턴스를 만들고, 커서를 한 칸 전진시켜 다시 넣음</li>
+ *   <li>limit건을 채우면 즉시 중단 → O(N log S), N번째 이후 발생일은 계산하지 않음</li>
+ * </ul>
+ *
+ * <p>정렬 기준: 발생일 → 시작 시간 → 계획 ID</p>
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+@Component
+@RequiredArgsConstructor
+public class UpcomingOccurrenceMerger {
+
+    private static final Comparator<SeriesCursor> CURSOR_ORDER = Comparator
+            .comparingLong((SeriesCursor cursor) -> cursor.day)
+            .thenComparing(cursor -> cursor.plan.getStartTime(), Comparator.nullsFirst(Comparator.<LocalTime>naturalOrder()))
+            .thenComparing(cursor -> cursor.plan.getId(), Comparator.nullsFirst(Comparator.<Long>naturalOrder()));
+
+    private final RecurringPlanGenerator recurringPlanGenerator;
+    private final RecurrenceRuleCache ruleCache;
+    private final PlanMapper planMapper;
+
+    /**
+     * 일반 계획과 반복 계획의 다가오는 인스턴스를 시간순으로 병합
+     *
+     * @param singlePlans 기준 날짜 이후 끝나는 일반 계획 (시작 순서)
+     * @param recurringPlans 기준 날짜 이후 인스턴스가 생길 수 있는 반복 계획
+     * @param from 기준 날짜 (포함)
+     * @param limit 최대 인스턴스 수
+     * @return 시간순 인스턴스 목록 (최대 limit건)
+     */
+    public List<PlanResponse> merge(List<Plan> singlePlans, List<Plan> recurringPlans, LocalDate from, int limit) {
+        // 반복 규칙 일괄 준비 (예외 날짜 1회 조회)
+        ruleCache.prepare(recurringPlans);
+
+        List<SeriesCursor> cursors = new ArrayList<>(singlePlans.size() + recurringPlans.size());
+        for (Plan plan : singlePlans) {
+            addIfPresent(cursors, new SeriesCursor(plan, null,
+                    LongStream.of(plan.getStartDate().toEpochDay()).iterator()));
+        }
+        for (Plan plan : recurringPlans) {
+            RecurrenceRule rule = ruleCache.getRule(plan);
+            // 필수 값이 빠진 규칙은 발생일이 없으므로 커서를 만들지 않음
+            if (rule != null && rule.isExpandable()) {
+                // 기준 날짜 이전에 시작해 아직 끝나지 않은 인스턴스부터
+                LocalDate seriesFrom = from.minusDays(rule.getDurationDays());
+                addIfPresent(cursors, new SeriesCursor(plan, rule,
+                        recurringPlanGenerator.occurrences(rule, seriesFrom, LocalDate.MAX)));
+            }
+        }
+
+        // 커서 목록으로 힙 구성 (O(S))
+        PriorityQueue<SeriesCursor> queue = new PriorityQueue<>(Math.max(1, cursors.size()), CURSOR_ORDER);
+        queue.addAll(cursors);
+
+        List<PlanResponse> responses = new ArrayList<>(Math.min(limit, 256));
+        while (responses.size() < limit && !queue.isEmpty()) {
+            SeriesCursor cursor = queue.poll();
+            responses.add(cursor.toResponse());
+            if (cursor.advance()) {
+                queue.offer(cursor);
+            }
+        }
+
+        return responses;
+    }
+
+    private static void addIfPresent(List<SeriesCursor> cursors, SeriesCursor cursor) {
+        if (cursor.advance()) {
+            cursors.add(cursor);
+        }
+    }
+
+    /**
+     * 시리즈별 발생일 커서 (현재 발생일 + 나머지 지연 반복자)
+     */
+    private final class SeriesCursor {
+
+        private final Plan plan;
+        private final RecurrenceRule rule;
+        private final PrimitiveIterator.OfLong occurrences;
+        private PlanResponse template;
+        private long day;
+
+        private SeriesCursor(Plan plan, RecurrenceRule rule, PrimitiveIterator.OfLong occurrences) {
+            this.plan = plan;
+            this.rule = rule;
+            this.occurrences = occurrences;
+        }
+
+        /**
+         * 다음 발생일로 이동
+         *
+         * @return 다음 발생일이 있으면 true
+         */
+        private boolean advance() {
+            if (!occurrences.hasNext()) {
+                return false;
+            }
+            day = occurrences.nextLong();
+            return true;
+        }
+
+        /**
+         * 현재 발생일 인스턴스 생성 (계획당 템플릿은 처음 꺼낼 때 한 번만 변환)
+         */
+        private PlanResponse toResponse() {
+            if (rule == null) {
+                return planMapper.toPlanResponse(plan);
+            }
+            if (template == null) {
+                template = planMapper.toPlanResponse(plan, rule.getExceptionDates());
+            }
+            return RecurringGeneratorUtils.createPlanInstance(template, LocalDate.ofEpochDay(day), rule.getDurationDays());
+        }
+    }
+}
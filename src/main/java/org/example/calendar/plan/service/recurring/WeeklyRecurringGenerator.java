@@ -3,14 +3,13 @@ package org.example.calendar.plan.service.recurring;
 import lombok.extern.slf4j.Slf4j;
 import org.example.calendar.plan.dto.response.PlanResponse;
 import org.example.calendar.plan.entity.Plan;
-import org.example.calendar.plan.entity.RecurringInfo;
 import org.example.calendar.plan.mapper.PlanMapper;
 import org.springframework.stereotype.Component;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.PrimitiveIterator;
 
 /**
  * 주간 반복 일정 전용 생성기
@@ -21,6 +20,7 @@ import java.util.List;
  *   <li>N주 간격 반복 (예: 격주, 3주마다)</li>
  *   <li>복수 요일 동시 지원</li>
  *   <li>예외 날짜 처리</li>
+ *   <li>발생일 지연 반복 (여러 요일 커서 병합)</li>
  * </ul>
  *
  * @author Calendar Team
@@ -31,74 +31,116 @@ import java.util.List;
 public class WeeklyRecurringGenerator implements RecurringGenerator {
 
     private final PlanMapper planMapper;
+    private final RecurrenceRuleCache ruleCache;
 
-    public WeeklyRecurringGenerator(PlanMapper planMapper) {
+    public WeeklyRecurringGenerator(PlanMapper planMapper, RecurrenceRuleCache ruleCache) {
         this.planMapper = planMapper;
+        this.ruleCache = ruleCache;
     }
 
     @Override
     public List<PlanResponse> generateInstances(Plan plan, LocalDate monthStart, LocalDate monthEnd) {
-        List<PlanResponse> instances = new ArrayList<>();
-        RecurringInfo recurring = plan.getRecurringInfo();
+        RecurrenceRule rule = ruleCache.getRule(plan);
         
-        if (recurring == null || recurring.getRepeatWeekdays() == null || recurring.getRepeatWeekdays().isEmpty()) {
+        if (rule == null || !rule.isExpandable()) {
             log.warn("주간 반복 설정이 올바르지 않습니다. planId: {}", plan.getId());
-            return instances;
+            return new ArrayList<>();
         }
         
-        for (DayOfWeek targetDayOfWeek : recurring.getRepeatWeekdays()) {
-            generateInstancesForDayOfWeek(plan, monthStart, monthEnd, targetDayOfWeek, instances);
+        return RecurringGeneratorUtils.createPlanInstances(plan, rule, occurrences(rule, monthStart, monthEnd), planMapper);
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong occurrences(RecurrenceRule rule, LocalDate from, LocalDate to) {
+        return new WeeklyOccurrenceIterator(rule, from.toEpochDay(), to.toEpochDay());
+    }
+
+    @Override
+    public long firstCandidateOnOrAfter(RecurrenceRule rule, long epochDay) {
+        long period = 7L * rule.getInterval();
+        long first = NO_OCCURRENCE;
+        for (int dayOfWeek = 1; dayOfWeek <= 7; dayOfWeek++) {
+            if (rule.hasWeekday(dayOfWeek)) {
+                long firstOccurrence = findFirstOccurrenceOfDayOfWeek(rule.getAnchorEpochDay(), dayOfWeek);
+                long candidate = RecurringGeneratorUtils.firstAlignedOnOrAfter(firstOccurrence, epochDay, period);
+                if (first == NO_OCCURRENCE || candidate < first) {
+                    first = candidate;
+                }
+            }
         }
+        return first;
+    }
 
-        return instances;
+    @Override
+    public long lastCandidateOnOrBefore(RecurrenceRule rule, long epochDay) {
+        long period = 7L * rule.getInterval();
+        long last = NO_OCCURRENCE;
+        for (int dayOfWeek = 1; dayOfWeek <= 7; dayOfWeek++) {
+            if (rule.hasWeekday(dayOfWeek)) {
+                long firstOccurrence = findFirstOccurrenceOfDayOfWeek(rule.getAnchorEpochDay(), dayOfWeek);
+                if (firstOccurrence > epochDay) {
+                    continue;
+                }
+                // 해당 요일의 (첫 발생일 + k * 7 * 간격) 중 epochDay 이하인 마지막 값
+                long candidate = firstOccurrence + Math.floorDiv(epochDay - firstOccurrence, period) * period;
+                last = Math.max(last, candidate);
+            }
+        }
+        return last;
     }
 
     /**
-     * 특정 요일에 대한 주간 반복 인스턴스 생성
+     * 주간 반복 발생일 반복자
+     *
+     * <p>반복 요일마다 커서(다음 발생일)를 하나씩 두고, 가장 이른 커서를 꺼낸 뒤
+     * (7 * 간격)일만큼 전진시키는 방식으로 요일들을 날짜순으로 병합합니다.</p>
      */
-    private void generateInstancesForDayOfWeek(Plan plan, LocalDate monthStart, LocalDate monthEnd, 
-                                               DayOfWeek targetDayOfWeek, List<PlanResponse> instances) {
-        RecurringInfo recurring = plan.getRecurringInfo();
-        LocalDate planStart = plan.getStartDate();
-        
-        // 원래 계획 시작일부터 해당 요일의 첫 번째 발생일 찾기
-        LocalDate firstOccurrence = findFirstOccurrenceOfDayOfWeek(planStart, targetDayOfWeek);
-        
-        // 첫 발생일부터 반복 간격으로 계산하여 해당 월에 포함되는 날짜들 찾기
-        LocalDate current = firstOccurrence;
-        
-        // 현재 월 이전의 발생들을 건너뛰어 현재 월에 가까운 발생일 찾기
-        while (current.isBefore(monthStart)) {
-            current = current.plusWeeks(recurring.getRepeatInterval());
+    private static final class WeeklyOccurrenceIterator extends OccurrenceIterator {
+
+        private final long[] cursors;
+        private final long period;
+
+        WeeklyOccurrenceIterator(RecurrenceRule rule, long from, long to) {
+            super(rule, from, to);
+            this.period = 7L * rule.getInterval();
+            this.cursors = new long[Integer.bitCount(rule.getWeekdayMask())];
+            
+            int index = 0;
+            for (int dayOfWeek = 1; dayOfWeek <= 7; dayOfWeek++) {
+                if (rule.hasWeekday(dayOfWeek)) {
+                    // 원래 계획 시작일부터 해당 요일의 첫 번째 발생일 찾기
+                    long firstOccurrence = findFirstOccurrenceOfDayOfWeek(rule.getAnchorEpochDay(), dayOfWeek);
+                    // 조회 범위 이전의 발생들은 (첫 발생일 + k * 7 * 간격) 계산으로 한 번에 건너뛰기
+                    cursors[index++] = isEmptyRange()
+                            ? DONE
+                            : RecurringGeneratorUtils.firstAlignedOnOrAfter(firstOccurrence, this.from, period);
+                }
+            }
         }
-        
-        // 해당 월 범위 내에서 반복 인스턴스 생성
-        while (!current.isAfter(monthEnd)) {
-            if (RecurringGeneratorUtils.isValidInstance(plan, current, monthStart, monthEnd)) {
-                PlanResponse instance = RecurringGeneratorUtils.createPlanInstance(plan, current, planMapper);
-                instances.add(instance);
+
+        @Override
+        protected long nextCandidate() {
+            int earliest = -1;
+            for (int i = 0; i < cursors.length; i++) {
+                if (earliest < 0 || cursors[i] < cursors[earliest]) {
+                    earliest = i;
+                }
             }
-            
-            current = current.plusWeeks(recurring.getRepeatInterval());
+            if (earliest < 0 || cursors[earliest] == DONE) {
+                return DONE;
+            }
+            long candidate = cursors[earliest];
+            cursors[earliest] = candidate + period;
+            return candidate;
         }
     }
     
     /**
-     * 주어진 시작일부터 특정 요일의 첫 번째 발생일 찾기
+     * 주어진 시작일부터 특정 요일의 첫 번째 발생일 찾기 (epoch day)
      */
-    private LocalDate findFirstOccurrenceOfDayOfWeek(LocalDate startDate, DayOfWeek targetDayOfWeek) {
-        LocalDate current = startDate;
-        
-        // 시작일이 이미 목표 요일인 경우
-        if (current.getDayOfWeek() == targetDayOfWeek) {
-            return current;
-        }
-        
-        // 시작일부터 목표 요일까지 날짜 이동
-        while (current.getDayOfWeek() != targetDayOfWeek) {
-            current = current.plusDays(1);
-        }
-        
-        return current;
+    private static long findFirstOccurrenceOfDayOfWeek(long startEpochDay, int targetDayOfWeek) {
+        // 시작일 요일과 목표 요일의 차이만큼 이동 (시작일이 이미 목표 요일이면 0일)
+        int daysUntilTarget = Math.floorMod(targetDayOfWeek - RecurringGeneratorUtils.dayOfWeek(startEpochDay), 7);
+        return startEpochDay + daysUntilTarget;
     }
 }
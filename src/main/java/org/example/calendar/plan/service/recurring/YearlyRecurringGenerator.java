@@ -3,13 +3,13 @@ package org.example.calendar.plan.service.recurring;
 import lombok.extern.slf4j.Slf4j;
 import org.example.calendar.plan.dto.response.PlanResponse;
 import org.example.calendar.plan.entity.Plan;
-import org.example.calendar.plan.entity.RecurringInfo;
 import org.example.calendar.plan.mapper.PlanMapper;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.PrimitiveIterator;
 
 /**
  * 연간 반복 일정 전용 생성기
@@ -20,6 +20,7 @@ import java.util.List;
  *   <li>N년 간격 반복 (예: 격년, 3년마다)</li>
  *   <li>윤년 처리 (2월 29일 등)</li>
  *   <li>예외 날짜 처리</li>
+ *   <li>발생일 지연 반복 (여러 해에 걸친 조회 범위 지원)</li>
  * </ul>
  *
  * @author Calendar Team
@@ -30,58 +31,128 @@ import java.util.List;
 public class YearlyRecurringGenerator implements RecurringGenerator {
 
     private final PlanMapper planMapper;
+    private final RecurrenceRuleCache ruleCache;
 
-    public YearlyRecurringGenerator(PlanMapper planMapper) {
+    public YearlyRecurringGenerator(PlanMapper planMapper, RecurrenceRuleCache ruleCache) {
         this.planMapper = planMapper;
+        this.ruleCache = ruleCache;
     }
 
     @Override
     public List<PlanResponse> generateInstances(Plan plan, LocalDate monthStart, LocalDate monthEnd) {
-        List<PlanResponse> instances = new ArrayList<>();
-        RecurringInfo recurring = plan.getRecurringInfo();
+        RecurrenceRule rule = ruleCache.getRule(plan);
         
-        if (recurring == null || recurring.getRepeatMonth() == null || recurring.getRepeatDayOfYear() == null) {
+        if (rule == null || !rule.isExpandable()) {
             log.warn("연간 반복 설정이 올바르지 않습니다. planId: {}", plan.getId());
-            return instances;
+            return new ArrayList<>();
         }
+
+        return RecurringGeneratorUtils.createPlanInstances(plan, rule, occurrences(rule, monthStart, monthEnd), planMapper);
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong occurrences(RecurrenceRule rule, LocalDate from, LocalDate to) {
+        return new YearlyOccurrenceIterator(rule, from.toEpochDay(), to.toEpochDay());
+    }
+
+    @Override
+    public long firstCandidateOnOrAfter(RecurrenceRule rule, long epochDay) {
+        if (rule.getMonth() == 0 || rule.getDayOfYear() == 0) {
+            return NO_OCCURRENCE;
+        }
+
+        int startYear = LocalDate.ofEpochDay(rule.getAnchorEpochDay()).getYear();
+        long year = RecurringGeneratorUtils.firstAlignedOnOrAfter(
+                startYear, LocalDate.ofEpochDay(epochDay).getYear(), rule.getInterval());
         
-        // 조회 월이 반복 대상 월과 일치하는 경우만 처리
-        if (monthStart.getMonthValue() <= recurring.getRepeatMonth() && 
-            monthEnd.getMonthValue() >= recurring.getRepeatMonth()) {
-            
-            generateYearlyInstance(plan, monthStart, monthEnd, instances);
+        // 기준 연도의 발생일이 기준 날짜보다 이르면 다음 반복 연도
+        for (int attempt = 0; attempt < 2; attempt++, year += rule.getInterval()) {
+            LocalDate instanceDate = instanceDateOf(rule, year);
+            if (instanceDate == null) {
+                return NO_OCCURRENCE;
+            }
+            long candidate = instanceDate.toEpochDay();
+            if (candidate >= epochDay && candidate >= rule.getAnchorEpochDay()) {
+                return candidate;
+            }
+        }
+        return NO_OCCURRENCE;
+    }
+
+    @Override
+    public long lastCandidateOnOrBefore(RecurrenceRule rule, long epochDay) {
+        if (rule.getMonth() == 0 || rule.getDayOfYear() == 0) {
+            return NO_OCCURRENCE;
         }
 
-        return instances;
+        int startYear = LocalDate.ofEpochDay(rule.getAnchorEpochDay()).getYear();
+        int targetYear = LocalDate.ofEpochDay(epochDay).getYear();
+        if (targetYear < startYear) {
+            return NO_OCCURRENCE;
+        }
+        long year = startYear + Math.floorDiv(targetYear - startYear, rule.getInterval()) * (long) rule.getInterval();
+        
+        // 기준 연도의 발생일이 기준 날짜보다 늦으면 이전 반복 연도
+        for (int attempt = 0; attempt < 2 && year >= startYear; attempt++, year -= rule.getInterval()) {
+            LocalDate instanceDate = instanceDateOf(rule, year);
+            if (instanceDate == null) {
+                return NO_OCCURRENCE;
+            }
+            long candidate = instanceDate.toEpochDay();
+            if (candidate <= epochDay && candidate >= rule.getAnchorEpochDay()) {
+                return candidate;
+            }
+        }
+        return NO_OCCURRENCE;
     }
 
     /**
-     * 연간 반복 인스턴스 생성
+     * 해당 연도의 발생일 (윤년 처리 포함, 범위를 벗어나면 null)
      */
-    private void generateYearlyInstance(Plan plan, LocalDate monthStart, LocalDate monthEnd, 
-                                      List<PlanResponse> instances) {
-        RecurringInfo recurring = plan.getRecurringInfo();
-        LocalDate planStart = plan.getStartDate();
-        int targetMonth = recurring.getRepeatMonth();
-        int targetDay = recurring.getRepeatDayOfYear();
-
-        // 계획 시작 연도부터 현재 조회 연도까지 해당하는 연도들을 찾기
-        int currentYear = planStart.getYear();
-        int queryYear = monthStart.getYear();
-
-        // 조회 범위 이전 연도들을 건너뛰기
-        while (currentYear < queryYear) {
-            currentYear += recurring.getRepeatInterval();
+    private static LocalDate instanceDateOf(RecurrenceRule rule, long year) {
+        if (year > LocalDate.MAX.getYear()) {
+            return null;
         }
+        return RecurringGeneratorUtils.createSafeDate((int) year, rule.getMonth(), rule.getDayOfYear());
+    }
 
-        // 조회 범위 내 연도에서 인스턴스 생성
-        if (currentYear == queryYear) {
-            LocalDate instanceDate = RecurringGeneratorUtils.createSafeDate(currentYear, targetMonth, targetDay);
+    /**
+     * 연간 반복 발생일 반복자
+     *
+     * <p>조회 시작 연도 이상인 첫 반복 연도를 (시작 연도 + k * 간격) 계산으로 바로 구한 뒤,
+     * 간격만큼 연도를 전진시키며 발생일을 계산합니다. 여러 해에 걸친 조회 범위도 지원합니다.</p>
+     */
+    private static final class YearlyOccurrenceIterator extends OccurrenceIterator {
 
-            if (instanceDate != null && RecurringGeneratorUtils.isValidInstance(plan, instanceDate, monthStart, monthEnd)) {
-                PlanResponse instance = RecurringGeneratorUtils.createPlanInstance(plan, instanceDate, planMapper);
-                instances.add(instance);
+        private final int interval;
+        private long currentYear;
+
+        YearlyOccurrenceIterator(RecurrenceRule rule, long from, long to) {
+            super(rule, from, to);
+            this.interval = rule.getInterval();
+            
+            int startYear = LocalDate.ofEpochDay(rule.getAnchorEpochDay()).getYear();
+            int queryYear = LocalDate.ofEpochDay(this.from).getYear();
+            this.currentYear = isEmptyRange()
+                    ? Long.MAX_VALUE
+                    : RecurringGeneratorUtils.firstAlignedOnOrAfter(startYear, queryYear, interval);
+        }
+
+        @Override
+        protected long nextCandidate() {
+            if (rule.getMonth() == 0 || rule.getDayOfYear() == 0 || currentYear > LocalDate.MAX.getYear()) {
+                return DONE;
             }
+            
+            // 윤년 처리 (2월 29일 등은 해당 월 말일로 조정)
+            LocalDate instanceDate = RecurringGeneratorUtils.createSafeDate(
+                    (int) currentYear, rule.getMonth(), rule.getDayOfYear());
+            if (instanceDate == null) {
+                return DONE;
+            }
+            
+            currentYear += interval;
+            return instanceDate.toEpochDay();
         }
     }
 }
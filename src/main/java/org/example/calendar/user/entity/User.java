@@ -1,7 +1,11 @@
 package org.example.calendar.user.entity;
 
 import org.example.calendar.plan.entity.Plan;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.UpdateTimestamp;
 import lombok.*;
 
@@ -32,13 +36,17 @@ import java.util.List;
         @Index(name = "idx_user_id", columnList = "user_id"),
         @Index(name = "idx_email", columnList = "email")
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@NaturalIdCache(region = "users_natural_id")
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor
 @Builder
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id_seq")
+    @SequenceGenerator(name = "users_id_seq", sequenceName = "users_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -51,8 +59,10 @@ public class User {
     private String name;
 
     /**
-     * 로그인 아이디 (고유값)
+     * 로그인 아이디 (고유값, 변경 불가)
+     * 자연 키로 지정하여 JWT 인증 시 2차 캐시로 조회
      */
+    @NaturalId
     @NotBlank(message = "사용자 아이디는 필수입니다")
     @Size(min = 4, max = 20, message = "사용자 아이디는 4-20자 사이여야 합니다")
     @Column(name = "user_id", nullable = false, unique = true, length = 20)
@@ -0,0 +1,23 @@
+package org.example.calendar.user.repository;
+
+import org.example.calendar.user.entity.User;
+
+import java.util.Optional;
+
+/**
+ * 로그인 아이디(자연 키) 기반 사용자 조회
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+public interface UserNaturalIdRepository {
+
+    /**
+     * 로그인 아이디로 사용자 조회 (자연 키 캐시 → 엔티티 캐시 → DB 순)
+     * JPQL 조회(findByUserId)와 달리 2차 캐시에 있으면 쿼리를 실행하지 않음
+     *
+     * @param userId 로그인 아이디
+     * @return 사용자 (없으면 빈 값)
+     */
+    Optional<User> findByNaturalId(String userId);
+}
@@ -0,0 +1,27 @@
+package org.example.calendar.user.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.example.calendar.user.entity.User;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+/**
+ * 로그인 아이디(자연 키) 기반 사용자 조회 구현 (Hibernate Session API)
+ *
+ * @author Calendar Team
+ * @since 2025-08-29
+ */
+@RequiredArgsConstructor
+public class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Optional<User> findByNaturalId(String userId) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(userId);
+    }
+}
@@ -22,7 +22,7 @@ import java.util.Optional;
  * @since 2025-07-14
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserNaturalIdRepository {
 
     /**
      * 사용자 ID로 사용자 조회 (로그인용)
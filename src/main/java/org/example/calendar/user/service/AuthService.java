@@ -2,6 +2,7 @@ package org.example.calendar.user.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.calendar.common.datasource.DataSourceRoutingContext;
 import org.example.calendar.common.security.jwt.JwtTokenProvider;
 import org.example.calendar.user.dto.request.SigninReq;
 import org.example.calendar.user.dto.response.UserResponse;
@@ -54,14 +55,17 @@ public class AuthService {
     /**
      * 로그인 인증 처리 (UserController.login에서 호출)
      *
+     * <p>로그인 요청은 인증 전이라 read-your-writes 대상 사용자를 알 수 없으므로,
+     * 회원가입 직후 로그인이 복제 지연으로 실패하지 않도록 사용자 조회는 기본 DB에서 수행합니다.</p>
+     *
      * @param request 로그인 요청 정보 (userId, password)
      * @return UserResponse 인증된 사용자 정보 (비밀번호 제외)
      * @throws UserNotFoundException    사용자를 찾을 수 없는 경우
      * @throws InvalidPasswordException 비밀번호가 일치하지 않는 경우
      */
     public UserResponse authenticateUser(SigninReq request) {
-        // 1. 사용자 존재 여부 확인 (UserService 위임)
-        User user = userService.getUserByUserId(request.getUserId());
+        // 1. 사용자 존재 여부 확인 (UserService 위임, 기본 DB)
+        User user = findUserOnPrimary(request.getUserId());
 
         // 2. 비밀번호 검증
         validatePassword(request.getUserPassword(), user.getPassword(), request.getUserId());
@@ -77,8 +81,8 @@ public class AuthService {
      * @return String 생성된 JWT 토큰
      */
     public String generateJwtToken(SigninReq request) {
-        // 사용자 정보 조회 (토큰 생성을 위해 필요)
-        User user = userService.getUserByUserId(request.getUserId());
+        // 사용자 정보 조회 (토큰 생성을 위해 필요, 기본 DB)
+        User user = findUserOnPrimary(request.getUserId());
 
         // JWT 토큰 생성
         return jwtTokenProvider.generateToken(user);
@@ -143,6 +147,17 @@ public class AuthService {
 
     // ==================== Private Helper Methods ====================
 
+    /**
+     * 기본 DB에서 사용자 조회 (복제본 사용 시 회원가입 직후에도 조회되도록)
+     *
+     * @param userId 사용자 ID
+     * @return User 엔티티
+     * @throws UserNotFoundException 사용자를 찾을 수 없는 경우
+     */
+    private User findUserOnPrimary(String userId) {
+        return DataSourceRoutingContext.callOnPrimary(() -> userService.getUserByUserId(userId));
+    }
+
     /**
      * 비밀번호 검증
      *
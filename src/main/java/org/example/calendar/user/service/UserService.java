@@ -1,5 +1,6 @@
 package org.example.calendar.user.service;
 
+import org.example.calendar.common.datasource.ReadYourWritesTracker;
 import org.example.calendar.user.dto.request.SignupReq;
 import org.example.calendar.user.dto.response.UserResponse;
 import org.example.calendar.user.entity.User;
@@ -44,13 +45,16 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final EmailVerificationService emailVerificationService;
+    private final ReadYourWritesTracker readYourWritesTracker;
 
     public UserService(UserRepository userRepository,
                        PasswordEncoder passwordEncoder,
-                       EmailVerificationService emailVerificationService) {
+                       EmailVerificationService emailVerificationService,
+                       ReadYourWritesTracker readYourWritesTracker) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.emailVerificationService = emailVerificationService;
+        this.readYourWritesTracker = readYourWritesTracker;
     }
 
 
@@ -107,6 +111,8 @@ public class UserService {
 
         // 4. 데이터베이스 저장
         User savedUser = userRepository.save(user);
+        readYourWritesTracker.markWritten(savedUser.getId());
+
         // 5. 응답 DTO 변환
         return convertToUserResponse(savedUser);
     }
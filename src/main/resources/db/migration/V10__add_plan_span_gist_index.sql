@@ -0,0 +1,31 @@
+-- V10: 기간 겹침 조회용 daterange 생성 컬럼 + GiST 인덱스
+-- start_date <= ? AND end_date >= ? 조건은 B-tree로 한쪽 경계만 탐색할 수 있으므로,
+-- 기간을 daterange로 저장하고 && (겹침) 연산자를 GiST 인덱스로 처리
+
+-- user_id(스칼라)와 daterange를 한 GiST 인덱스에 넣기 위한 확장
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- 계획 기간 (시작일 ~ 종료일, 양 끝 포함)
+ALTER TABLE plans
+    ADD COLUMN span daterange
+    GENERATED ALWAYS AS (daterange(start_date, GREATEST(start_date, end_date), '[]')) STORED;
+
+-- 반복 유효 기간 (반복 시작일 ~ 반복 종료일, 종료일 없으면 무한)
+-- 주간반복은 마지막 인스턴스가 다음주에 올 수 있으므로 종료일 + 6일까지 포함
+ALTER TABLE recurring_info
+    ADD COLUMN span daterange
+    GENERATED ALWAYS AS (daterange(
+        start_date,
+        CASE
+            WHEN end_date IS NULL THEN NULL
+            WHEN repeat_unit = 'WEEKLY' THEN GREATEST(start_date, end_date + 6)
+            ELSE GREATEST(start_date, end_date)
+        END,
+        '[]')) STORED;
+
+-- 사용자별 일반 계획 기간 겹침 조회 (V9 B-tree 부분 인덱스 대체)
+DROP INDEX IF EXISTS idx_plans_user_single_end_start;
+
+CREATE INDEX idx_plans_user_single_span
+    ON plans USING gist (user_id, span)
+    WHERE is_recurring = false;
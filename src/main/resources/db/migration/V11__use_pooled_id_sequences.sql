@@ -0,0 +1,11 @@
+-- V11: ID 생성을 IDENTITY에서 SEQUENCE(pooled-lo, 50개 단위)로 전환
+-- IDENTITY는 INSERT 직후 ID를 받아야 하므로 Hibernate가 INSERT를 JDBC 배치로 묶지 못함
+-- 애플리케이션은 nextval 1회로 [값, 값 + 49] 구간을 미리 할당받아 사용 (hibernate.id.optimizer.pooled.preferred=pooled-lo)
+
+-- BIGSERIAL이 만든 기존 시퀀스를 그대로 사용하고 증가 단위만 변경
+-- 다음 nextval은 현재 값 + 50이므로 기존 ID와 겹치지 않으며,
+-- 컬럼 기본값(nextval)으로 직접 INSERT하는 경우도 별도 구간을 받으므로 충돌 없음
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE recurring_info_id_seq INCREMENT BY 50;
+ALTER SEQUENCE plans_id_seq INCREMENT BY 50;
+ALTER SEQUENCE plan_alarms_id_seq INCREMENT BY 50;
@@ -0,0 +1,30 @@
+-- V7: 반복 일정 인스턴스 구체화(materialized) 테이블 생성
+-- 반복 계획의 발생일을 미리 계산해 저장하여, 월별 조회를 인덱스 범위 스캔으로 처리
+
+CREATE TABLE plan_occurrences (
+    plan_id BIGINT NOT NULL,
+    occurrence_date DATE NOT NULL,
+    user_id BIGINT NOT NULL,
+    end_date DATE NOT NULL,
+
+    PRIMARY KEY (plan_id, occurrence_date),
+    CONSTRAINT fk_occurrence_plan FOREIGN KEY (plan_id) REFERENCES plans(id) ON DELETE CASCADE,
+    CONSTRAINT fk_occurrence_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT check_occurrence_date_order CHECK (occurrence_date <= end_date)
+);
+
+-- 월별 조회: 사용자 + 발생일 범위 스캔
+CREATE INDEX idx_plan_occurrences_user_date ON plan_occurrences(user_id, occurrence_date);
+
+-- 계획별 구체화 완료 날짜 (이 날짜까지의 발생일이 plan_occurrences에 저장됨)
+ALTER TABLE plans
+ADD COLUMN occurrences_until DATE;
+
+-- 연장 작업 대상 조회용 (반복 계획만)
+CREATE INDEX idx_plans_occurrences_until ON plans(occurrences_until) WHERE is_recurring = true;
+
+-- 코멘트
+COMMENT ON TABLE plan_occurrences IS '반복 일정 인스턴스 (롤링 기간만큼 미리 계산)';
+COMMENT ON COLUMN plan_occurrences.occurrence_date IS '인스턴스 시작 날짜';
+COMMENT ON COLUMN plan_occurrences.end_date IS '인스턴스 종료 날짜';
+COMMENT ON COLUMN plans.occurrences_until IS '반복 인스턴스 구체화 완료 날짜 (NULL: 미구체화)';
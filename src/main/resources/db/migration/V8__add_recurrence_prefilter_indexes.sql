@@ -0,0 +1,8 @@
+-- V8: 반복 계획 사전 필터링용 인덱스 추가
+-- 월별/기간 조회 SQL의 반복 계획 후보: user_id = ? AND is_recurring = true AND start_date <= ?
+-- (반복 단위/월/간격 조건은 사용자의 반복 계획 안에서 평가하므로 recurring_info 쪽 인덱스는 두지 않음)
+
+-- 사용자별 반복 계획 조회 (is_recurring = true인 행만 포함하는 부분 인덱스)
+CREATE INDEX idx_plans_user_recurring_start
+    ON plans(user_id, start_date, recurring_info_id)
+    WHERE is_recurring = true;
@@ -0,0 +1,9 @@
+-- V9: 기간 조회 UNION ALL 분리에 맞춘 부분 인덱스 추가
+-- 일반 계획 갈래: user_id = ? AND is_recurring = false AND end_date >= ? AND start_date <= ?
+-- 반복 계획 갈래: user_id = ? AND is_recurring = true AND start_date <= ? (V8 idx_plans_user_recurring_start 사용)
+
+-- 일반 계획은 종료일 하한이 선택도가 높음 (지난 계획이 쌓일수록 start_date <= ? 는 거의 전부 해당)
+-- 종료일 우선 부분 인덱스로 일반 계획 갈래를 처리
+CREATE INDEX idx_plans_user_single_end_start
+    ON plans(user_id, end_date, start_date)
+    WHERE is_recurring = false;
@@ -0,0 +1,103 @@
+package org.example.calendar.plan.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.calendar.plan.entity.Plan;
+import org.example.calendar.plan.entity.PlanAlarm;
+import org.example.calendar.user.entity.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 계획 대량 생성 시 INSERT 배치 검증
+ *
+ * <p>시퀀스(pooled-lo) ID 할당과 hibernate.jdbc.batch_size로, 행 수가 아니라
+ * 테이블별 배치 수만큼만 문장을 준비하는지 확인합니다.</p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class PlanInsertBatchingTest {
+
+    private static final int PLAN_COUNT = 20;
+    private static final int ALARMS_PER_PLAN = 10;
+    private static final int ROW_COUNT = PLAN_COUNT * (1 + ALARMS_PER_PLAN);
+
+    /**
+     * 행마다 INSERT하면 ROW_COUNT(220)번 이상 필요 (IDENTITY 방식)
+     * 배치 시: 시퀀스 조회(50개 단위) + 테이블별 배치(50행 단위) → 10번 내외
+     */
+    private static final long MAX_STATEMENTS = ROW_COUNT / 10;
+
+    private static final LocalDate START_DATE = LocalDate.of(2025, 9, 1);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void createPlansWithAlarms_insertsInBatches() {
+        User user = User.builder()
+                .name("tester")
+                .userId("batch1")
+                .password("password")
+                .email("batch1@example.com")
+                .phoneNumber("01012345678")
+                .build();
+        entityManager.persist(user);
+        entityManager.flush();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < PLAN_COUNT; i++) {
+            entityManager.persist(createPlan(user, i));
+        }
+        entityManager.flush();
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROW_COUNT);
+        assertThat(statistics.getPrepareStatementCount())
+                .as("%d rows inserted in %d ms", ROW_COUNT, elapsedMillis)
+                .isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+
+    private static Plan createPlan(User user, int index) {
+        Plan plan = Plan.builder()
+                .planName("plan" + index)
+                .planContent("content")
+                .startDate(START_DATE.plusDays(index))
+                .endDate(START_DATE.plusDays(index))
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(10, 0))
+                .user(user)
+                .build();
+
+        Set<PlanAlarm> alarms = new HashSet<>();
+        for (int i = 0; i < ALARMS_PER_PLAN; i++) {
+            alarms.add(PlanAlarm.builder()
+                    .plan(plan)
+                    .alarmDate(plan.getStartDate())
+                    .alarmTime(LocalTime.of(8, i))
+                    .build());
+        }
+        plan.updateAlarms(alarms);
+        return plan;
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.calendar.plan.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.calendar.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기간 조회 SQL 실행 계획 검증
+ *
+ * <p>UNION ALL 각 갈래가 부분 인덱스를 사용하는지 EXPLAIN으로 확인합니다.
+ * 부분/GiST 인덱스는 테스트 프로필의 hibernate.hbm2ddl.import_files로 스키마 생성 후 만들어집니다.</p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class PlanRangeQueryPlanTest {
+
+    private static final String SINGLE_BRANCH_INDEX = "idx_plans_user_single_span";
+    private static final String RECURRING_BRANCH_INDEX = "idx_plans_user_recurring_start";
+
+    private static final LocalDate MONTH_START = LocalDate.of(2025, 9, 1);
+    private static final LocalDate MONTH_END = LocalDate.of(2025, 9, 30);
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder()
+                .name("tester")
+                .userId("explain1")
+                .password("password")
+                .email("explain1@example.com")
+                .phoneNumber("01012345678")
+                .build();
+        entityManager.persist(user);
+        entityManager.flush();
+        userId = user.getId();
+
+        MapSqlParameterSource params = new MapSqlParameterSource("userId", userId);
+
+        // 몇 년치 지난 일반 계획 (start_date <= 기간 종료일은 거의 전부 해당)
+        jdbcTemplate.update("""
+                INSERT INTO plans (id, user_id, plan_name, start_date, end_date, start_time, end_time,
+                                   is_recurring, created_at, updated_at, version)
+                SELECT nextval('plans_id_seq'), :userId, 'plan' || g, DATE '2020-01-01' + g, DATE '2020-01-01' + g,
+                       TIME '09:00', TIME '10:00', false, now(), now(), 0
+                FROM generate_series(0, 1999) g
+                """, params);
+
+        // 반복 계획
+        jdbcTemplate.update("""
+                WITH ri AS (
+                    INSERT INTO recurring_info (id, repeat_unit, repeat_interval, start_date)
+                    SELECT nextval('recurring_info_id_seq'), 'WEEKLY', 1, DATE '2020-01-01' + g FROM generate_series(0, 199) g
+                    RETURNING id, start_date
+                )
+                INSERT INTO plans (id, user_id, plan_name, start_date, end_date, start_time, end_time,
+                                   is_recurring, recurring_info_id, created_at, updated_at, version)
+                SELECT nextval('plans_id_seq'), :userId, 'recurring', ri.start_date, ri.start_date,
+                       TIME '09:00', TIME '10:00', true, ri.id, now(), now(), 0
+                FROM ri
+                """, params);
+
+        jdbcTemplate.getJdbcTemplate().execute("ANALYZE plans");
+        jdbcTemplate.getJdbcTemplate().execute("ANALYZE recurring_info");
+        // 테스트 데이터가 작아 순차 스캔이 더 싸게 계산되는 것을 막음 (인덱스 사용 가능 여부만 검증)
+        jdbcTemplate.getJdbcTemplate().execute("SET LOCAL enable_seqscan = off");
+    }
+
+    @Test
+    void rangeCandidates_usesPartialIndexPerBranch() {
+        String plan = explain("SELECT c.id FROM (" + PlanRepository.RANGE_CANDIDATES + ") c");
+
+        assertThat(plan).contains(SINGLE_BRANCH_INDEX);
+        assertThat(plan).contains(RECURRING_BRANCH_INDEX);
+    }
+
+    private String explain(String sql) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("rangeStart", MONTH_START)
+                .addValue("rangeEnd", MONTH_END)
+                .addValue("rangeStartMonth", MONTH_START.getYear() * 12L + MONTH_START.getMonthValue() - 1)
+                .addValue("rangeEndMonth", MONTH_END.getYear() * 12L + MONTH_END.getMonthValue() - 1);
+
+        List<String> lines = jdbcTemplate.queryForList("EXPLAIN " + sql, params, String.class);
+        return String.join("\n", lines);
+    }
+}
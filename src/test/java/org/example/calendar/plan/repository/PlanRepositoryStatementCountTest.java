@@ -0,0 +1,142 @@
+package org.example.calendar.plan.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.calendar.plan.entity.Plan;
+import org.example.calendar.plan.entity.PlanAlarm;
+import org.example.calendar.plan.entity.RecurringInfo;
+import org.example.calendar.plan.enums.RepeatUnit;
+import org.example.calendar.plan.repository.projection.PlanRow;
+import org.example.calendar.user.entity.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 월별 조회 경로의 쿼리 수 검증
+ *
+ * <p>계획 수와 무관하게 JDBC 프로젝션 쿼리 1회로 반복 정보와 알람까지 모두 읽는지 확인합니다.
+ * (Hibernate 쿼리나 지연 로딩이 끼어들지 않아야 함, N+1 방지)</p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class PlanRepositoryStatementCountTest {
+
+    private static final LocalDate MONTH_START = LocalDate.of(2025, 9, 1);
+    private static final LocalDate MONTH_END = LocalDate.of(2025, 9, 30);
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    @MockitoSpyBean
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void findPlanRowsInRange_usesSingleStatement() {
+        User user = persistUser("stmt1");
+        persistPlans(user, 10);
+
+        assertMonthLoadedInOneQuery(user, 10);
+
+        persistPlans(user, 90);
+
+        assertMonthLoadedInOneQuery(user, 100);
+    }
+
+    private void assertMonthLoadedInOneQuery(User user, int expectedPlans) {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        clearInvocations(jdbcTemplate);
+
+        List<PlanRow> rows = planRepository.findPlanRowsInRange(user.getId(), MONTH_START, MONTH_END);
+
+        assertThat(rows).hasSize(expectedPlans);
+        // 반복 정보의 컬렉션과 알람이 같은 행에 채워져 있어야 함
+        assertThat(rows).allSatisfy(row -> {
+            assertThat(row.recurring().repeatWeekdays()).containsExactly(DayOfWeek.MONDAY, DayOfWeek.THURSDAY);
+            assertThat(row.recurring().repeatWeeksOfMonth()).containsExactly(1);
+            assertThat(row.recurring().exceptionDates()).containsExactly(MONTH_START.plusDays(7));
+            assertThat(row.alarms()).hasSize(1);
+        });
+
+        verify(jdbcTemplate, times(1)).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    private User persistUser(String loginId) {
+        User user = User.builder()
+                .name("tester")
+                .userId(loginId)
+                .password("password")
+                .email(loginId + "@example.com")
+                .phoneNumber("01012345678")
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    private void persistPlans(User user, int count) {
+        for (int i = 0; i < count; i++) {
+            Plan plan = Plan.builder()
+                    .planName("plan" + i)
+                    .planContent("content")
+                    .startDate(MONTH_START.minusMonths(1).plusDays(i % 28))
+                    .endDate(MONTH_START.minusMonths(1).plusDays(i % 28))
+                    .startTime(LocalTime.of(9, 0))
+                    .endTime(LocalTime.of(10, 0))
+                    .isRecurring(true)
+                    .user(user)
+                    .build();
+
+            RecurringInfo recurringInfo = RecurringInfo.builder()
+                    .repeatUnit(RepeatUnit.WEEKLY)
+                    .repeatInterval(1)
+                    .repeatWeekdays(Set.of(DayOfWeek.MONDAY, DayOfWeek.THURSDAY))
+                    .repeatWeeksOfMonth(Set.of(1))
+                    .exceptionDates(Set.of(MONTH_START.plusDays(7)))
+                    .startDate(plan.getStartDate())
+                    .build();
+            plan.setRecurringInfo(recurringInfo);
+
+            plan.updateAlarms(Set.of(PlanAlarm.builder()
+                    .plan(plan)
+                    .alarmDate(plan.getStartDate())
+                    .alarmTime(LocalTime.of(8, 30))
+                    .build()));
+
+            entityManager.persist(plan);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.calendar.plan.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 월별 계획 캐시 항목의 조기 갱신(XFetch) 판단 검증
+ */
+class CachedMonthlyPlansTest {
+
+    private static final long NOW = 1_000_000_000L;
+
+    @Test
+    void shouldRefreshEarly_neverWhenComputeTimeUnknown() {
+        CachedMonthlyPlans entry = new CachedMonthlyPlans(List.of(), 0, NOW + 1);
+
+        assertThat(entry.shouldRefreshEarly(1.0, NOW)).isFalse();
+    }
+
+    @Test
+    void shouldRefreshEarly_dependsOnRemainingTimeAndCost() {
+        CachedMonthlyPlans farFromExpiry = new CachedMonthlyPlans(List.of(), 100, NOW + 3_600_000);
+        CachedMonthlyPlans expired = new CachedMonthlyPlans(List.of(), 100, NOW);
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(farFromExpiry.shouldRefreshEarly(1.0, NOW)).isFalse();
+            assertThat(expired.shouldRefreshEarly(1.0, NOW)).isTrue();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.calendar.plan.service.cache;
+
+import org.example.calendar.plan.service.CachedMonthlyPlans;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 바이너리 캐시 형식 검증
+ *
+ * <p>압축 여부와 관계없이 원래 값으로 복원되는지, 공유 객체가 복원 후에도 공유되는지,
+ * 손상된 값은 IOException으로 거부하는지 확인합니다.</p>
+ */
+class BinaryMonthlyPlansCodecTest {
+
+    private final CachedMonthlyPlans month = MonthlyPlansFixture.month(10, 20);
+
+    @Test
+    void roundTrip_uncompressedAndCompressed() throws IOException {
+        BinaryMonthlyPlansCodec plain = new BinaryMonthlyPlansCodec(Integer.MAX_VALUE);
+        BinaryMonthlyPlansCodec compressed = new BinaryMonthlyPlansCodec(0);
+
+        byte[] plainData = plain.encode(month);
+        byte[] compressedData = compressed.encode(month);
+
+        assertThat(plainData[1]).isZero();
+        assertThat(compressedData[1]).isEqualTo((byte) 1);
+        assertThat(compressedData.length).isLessThan(plainData.length);
+
+        // 두 인스턴스 모두 어느 쪽 값이든 읽을 수 있어야 함 (압축 기준을 바꿔 배포하는 경우)
+        for (byte[] data : new byte[][] {plainData, compressedData}) {
+            CachedMonthlyPlans decoded = plain.decode(data);
+            assertThat(decoded).usingRecursiveComparison().isEqualTo(month);
+        }
+    }
+
+    @Test
+    void decode_keepsSharedRecurringInfoShared() throws IOException {
+        BinaryMonthlyPlansCodec codec = new BinaryMonthlyPlansCodec(1024);
+
+        CachedMonthlyPlans decoded = codec.decode(codec.encode(month));
+
+        assertThat(decoded.plans().get(0).getRecurringResInfo())
+                .isSameAs(decoded.plans().get(1).getRecurringResInfo());
+        assertThat(decoded.plans().get(0).getAlarms())
+                .isSameAs(decoded.plans().get(1).getAlarms());
+    }
+
+    @Test
+    void decode_rejectsCorruptedData() throws IOException {
+        BinaryMonthlyPlansCodec codec = new BinaryMonthlyPlansCodec(0);
+        byte[] data = codec.encode(month);
+
+        assertThatThrownBy(() -> codec.decode(Arrays.copyOf(data, data.length / 2)))
+                .isInstanceOf(IOException.class);
+        assertThat(codec.canDecode("[]".getBytes())).isFalse();
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.calendar.plan.service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.calendar.plan.service.CachedMonthlyPlans;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 월별 계획 캐시 형식 비교 (JSON vs 바이너리 vs 바이너리 + LZ4)
+ *
+ * <p>월 크기별로 저장 크기와 인코딩/디코딩 평균 시간을 로그로 남깁니다.
+ * 시간은 실행 환경에 따라 달라지므로 크기만 검증합니다.
+ * 기본 test 작업에서는 제외되며 benchmark 작업으로 실행합니다.</p>
+ *
+ * <pre>
+ * ./gradlew benchmark
+ * </pre>
+ */
+@Tag("benchmark")
+class MonthlyPlansCodecBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(MonthlyPlansCodecBenchmarkTest.class);
+
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURED_ITERATIONS = 500;
+
+    @Test
+    void compareFormats() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+
+        List<MonthlyPlansCodec> codecs = List.of(
+                new JsonMonthlyPlansCodec(objectMapper),
+                new BinaryMonthlyPlansCodec(Integer.MAX_VALUE),
+                new BinaryMonthlyPlansCodec(1024));
+        List<String> labels = List.of("json", "binary", "binary+lz4");
+
+        logger.info(String.format("%-10s %-11s %10s %12s %12s", "month", "format", "bytes", "encode(us)", "decode(us)"));
+        for (int[] size : new int[][] {{2, 10}, {10, 30}, {40, 60}}) {
+            CachedMonthlyPlans month = MonthlyPlansFixture.month(size[0], size[1]);
+            String monthLabel = month.plans().size() + " plans";
+
+            int jsonBytes = 0;
+            for (int i = 0; i < codecs.size(); i++) {
+                MonthlyPlansCodec codec = codecs.get(i);
+                byte[] data = codec.encode(month);
+
+                double encodeMicros = measure(() -> codec.encode(month));
+                double decodeMicros = measure(() -> codec.decode(data));
+                logger.info(String.format("%-10s %-11s %10d %12.1f %12.1f",
+                        monthLabel, labels.get(i), data.length, encodeMicros, decodeMicros));
+
+                if (i == 0) {
+                    jsonBytes = data.length;
+                } else {
+                    assertThat(data.length).isLessThan(jsonBytes / 2);
+                }
+            }
+        }
+    }
+
+    private static double measure(IoTask task) throws IOException {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            task.run();
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            task.run();
+        }
+        return (System.nanoTime() - startedAt) / 1000.0 / MEASURED_ITERATIONS;
+    }
+
+    @FunctionalInterface
+    private interface IoTask {
+        Object run() throws IOException;
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.calendar.plan.service.cache;
+
+import org.example.calendar.plan.dto.common.AlarmResInfo;
+import org.example.calendar.plan.dto.common.RecurringResInfo;
+import org.example.calendar.plan.dto.response.PlanResponse;
+import org.example.calendar.plan.service.CachedMonthlyPlans;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 코덱 테스트용 월별 계획 (반복 계획 인스턴스 + 단일 계획)
+ *
+ * <p>반복 인스턴스는 실제 전개와 같이 템플릿을 toBuilder()로 복사하므로
+ * recurringResInfo, alarms를 인스턴스끼리 공유합니다.</p>
+ */
+final class MonthlyPlansFixture {
+
+    private static final LocalDate MONTH_START = LocalDate.of(2025, 9, 1);
+
+    private MonthlyPlansFixture() {
+    }
+
+    static CachedMonthlyPlans month(int recurringPlans, int singlePlans) {
+        List<PlanResponse> plans = new ArrayList<>();
+        LocalDateTime createdAt = LocalDateTime.of(2025, 8, 1, 9, 0, 0);
+
+        for (int p = 0; p < recurringPlans; p++) {
+            RecurringResInfo recurring = RecurringResInfo.builder()
+                    .repeatUnit("WEEKLY")
+                    .repeatInterval(1)
+                    .repeatWeekdays(List.of("MON", "WED", "FRI"))
+                    .exceptionDates(List.of("2025-09-15"))
+                    .startDate("2025-01-06")
+                    .endDate("2025-12-31")
+                    .repeatDescription("매주 월,수,금")
+                    .build();
+            List<AlarmResInfo> alarms = List.of(
+                    AlarmResInfo.builder().id(p * 10L + 1).alarmDate(MONTH_START).alarmTime(LocalTime.of(8, 50))
+                            .alarmStatus("PENDING").build(),
+                    AlarmResInfo.builder().id(p * 10L + 2).alarmDate(MONTH_START).alarmTime(LocalTime.of(8, 0))
+                            .alarmStatus("PENDING").build());
+
+            PlanResponse template = PlanResponse.builder()
+                    .id(1000L + p)
+                    .planName("주간 회의 " + p)
+                    .planContent("주간 진행 상황 공유 및 다음 주 계획 논의")
+                    .startTime(LocalTime.of(9, 0))
+                    .endTime(LocalTime.of(10, 0))
+                    .isRecurring(true)
+                    .recurringResInfo(recurring)
+                    .alarms(alarms)
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt.plusDays(p))
+                    .userId(42L)
+                    .userName("홍길동")
+                    .build();
+
+            for (LocalDate date = MONTH_START; date.getMonthValue() == 9; date = date.plusDays(1)) {
+                switch (date.getDayOfWeek()) {
+                    case MONDAY, WEDNESDAY, FRIDAY -> plans.add(template.toBuilder()
+                            .startDate(date)
+                            .endDate(date)
+                            .build());
+                    default -> {
+                    }
+                }
+            }
+        }
+
+        for (int s = 0; s < singlePlans; s++) {
+            LocalDate date = MONTH_START.plusDays(s % 30);
+            plans.add(PlanResponse.builder()
+                    .id(5000L + s)
+                    .planName("일정 " + s)
+                    .planContent(s % 2 == 0 ? "준비물 확인" : null)
+                    .startDate(date)
+                    .endDate(date)
+                    .startTime(LocalTime.of(14, 0))
+                    .endTime(LocalTime.of(15, 30))
+                    .isRecurring(false)
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt)
+                    .userId(42L)
+                    .userName("홍길동")
+                    .build());
+        }
+
+        return new CachedMonthlyPlans(plans, 35, 1_756_684_800_000L);
+    }
+}
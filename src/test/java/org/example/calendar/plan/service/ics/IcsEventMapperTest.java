@@ -0,0 +1,134 @@
+package org.example.calendar.plan.service.ics;
+
+import org.example.calendar.plan.entity.Plan;
+import org.example.calendar.plan.entity.RecurringInfo;
+import org.example.calendar.plan.enums.RepeatUnit;
+import org.example.calendar.plan.service.recurring.MonthlyRecurringGenerator;
+import org.example.calendar.plan.service.recurring.RecurringPlanGenerator;
+import org.example.calendar.plan.service.recurring.WeeklyRecurringGenerator;
+import org.example.calendar.plan.service.recurring.YearlyRecurringGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * VEVENT → Plan 변환 검증
+ *
+ * <p>시간대 변환으로 시작 날짜가 바뀌면 RRULE의 요일/날짜도 같은 일수만큼 옮겨지는지,
+ * 옮길 수 없는 규칙은 건너뛰는지 확인합니다.</p>
+ */
+class IcsEventMapperTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    // 발생일 계산(COUNT)만 사용하므로 PlanMapper, 규칙 캐시 없이 생성
+    private final IcsEventMapper mapper = new IcsEventMapper(new RecurringPlanGenerator(
+            new WeeklyRecurringGenerator(null, null),
+            new MonthlyRecurringGenerator(null, null),
+            new YearlyRecurringGenerator(null, null),
+            null, null));
+
+    @Test
+    void toPlan_shiftsWeeklyByDayWhenUtcTimeCrossesMidnight() throws IOException {
+        // 2025-09-01(월) 20:00 UTC = 2025-09-02(화) 05:00 KST
+        Plan plan = mapper.toPlan(event(
+                "DTSTART:20250901T200000Z",
+                "DTEND:20250901T210000Z",
+                "RRULE:FREQ=WEEKLY;BYDAY=MO;COUNT=3"), SEOUL);
+
+        assertThat(plan.getStartDate()).isEqualTo(LocalDate.of(2025, 9, 2));
+        assertThat(plan.getStartTime()).isEqualTo(LocalTime.of(5, 0));
+
+        RecurringInfo recurringInfo = plan.getRecurringInfo();
+        assertThat(recurringInfo.getRepeatUnit()).isEqualTo(RepeatUnit.WEEKLY);
+        assertThat(recurringInfo.getRepeatWeekdays()).containsExactly(DayOfWeek.TUESDAY);
+        // 9/2, 9/9, 9/16 (화)
+        assertThat(recurringInfo.getEndDate()).isEqualTo(LocalDate.of(2025, 9, 16));
+    }
+
+    @Test
+    void toPlan_keepsByDayWhenDateDoesNotChange() throws IOException {
+        // 2025-09-01(월) 10:00 UTC = 2025-09-01(월) 19:00 KST
+        Plan plan = mapper.toPlan(event(
+                "DTSTART:20250901T100000Z",
+                "RRULE:FREQ=WEEKLY;BYDAY=MO,WE"), SEOUL);
+
+        assertThat(plan.getRecurringInfo().getRepeatWeekdays())
+                .containsExactlyInAnyOrder(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY);
+    }
+
+    @Test
+    void toPlan_shiftsByDayBackwardForTzidBehindImportZone() throws IOException {
+        // 2025-09-02(화) 08:00 Asia/Seoul = 2025-09-01(월) 16:00 America/Los_Angeles
+        Plan plan = mapper.toPlan(event(
+                "DTSTART;TZID=Asia/Seoul:20250902T080000",
+                "RRULE:FREQ=WEEKLY;BYDAY=TU,SU"), ZoneId.of("America/Los_Angeles"));
+
+        assertThat(plan.getStartDate()).isEqualTo(LocalDate.of(2025, 9, 1));
+        assertThat(plan.getRecurringInfo().getRepeatWeekdays())
+                .containsExactlyInAnyOrder(DayOfWeek.MONDAY, DayOfWeek.SATURDAY);
+    }
+
+    @Test
+    void toPlan_shiftsMonthlyByMonthDay() throws IOException {
+        // 2025-09-15 20:00 UTC = 2025-09-16 05:00 KST
+        Plan plan = mapper.toPlan(event(
+                "DTSTART:20250915T200000Z",
+                "RRULE:FREQ=MONTHLY;BYMONTHDAY=15"), SEOUL);
+
+        assertThat(plan.getRecurringInfo().getRepeatDayOfMonth()).isEqualTo(16);
+    }
+
+    @Test
+    void toPlan_mapsBySetPosWithSingleWeekdayToWeekOfMonth() throws IOException {
+        // 2025-09-09(화) 01:00 UTC = 같은 날 10:00 KST, 매월 둘째 화요일
+        Plan plan = mapper.toPlan(event(
+                "DTSTART:20250909T010000Z",
+                "RRULE:FREQ=MONTHLY;BYDAY=TU;BYSETPOS=2"), SEOUL);
+
+        RecurringInfo recurringInfo = plan.getRecurringInfo();
+        assertThat(recurringInfo.getRepeatWeeksOfMonth()).containsExactly(2);
+        assertThat(recurringInfo.getRepeatWeekdays()).containsExactly(DayOfWeek.TUESDAY);
+    }
+
+    @Test
+    void toPlan_rejectsBySetPosOverSeveralWeekdays() {
+        // 매월 마지막 평일(하루)은 주차+요일 규칙으로 표현할 수 없음
+        assertThatThrownBy(() -> mapper.toPlan(event(
+                "DTSTART:20250930T010000Z",
+                "RRULE:FREQ=MONTHLY;BYDAY=MO,TU,WE,TH,FR;BYSETPOS=-1"), SEOUL))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void toPlan_rejectsRulesThatCannotBeShifted() {
+        // 매월 마지막 날(31일)의 다음 날은 달마다 다름
+        assertThatThrownBy(() -> mapper.toPlan(event(
+                "DTSTART:20250731T200000Z",
+                "RRULE:FREQ=MONTHLY;BYMONTHDAY=31"), SEOUL))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // 둘째 주 화요일의 다음 날이 둘째 주 수요일이라는 보장이 없음
+        assertThatThrownBy(() -> mapper.toPlan(event(
+                "DTSTART:20250909T200000Z",
+                "RRULE:FREQ=MONTHLY;BYDAY=2TU"), SEOUL))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static IcsComponent event(String... lines) throws IOException {
+        String calendar = "BEGIN:VCALENDAR\r\nBEGIN:VEVENT\r\nUID:event\r\nSUMMARY:회의\r\n"
+                + String.join("\r\n", lines)
+                + "\r\nEND:VEVENT\r\nEND:VCALENDAR\r\n";
+        try (IcsReader reader = new IcsReader(new StringReader(calendar))) {
+            return reader.nextEvent();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.calendar.plan.service.ics;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ICS 스트리밍 리더 검증
+ *
+ * <p>접힌 줄, 따옴표 매개변수, VEVENT 밖의 컴포넌트, 하위 VALARM을 VEVENT 단위로 읽는지 확인합니다.</p>
+ */
+class IcsReaderTest {
+
+    private static final String CALENDAR = String.join("\r\n",
+            "BEGIN:VCALENDAR",
+            "VERSION:2.0",
+            "BEGIN:VTIMEZONE",
+            "TZID:Asia/Seoul",
+            "BEGIN:STANDARD",
+            "DTSTART:19700101T000000",
+            "END:STANDARD",
+            "END:VTIMEZONE",
+            "BEGIN:VEVENT",
+            "UID:event-1",
+            "SUMMARY:주간 회의",
+            "DESCRIPTION:첫 줄\\n둘째 줄이 길어서",
+            "  접힘",
+            "DTSTART;TZID=\"Asia/Seoul\":20250901T100000",
+            "RRULE:FREQ=WEEKLY;BYDAY=MO,WE",
+            "BEGIN:VALARM",
+            "TRIGGER:-PT15M",
+            "END:VALARM",
+            "END:VEVENT",
+            "BEGIN:VTODO",
+            "SUMMARY:할 일",
+            "END:VTODO",
+            "BEGIN:VEVENT",
+            "UID:event-2",
+            "DTSTART;VALUE=DATE:20250905",
+            "END:VEVENT",
+            "END:VCALENDAR",
+            "");
+
+    @Test
+    void nextEvent_readsOneEventAtATime() throws IOException {
+        try (IcsReader reader = new IcsReader(new StringReader(CALENDAR))) {
+            IcsComponent first = reader.nextEvent();
+            IcsComponent second = reader.nextEvent();
+
+            assertThat(first.name()).isEqualTo("VEVENT");
+            assertThat(first.value("UID")).isEqualTo("event-1");
+            assertThat(first.value("DESCRIPTION")).isEqualTo("첫 줄\\n둘째 줄이 길어서 접힘");
+            assertThat(first.first("DTSTART").parameter("TZID")).isEqualTo("Asia/Seoul");
+            assertThat(first.value("DTSTART")).isEqualTo("20250901T100000");
+            assertThat(first.value("RRULE")).isEqualTo("FREQ=WEEKLY;BYDAY=MO,WE");
+            assertThat(first.children("VALARM")).singleElement()
+                    .satisfies(alarm -> assertThat(alarm.value("TRIGGER")).isEqualTo("-PT15M"));
+
+            assertThat(second.value("UID")).isEqualTo("event-2");
+            assertThat(second.first("DTSTART").parameter("VALUE")).isEqualTo("DATE");
+
+            assertThat(reader.nextEvent()).isNull();
+        }
+    }
+
+    @Test
+    void nextEvent_rejectsTruncatedEvent() {
+        String truncated = "BEGIN:VCALENDAR\r\nBEGIN:VEVENT\r\nUID:event-1\r\n";
+
+        assertThatThrownBy(() -> {
+            try (IcsReader reader = new IcsReader(new StringReader(truncated))) {
+                reader.nextEvent();
+            }
+        }).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.calendar.plan.service.recurring;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static java.time.DayOfWeek.FRIDAY;
+import static java.time.DayOfWeek.TUESDAY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.calendar.plan.service.recurring.RecurrenceRuleFixture.monthlyOnDay;
+import static org.example.calendar.plan.service.recurring.RecurrenceRuleFixture.monthlyOnWeekday;
+import static org.example.calendar.plan.service.recurring.RecurrenceRuleFixture.toDates;
+
+/**
+ * 월간 반복 발생일 계산 검증
+ *
+ * <p>N개월 간격이 시작 월에 맞춰 정렬되는지, 말일 조정, 다섯째/마지막 주 처리,
+ * 예외 날짜와 반복 종료일이 적용되는지 확인합니다.</p>
+ */
+class MonthlyRecurringGeneratorTest {
+
+    private final MonthlyRecurringGenerator generator = new MonthlyRecurringGenerator(null, null);
+
+    @Test
+    void occurrences_everyOtherMonthAlignedToStartMonth() {
+        // 2024-11 시작, 격월 → 11, 1, 3, 5, 7, 9, 11월
+        RecurrenceRule rule = monthlyOnDay(LocalDate.of(2024, 11, 15), null, 2, 15);
+
+        assertThat(toDates(generator.occurrences(rule, LocalDate.of(2025, 8, 1), LocalDate.of(2026, 2, 28))))
+                .containsExactly(
+                        LocalDate.of(2025, 9, 15), LocalDate.of(2025, 11, 15), LocalDate.of(2026, 1, 15));
+    }
+
+    @Test
+    void occurrences_clampsDayOfMonthToMonthEnd() {
+        RecurrenceRule rule = monthlyOnDay(LocalDate.of(2025, 1, 31), null, 1, 31);
+
+        assertThat(toDates(generator.occurrences(rule, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 4, 30))))
+                .containsExactly(LocalDate.of(2025, 2, 28), LocalDate.of(2025, 3, 31), LocalDate.of(2025, 4, 30));
+    }
+
+    @Test
+    void occurrences_fifthWeekMeansLastWeek() {
+        RecurrenceRule rule = monthlyOnWeekday(LocalDate.of(2025, 1, 1), null, 1, Set.of(5), Set.of(FRIDAY));
+
+        assertThat(toDates(generator.occurrences(rule, LocalDate.of(2025, 5, 1), LocalDate.of(2025, 8, 31))))
+                .containsExactly(
+                        LocalDate.of(2025, 5, 30), LocalDate.of(2025, 6, 27),
+                        LocalDate.of(2025, 7, 25), LocalDate.of(2025, 8, 29));
+    }
+
+    @Test
+    void occurrences_fourthAndLastWeekOnSameDayOnlyOnce() {
+        RecurrenceRule rule = monthlyOnWeekday(LocalDate.of(2025, 1, 1), null, 1, Set.of(4, -1), Set.of(TUESDAY));
+
+        // 2025-09: 넷째 23일, 마지막 30일 / 2026-02: 넷째 = 마지막 = 24일
+        assertThat(toDates(generator.occurrences(rule, LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 30))))
+                .containsExactly(LocalDate.of(2025, 9, 23), LocalDate.of(2025, 9, 30));
+        assertThat(toDates(generator.occurrences(rule, LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 28))))
+                .containsExactly(LocalDate.of(2026, 2, 24));
+    }
+
+    @Test
+    void occurrences_skipsExceptionDatesAndStopsAtEndDate() {
+        // 매월 둘째 화요일, 3월 제외, 6월 10일까지
+        RecurrenceRule rule = monthlyOnWeekday(LocalDate.of(2025, 1, 14), LocalDate.of(2025, 6, 10), 1,
+                Set.of(2), Set.of(TUESDAY), LocalDate.of(2025, 3, 11));
+
+        assertThat(toDates(generator.occurrences(rule, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31))))
+                .containsExactly(
+                        LocalDate.of(2025, 1, 14), LocalDate.of(2025, 2, 11), LocalDate.of(2025, 4, 8),
+                        LocalDate.of(2025, 5, 13), LocalDate.of(2025, 6, 10));
+    }
+
+    @Test
+    void occurrences_emptyForRuleWithoutDayOrWeek() {
+        // 날짜도 주차도 없는 규칙: 종료일 없이 LocalDate.MAX까지 조회해도 바로 끝나야 함
+        RecurrenceRule rule = monthlyOnWeekday(LocalDate.of(2025, 1, 1), null, 1, Set.of(), Set.of(TUESDAY));
+
+        assertThat(rule.isExpandable()).isFalse();
+        assertThat(toDates(generator.occurrences(rule, LocalDate.of(2025, 1, 1), LocalDate.MAX))).isEmpty();
+    }
+
+    @Test
+    void occurrences_respectsRangeBoundsInsideMonth() {
+        // 매월 둘째, 넷째 화요일: 9/9, 9/23, 10/14, 10/28
+        RecurrenceRule rule = monthlyOnWeekday(LocalDate.of(2025, 1, 1), null, 1, Set.of(2, 4), Set.of(TUESDAY));
+
+        assertThat(toDates(generator.occurrences(rule, LocalDate.of(2025, 9, 10), LocalDate.of(2025, 10, 14))))
+                .containsExactly(LocalDate.of(2025, 9, 23), LocalDate.of(2025, 10, 14));
+    }
+}
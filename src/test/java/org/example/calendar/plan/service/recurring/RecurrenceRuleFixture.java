@@ -0,0 +1,91 @@
+package org.example.calendar.plan.service.recurring;
+
+import org.example.calendar.plan.entity.Plan;
+import org.example.calendar.plan.entity.RecurringInfo;
+import org.example.calendar.plan.enums.RepeatUnit;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+
+/**
+ * 생성기 테스트용 반복 규칙 (하루짜리 계획, 반복 시작일 = 계획 시작일)
+ *
+ * <p>발생일 계산은 PlanMapper, 규칙 캐시를 사용하지 않으므로 생성기는 null 의존성으로 만듭니다.</p>
+ */
+final class RecurrenceRuleFixture {
+
+    private RecurrenceRuleFixture() {
+    }
+
+    static RecurrenceRule weekly(LocalDate start, LocalDate end, int interval, Set<DayOfWeek> weekdays,
+                                 LocalDate... exceptionDates) {
+        return compile(start, RecurringInfo.builder()
+                .repeatUnit(RepeatUnit.WEEKLY)
+                .repeatInterval(interval)
+                .repeatWeekdays(weekdays)
+                .exceptionDates(Set.of(exceptionDates))
+                .startDate(start)
+                .endDate(end)
+                .build());
+    }
+
+    static RecurrenceRule monthlyOnDay(LocalDate start, LocalDate end, int interval, int dayOfMonth,
+                                       LocalDate... exceptionDates) {
+        return compile(start, RecurringInfo.builder()
+                .repeatUnit(RepeatUnit.MONTHLY)
+                .repeatInterval(interval)
+                .repeatDayOfMonth(dayOfMonth)
+                .exceptionDates(Set.of(exceptionDates))
+                .startDate(start)
+                .endDate(end)
+                .build());
+    }
+
+    static RecurrenceRule monthlyOnWeekday(LocalDate start, LocalDate end, int interval, Set<Integer> weeksOfMonth,
+                                           Set<DayOfWeek> weekdays, LocalDate... exceptionDates) {
+        return compile(start, RecurringInfo.builder()
+                .repeatUnit(RepeatUnit.MONTHLY)
+                .repeatInterval(interval)
+                .repeatWeeksOfMonth(weeksOfMonth)
+                .repeatWeekdays(weekdays)
+                .exceptionDates(Set.of(exceptionDates))
+                .startDate(start)
+                .endDate(end)
+                .build());
+    }
+
+    static RecurrenceRule yearly(LocalDate start, LocalDate end, int interval, int month, int dayOfMonth,
+                                 LocalDate... exceptionDates) {
+        return compile(start, RecurringInfo.builder()
+                .repeatUnit(RepeatUnit.YEARLY)
+                .repeatInterval(interval)
+                .repeatMonth(month)
+                .repeatDayOfYear(dayOfMonth)
+                .exceptionDates(Set.of(exceptionDates))
+                .startDate(start)
+                .endDate(end)
+                .build());
+    }
+
+    static List<LocalDate> toDates(PrimitiveIterator.OfLong occurrences) {
+        List<LocalDate> dates = new ArrayList<>();
+        occurrences.forEachRemaining((long epochDay) -> dates.add(LocalDate.ofEpochDay(epochDay)));
+        return dates;
+    }
+
+    private static RecurrenceRule compile(LocalDate start, RecurringInfo recurringInfo) {
+        Plan plan = Plan.builder()
+                .id(1L)
+                .planName("반복 일정")
+                .startDate(start)
+                .endDate(start)
+                .isRecurring(true)
+                .recurringInfo(recurringInfo)
+                .build();
+        return RecurrenceRule.compile(plan);
+    }
+}
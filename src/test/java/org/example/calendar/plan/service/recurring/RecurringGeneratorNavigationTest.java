@@ -0,0 +1,80 @@
+package org.example.calendar.plan.service.recurring;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static java.time.DayOfWeek.FRIDAY;
+import static java.time.DayOfWeek.MONDAY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.calendar.plan.service.recurring.RecurrenceRuleFixture.monthlyOnWeekday;
+import static org.example.calendar.plan.service.recurring.RecurrenceRuleFixture.weekly;
+import static org.example.calendar.plan.service.recurring.RecurrenceRuleFixture.yearly;
+import static org.example.calendar.plan.service.recurring.RecurringGenerator.NO_OCCURRENCE;
+
+/**
+ * 기준 날짜 다음/이전 발생일 계산 검증 (nextOccurrenceAfter, previousOccurrenceBefore)
+ *
+ * <p>반복 시작 전/종료 후 기준 날짜, 기준 날짜 자신의 제외, 예외 날짜 건너뛰기,
+ * 발생일이 없을 때 {@link RecurringGenerator#NO_OCCURRENCE} 반환을 확인합니다.</p>
+ */
+class RecurringGeneratorNavigationTest {
+
+    private final WeeklyRecurringGenerator weeklyGenerator = new WeeklyRecurringGenerator(null, null);
+    private final MonthlyRecurringGenerator monthlyGenerator = new MonthlyRecurringGenerator(null, null);
+    private final YearlyRecurringGenerator yearlyGenerator = new YearlyRecurringGenerator(null, null);
+
+    // 격주 월요일: 9/1, 9/15, (9/29 예외), 10/13 종료
+    private final RecurrenceRule biweekly = weekly(LocalDate.of(2025, 9, 1), LocalDate.of(2025, 10, 13), 2,
+            Set.of(MONDAY), LocalDate.of(2025, 9, 29));
+
+    @Test
+    void nextOccurrenceAfter_weeklyBoundaries() {
+        assertThat(next(weeklyGenerator, biweekly, LocalDate.of(2025, 8, 1))).isEqualTo(LocalDate.of(2025, 9, 1));
+        assertThat(next(weeklyGenerator, biweekly, LocalDate.of(2025, 9, 1))).isEqualTo(LocalDate.of(2025, 9, 15));
+        assertThat(next(weeklyGenerator, biweekly, LocalDate.of(2025, 9, 15))).isEqualTo(LocalDate.of(2025, 10, 13));
+        assertThat(weeklyGenerator.nextOccurrenceAfter(biweekly, LocalDate.of(2025, 10, 13).toEpochDay()))
+                .isEqualTo(NO_OCCURRENCE);
+    }
+
+    @Test
+    void previousOccurrenceBefore_weeklyBoundaries() {
+        assertThat(weeklyGenerator.previousOccurrenceBefore(biweekly, LocalDate.of(2025, 9, 1).toEpochDay()))
+                .isEqualTo(NO_OCCURRENCE);
+        assertThat(previous(weeklyGenerator, biweekly, LocalDate.of(2025, 9, 16))).isEqualTo(LocalDate.of(2025, 9, 15));
+        assertThat(previous(weeklyGenerator, biweekly, LocalDate.of(2025, 10, 13))).isEqualTo(LocalDate.of(2025, 9, 15));
+        assertThat(previous(weeklyGenerator, biweekly, LocalDate.of(2026, 1, 1))).isEqualTo(LocalDate.of(2025, 10, 13));
+    }
+
+    @Test
+    void nextAndPrevious_monthlyLastWeekdayEveryOtherMonth() {
+        // 격월 마지막 금요일: 2025-01-31, 03-28, 05-30
+        RecurrenceRule rule = monthlyOnWeekday(LocalDate.of(2025, 1, 31), null, 2, Set.of(-1), Set.of(FRIDAY));
+
+        assertThat(next(monthlyGenerator, rule, LocalDate.of(2025, 2, 1))).isEqualTo(LocalDate.of(2025, 3, 28));
+        assertThat(next(monthlyGenerator, rule, LocalDate.of(2025, 3, 28))).isEqualTo(LocalDate.of(2025, 5, 30));
+        assertThat(previous(monthlyGenerator, rule, LocalDate.of(2025, 5, 1))).isEqualTo(LocalDate.of(2025, 3, 28));
+        assertThat(monthlyGenerator.previousOccurrenceBefore(rule, LocalDate.of(2025, 1, 31).toEpochDay()))
+                .isEqualTo(NO_OCCURRENCE);
+    }
+
+    @Test
+    void nextAndPrevious_yearlyFeb29UntilEndDate() {
+        RecurrenceRule rule = yearly(LocalDate.of(2024, 2, 29), LocalDate.of(2028, 2, 29), 1, 2, 29);
+
+        assertThat(next(yearlyGenerator, rule, LocalDate.of(2024, 3, 1))).isEqualTo(LocalDate.of(2025, 2, 28));
+        assertThat(previous(yearlyGenerator, rule, LocalDate.of(2030, 1, 1))).isEqualTo(LocalDate.of(2028, 2, 29));
+        assertThat(previous(yearlyGenerator, rule, LocalDate.of(2028, 2, 29))).isEqualTo(LocalDate.of(2027, 2, 28));
+        assertThat(yearlyGenerator.nextOccurrenceAfter(rule, LocalDate.of(2028, 2, 29).toEpochDay()))
+                .isEqualTo(NO_OCCURRENCE);
+    }
+
+    private static LocalDate next(RecurringGenerator generator, RecurrenceRule rule, LocalDate after) {
+        return LocalDate.ofEpochDay(generator.nextOccurrenceAfter(rule, after.toEpochDay()));
+    }
+
+    private static LocalDate previous(RecurringGenerator generator, RecurrenceRule rule, LocalDate before) {
+        return LocalDate.ofEpochDay(generator.previousOccurrenceBefore(rule, before.toEpochDay()));
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.calendar.plan.service.recurring;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+
+import static java.time.DayOfWeek.FRIDAY;
+import static java.time.DayOfWeek.MONDAY;
+import static java.time.DayOfWeek.THURSDAY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.calendar.plan.service.recurring.RecurrenceRuleFixture.toDates;
+import static org.example.calendar.plan.service.recurring.RecurrenceRuleFixture.weekly;
+
+/**
+ * 주간 반복 발생일 계산 검증
+ *
+ * <p>오래전에 시작한 N주 간격 반복이 조회 기간으로 건너뛴 뒤에도 시작 주에 맞춰 정렬되는지,
+ * 예외 날짜와 반복 종료일이 적용되는지, 발생일 반복자가 필요한 만큼만 계산하는지 확인합니다.</p>
+ */
+class WeeklyRecurringGeneratorTest {
+
+    private final WeeklyRecurringGenerator generator = new WeeklyRecurringGenerator(null, null);
+
+    @Test
+    void occurrences_skipsAheadAlignedToStartWeek() {
+        // 2020-01-06(월) 시작, 3주마다 월/목 → 2025-09-15 주가 시작 주 + 297주
+        RecurrenceRule rule = weekly(LocalDate.of(2020, 1, 6), null, 3, Set.of(MONDAY, THURSDAY));
+
+        assertThat(toDates(generator.occurrences(rule, LocalDate.of(2025, 9, 1), LocalDate.of(2025, 10, 12))))
+                .containsExactly(
+                        LocalDate.of(2025, 9, 15), LocalDate.of(2025, 9, 18),
+                        LocalDate.of(2025, 10, 6), LocalDate.of(2025, 10, 9));
+    }
+
+    @Test
+    void occurrences_everyOtherWeekFromStartWeek() {
+        RecurrenceRule rule = weekly(LocalDate.of(2025, 9, 1), null, 2, Set.of(MONDAY, FRIDAY));
+
+        assertThat(toDates(generator.occurrences(rule, LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 30))))
+                .containsExactly(
+                        LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 5),
+                        LocalDate.of(2025, 9, 15), LocalDate.of(2025, 9, 19),
+                        LocalDate.of(2025, 9, 29));
+    }
+
+    @Test
+    void occurrences_skipsExceptionDatesAndStopsAtEndDate() {
+        RecurrenceRule rule = weekly(LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 19), 1,
+                Set.of(MONDAY, FRIDAY), LocalDate.of(2025, 9, 12));
+
+        assertThat(toDates(generator.occurrences(rule, LocalDate.of(2025, 8, 1), LocalDate.of(2025, 12, 31))))
+                .containsExactly(
+                        LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 5),
+                        LocalDate.of(2025, 9, 8), LocalDate.of(2025, 9, 15),
+                        LocalDate.of(2025, 9, 19));
+    }
+
+    @Test
+    void occurrences_isLazyForOpenEndedRange() {
+        RecurrenceRule rule = weekly(LocalDate.of(2025, 9, 1), null, 1, Set.of(MONDAY));
+
+        // 종료일 없는 반복을 LocalDate.MAX까지 조회해도 꺼낸 만큼만 계산
+        PrimitiveIterator.OfLong occurrences = generator.occurrences(rule, LocalDate.of(2025, 9, 2), LocalDate.MAX);
+
+        assertThat(LocalDate.ofEpochDay(occurrences.nextLong())).isEqualTo(LocalDate.of(2025, 9, 8));
+        assertThat(LocalDate.ofEpochDay(occurrences.nextLong())).isEqualTo(LocalDate.of(2025, 9, 15));
+        assertThat(occurrences.hasNext()).isTrue();
+    }
+
+    @Test
+    void occurrences_emptyOutsideSeries() {
+        RecurrenceRule rule = weekly(LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 30), 1, Set.of(MONDAY));
+
+        assertThat(toDates(generator.occurrences(rule, LocalDate.of(2025, 8, 1), LocalDate.of(2025, 8, 31))))
+                .isEmpty();
+        assertThat(toDates(generator.occurrences(rule, LocalDate.of(2025, 10, 1), LocalDate.of(2025, 12, 31))))
+                .isEmpty();
+        assertThat(toDates(generator.occurrences(rule, LocalDate.of(2025, 9, 20), LocalDate.of(2025, 9, 10))))
+                .isEmpty();
+    }
+}
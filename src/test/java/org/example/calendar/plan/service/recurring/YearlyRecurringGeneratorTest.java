@@ -0,0 +1,60 @@
+package org.example.calendar.plan.service.recurring;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.calendar.plan.service.recurring.RecurrenceRuleFixture.toDates;
+import static org.example.calendar.plan.service.recurring.RecurrenceRuleFixture.yearly;
+
+/**
+ * 연간 반복 발생일 계산 검증
+ *
+ * <p>2월 29일 반복이 평년에는 2월 28일로 조정되는지, N년 간격이 시작 연도에 맞춰 정렬되는지,
+ * 예외 날짜와 반복 종료일이 적용되는지 확인합니다.</p>
+ */
+class YearlyRecurringGeneratorTest {
+
+    private final YearlyRecurringGenerator generator = new YearlyRecurringGenerator(null, null);
+
+    @Test
+    void occurrences_feb29FallsBackToFeb28InCommonYears() {
+        RecurrenceRule rule = yearly(LocalDate.of(2024, 2, 29), null, 1, 2, 29);
+
+        assertThat(toDates(generator.occurrences(rule, LocalDate.of(2024, 1, 1), LocalDate.of(2028, 12, 31))))
+                .containsExactly(
+                        LocalDate.of(2024, 2, 29), LocalDate.of(2025, 2, 28), LocalDate.of(2026, 2, 28),
+                        LocalDate.of(2027, 2, 28), LocalDate.of(2028, 2, 29));
+    }
+
+    @Test
+    void occurrences_skipsAheadAlignedToStartYear() {
+        // 2001년 시작, 3년마다 → 2025, 2028년
+        RecurrenceRule rule = yearly(LocalDate.of(2001, 7, 4), null, 3, 7, 4);
+
+        assertThat(toDates(generator.occurrences(rule, LocalDate.of(2024, 1, 1), LocalDate.of(2030, 12, 31))))
+                .containsExactly(LocalDate.of(2025, 7, 4), LocalDate.of(2028, 7, 4));
+    }
+
+    @Test
+    void occurrences_skipsExceptionDatesAndStopsAtEndDate() {
+        RecurrenceRule rule = yearly(LocalDate.of(2020, 12, 25), LocalDate.of(2024, 12, 25), 1, 12, 25,
+                LocalDate.of(2022, 12, 25));
+
+        assertThat(toDates(generator.occurrences(rule, LocalDate.of(2020, 1, 1), LocalDate.of(2030, 12, 31))))
+                .containsExactly(
+                        LocalDate.of(2020, 12, 25), LocalDate.of(2021, 12, 25),
+                        LocalDate.of(2023, 12, 25), LocalDate.of(2024, 12, 25));
+    }
+
+    @Test
+    void occurrences_rangeBetweenYearlyDatesIsEmpty() {
+        RecurrenceRule rule = yearly(LocalDate.of(2020, 7, 4), null, 1, 7, 4);
+
+        assertThat(toDates(generator.occurrences(rule, LocalDate.of(2025, 7, 5), LocalDate.of(2026, 7, 3))))
+                .isEmpty();
+        assertThat(toDates(generator.occurrences(rule, LocalDate.of(2025, 7, 4), LocalDate.of(2025, 7, 4))))
+                .containsExactly(LocalDate.of(2025, 7, 4));
+    }
+}